@@ -0,0 +1,51 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.brokers;
+
+import org.cloudsimplus.cloudlets.Cloudlet;
+
+import java.io.Serial;
+import java.util.ArrayList;
+
+/**
+ * A list of {@link Cloudlet}s used internally by {@link DatacenterBrokerAbstract}
+ * which counts the structural modifications performed on it,
+ * so that indexes built from the list can know when they are outdated.
+ * That is required since the list is exposed and may be changed outside the broker.
+ *
+ * @since CloudSim Plus 8.5.0
+ * @see CloudletWaitingIndex
+ */
+final class CloudletList extends ArrayList<Cloudlet> {
+    @Serial
+    private static final long serialVersionUID = 6482190547723981466L;
+
+    /**
+     * {@return the number of times the list was structurally modified}
+     * (such as adding or removing Cloudlets).
+     */
+    int getModifications() {
+        return modCount;
+    }
+}
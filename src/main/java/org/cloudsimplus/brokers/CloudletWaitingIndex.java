@@ -0,0 +1,174 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.brokers;
+
+import org.cloudsimplus.cloudlets.Cloudlet;
+import org.cloudsimplus.vms.Vm;
+
+import java.util.*;
+
+/**
+ * An index of the Cloudlets into the waiting list of a {@link DatacenterBrokerAbstract},
+ * which separates Cloudlets that have to be tried to be mapped to some VM at the next
+ * creation request from those waiting a specific VM to be created.
+ * That way, Cloudlets waiting for a VM are just tried again when such a VM is created,
+ * instead of being checked every time the broker tries to create waiting Cloudlets.
+ *
+ * <p>Cloudlets are always returned in the order they were added to the waiting list.
+ * The index is lazily rebuilt when the list is structurally modified outside the index.
+ * In such a case, all waiting Cloudlets are tried again.</p>
+ *
+ * @since CloudSim Plus 8.5.0
+ */
+final class CloudletWaitingIndex {
+    private final CloudletList cloudlets;
+
+    /** The number of modifications in the {@link #cloudlets} list when the index was last updated. */
+    private int modifications;
+
+    /** The order each Cloudlet was added to the waiting list. */
+    private final Map<Cloudlet, Long> orders;
+
+    /** The order for the next Cloudlet added. */
+    private long nextOrder;
+
+    /** The Cloudlets to be tried to be mapped to some VM at the next creation request, by their order. */
+    private final NavigableMap<Long, Cloudlet> cloudletsToMap;
+
+    /** Maps a VM not created yet to the Cloudlets waiting for it. */
+    private final Map<Vm, List<Cloudlet>> cloudletsByVm;
+
+    /**
+     * Creates an index for a Cloudlet waiting list.
+     * @param cloudlets the list to index
+     */
+    CloudletWaitingIndex(final CloudletList cloudlets) {
+        this.cloudlets = cloudlets;
+        this.modifications = -1;
+        this.orders = new IdentityHashMap<>();
+        this.cloudletsToMap = new TreeMap<>();
+        this.cloudletsByVm = new HashMap<>();
+    }
+
+    /**
+     * Adds Cloudlets to the end of the waiting list,
+     * to be tried to be mapped to some VM at the next creation request.
+     * @param list the Cloudlets to add
+     */
+    void addAll(final List<? extends Cloudlet> list) {
+        final boolean outdated = isOutdated();
+        cloudlets.addAll(list);
+        if (outdated) {
+            //The index will be entirely rebuilt when used
+            return;
+        }
+
+        list.forEach(this::addCloudletToMap);
+        modifications = cloudlets.getModifications();
+    }
+
+    /**
+     * Removes Cloudlets from the index and the waiting list.
+     * @param list the Cloudlets to remove
+     */
+    void removeAll(final Collection<? extends Cloudlet> list) {
+        if (list.isEmpty()) {
+            return;
+        }
+
+        final boolean outdated = isOutdated();
+        final Set<Cloudlet> removed = Collections.newSetFromMap(new IdentityHashMap<>(list.size()));
+        removed.addAll(list);
+        final int previousSize = cloudlets.size();
+        cloudlets.removeIf(removed::contains);
+        //If some Cloudlet was added multiple times, the index will be entirely rebuilt when used
+        if (outdated || previousSize - cloudlets.size() != removed.size()) {
+            return;
+        }
+
+        list.forEach(orders::remove);
+        modifications = cloudlets.getModifications();
+    }
+
+    /**
+     * Gets and removes the Cloudlets to be tried to be mapped to some VM,
+     * including those waiting for a VM that is now created.
+     * Each returned Cloudlet that isn't removed from the waiting list must be put back into the index
+     * by calling either {@link #waitForAnyVm(Cloudlet)} or {@link #waitForVm(Cloudlet, Vm)}.
+     *
+     * @return the Cloudlets to be tried, in the order they were added to the waiting list
+     */
+    List<Cloudlet> pollCloudletsToMap() {
+        rebuildIfOutdated();
+        for (final var iterator = cloudletsByVm.entrySet().iterator(); iterator.hasNext(); ) {
+            final var entry = iterator.next();
+            if (entry.getKey().isCreated()) {
+                entry.getValue().forEach(this::waitForAnyVm);
+                iterator.remove();
+            }
+        }
+
+        final var list = new ArrayList<>(cloudletsToMap.values());
+        cloudletsToMap.clear();
+        return list;
+    }
+
+    /**
+     * Puts back a Cloudlet into the index, to be tried again at the next creation request.
+     * @param cloudlet the waiting Cloudlet
+     */
+    void waitForAnyVm(final Cloudlet cloudlet) {
+        cloudletsToMap.put(orders.get(cloudlet), cloudlet);
+    }
+
+    /**
+     * Puts back a Cloudlet into the index, to be just tried again after a given VM is created.
+     * @param cloudlet the waiting Cloudlet
+     * @param vm the VM not created yet, which the Cloudlet is waiting for
+     */
+    void waitForVm(final Cloudlet cloudlet, final Vm vm) {
+        cloudletsByVm.computeIfAbsent(vm, key -> new ArrayList<>()).add(cloudlet);
+    }
+
+    private void addCloudletToMap(final Cloudlet cloudlet) {
+        orders.put(cloudlet, nextOrder);
+        cloudletsToMap.put(nextOrder++, cloudlet);
+    }
+
+    private boolean isOutdated() {
+        return modifications != cloudlets.getModifications();
+    }
+
+    private void rebuildIfOutdated() {
+        if (!isOutdated()) {
+            return;
+        }
+
+        modifications = cloudlets.getModifications();
+        orders.clear();
+        cloudletsToMap.clear();
+        cloudletsByVm.clear();
+        cloudlets.forEach(this::addCloudletToMap);
+    }
+}
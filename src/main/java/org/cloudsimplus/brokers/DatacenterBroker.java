@@ -20,6 +20,7 @@ import org.slf4j.LoggerFactory;
 import java.util.Comparator;
 import java.util.List;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 /**
@@ -84,6 +85,40 @@ public interface DatacenterBroker extends SimEntity {
      */
     <T extends Cloudlet> List<T> getCloudletFinishedList();
 
+    /**
+     * {@return the number of Cloudlets that have finished executing and were returned to the broker}
+     * It includes Cloudlets that aren't in the {@link #getCloudletFinishedList()}
+     * because the {@link #enableCloudletFinishedStreaming(Consumer) finished Cloudlets streaming} is enabled.
+     */
+    long getCloudletFinishedCount();
+
+    /**
+     * Checks if finished Cloudlets are handed to a sink and released from the broker
+     * and {@link org.cloudsimplus.schedulers.cloudlet.CloudletScheduler} lists.
+     * @return true if the finished Cloudlets streaming is enabled, false otherwise
+     * @see #enableCloudletFinishedStreaming(Consumer)
+     */
+    boolean isCloudletFinishedStreamingEnabled();
+
+    /**
+     * Enables the streaming of finished Cloudlets (which is disabled by default),
+     * for simulations with so many Cloudlets that keeping all the finished ones
+     * in memory is not possible.
+     * Every finished Cloudlet returned to the broker is given to a sink
+     * (such as a {@link Consumer} that writes the Cloudlet results to a file)
+     * and is then released from the broker and the
+     * {@link org.cloudsimplus.schedulers.cloudlet.CloudletScheduler} lists.
+     *
+     * <p>This way, the {@link #getCloudletFinishedList()} is always empty,
+     * and the {@link #getCloudletSubmittedList()} and {@link #getCloudletCreatedList()}
+     * just keep the Cloudlets that haven't finished yet (finished ones are removed in batches).
+     * The {@link #getCloudletFinishedCount()} can be used to get the number of finished Cloudlets.</p>
+     *
+     * @param sink the {@link Consumer} to receive every finished Cloudlet
+     * @return
+     */
+    DatacenterBroker enableCloudletFinishedStreaming(Consumer<Cloudlet> sink);
+
     /**
      * Gets a VM from the waiting list.
      * @param index the index of the VM to get
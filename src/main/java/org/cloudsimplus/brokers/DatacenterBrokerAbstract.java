@@ -31,11 +31,14 @@ import org.cloudsimplus.vms.Vm;
 import org.cloudsimplus.vms.VmAbstract;
 import org.cloudsimplus.vms.VmGroup;
 import org.cloudsimplus.vms.VmSimple;
+import org.slf4j.event.Level;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 /**
@@ -60,6 +63,16 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
      */
     private static final Function<Vm, Double> DEF_VM_DESTRUCTION_DELAY_FUNC = vm -> DEF_VM_DESTRUCTION_DELAY;
 
+    /**
+     * Groups Cloudlets to be sent to the same Datacenter with the same delay,
+     * so that they are submitted using a single event.
+     * @param dc the Datacenter to send the Cloudlets to
+     * @param delay the delay to send the Cloudlets
+     * @see #createWaitingCloudlets()
+     */
+    private record CloudletSubmission(Datacenter dc, double delay) {
+    }
+
     private boolean selectClosestDatacenter;
 
     private boolean batchVmCreation;
@@ -78,11 +91,19 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
 
     private final List<Vm> vmWaitingList;
 
-    private final List<Vm> vmExecList;
+    private final VmList vmExecList;
+
+    /** @see #requestVmDestructionAfterAllCloudletsFinished() */
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private final VmIdleIndex vmIdleIndex;
+
+    private final VmList vmCreatedList;
 
-    private final List<Vm> vmCreatedList;
+    private final CloudletList cloudletWaitingList;
 
-    private final List<Cloudlet> cloudletWaitingList;
+    /** @see #createWaitingCloudlets() */
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private final CloudletWaitingIndex cloudletWaitingIndex;
 
     private final List<Cloudlet> cloudletSubmittedList;
 
@@ -90,6 +111,25 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
 
     private final List<Cloudlet> cloudletCreatedList;
 
+    /** @see #getCloudletFinishedCount() */
+    @Setter(AccessLevel.NONE)
+    private long cloudletFinishedCount;
+
+    /**
+     * The sink to receive finished Cloudlets,
+     * or null if the finished Cloudlets streaming is disabled.
+     * @see #enableCloudletFinishedStreaming(Consumer)
+     */
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private Consumer<Cloudlet> cloudletFinishedSink;
+
+    /**
+     * The number of finished Cloudlets given to the {@link #cloudletFinishedSink}
+     * that weren't removed from the submitted and created lists yet.
+     */
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private long streamedCloudletsToRelease;
+
     @NonNull
     private Datacenter lastSelectedDc;
 
@@ -100,17 +140,26 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
     private Vm lastSelectedVm;
 
     /** @see #setDatacenterMapper(BiFunction) */
-    @NonNull
+    @Setter(AccessLevel.NONE)
     private BiFunction<Datacenter, Vm, Datacenter> datacenterMapper;
 
     /** @see #setVmMapper(Function) */
-    @NonNull
-    @Getter(AccessLevel.NONE)
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
     private Function<Cloudlet, Vm> vmMapper;
 
     @Getter(AccessLevel.NONE)
     private Function<Vm, Double> vmDestructionDelayFunction;
 
+    /**
+     * Indicates if a function given by the user was set as the {@link #setDatacenterMapper(BiFunction) Datacenter mapper},
+     * the {@link #setVmMapper(Function) VM mapper} or the
+     * {@link #setVmDestructionDelayFunction(Function) VM destruction delay function}.
+     * Such functions may change the state shared among entities.
+     * @see #isParallelProcessingSupported(List)
+     */
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private boolean userFunctionSet;
+
     /**
      * {@inheritDoc}
      * <p>If null is given, VMs won't be sorted and follow submission order.</p>
@@ -175,24 +224,26 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         this.vmCreation = new VmCreation();
         this.vmFailedList = new ArrayList<>();
         this.vmWaitingList = new ArrayList<>();
-        this.vmExecList = new ArrayList<>();
-        this.vmCreatedList = new ArrayList<>();
-        this.cloudletWaitingList = new ArrayList<>();
+        this.vmExecList = new VmList();
+        this.vmIdleIndex = new VmIdleIndex(vmExecList);
+        this.vmCreatedList = new VmList();
+        this.cloudletWaitingList = new CloudletList();
+        this.cloudletWaitingIndex = new CloudletWaitingIndex(cloudletWaitingList);
         this.cloudletFinishedList = new ArrayList<>();
         this.cloudletCreatedList = new ArrayList<>();
         this.cloudletSubmittedList = new ArrayList<>();
         setDatacenterList(new ArrayList<>());
 
-        setDatacenterMapper(this::defaultDatacenterMapper);
-        setVmMapper(this::defaultVmMapper);
-        vmDestructionDelayFunction = DEF_VM_DESTRUCTION_DELAY_FUNC;
+        this.datacenterMapper = this::defaultDatacenterMapper;
+        this.vmMapper = this::defaultVmMapper;
+        this.vmDestructionDelayFunction = DEF_VM_DESTRUCTION_DELAY_FUNC;
     }
 
     @Override
     public final DatacenterBroker setSelectClosestDatacenter(final boolean select) {
         this.selectClosestDatacenter = select;
         if(select){
-            setDatacenterMapper(this::closestDatacenterMapper);
+            this.datacenterMapper = this::closestDatacenterMapper;
         }
 
         return this;
@@ -344,7 +395,7 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         lastSubmittedCloudlet = setIdForEntitiesWithoutOne(list, lastSubmittedCloudlet);
         cloudletSubmittedList.addAll(list);
         setSimulationForCloudletUtilizationModels(list);
-        cloudletWaitingList.addAll(list);
+        cloudletWaitingIndex.addAll(list);
         wereThereWaitingCloudlets = true;
 
         if (!isStarted()) {
@@ -436,6 +487,51 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         LOGGER.trace("{}: {}: Unknown event {} received.", getSimulation().clockStr(), this, evt.getTag());
     }
 
+    /**
+     * {@inheritDoc}
+     * A broker can process events in parallel with other brokers, when they just change the state of
+     * the broker itself and of its own Cloudlets and VMs, or send events.
+     * That is the case of Cloudlet creation/return and VM creation events,
+     * which are the most frequent ones.
+     * Events that make the broker directly change the processing of Cloudlets inside Hosts
+     * (such as {@link CloudSimTag#CLOUDLET_PAUSE}) or run arbitrary code
+     * (such as {@link CloudSimTag#CLOUDLET_UPDATE_ATTRIBUTES}) are processed sequentially.
+     *
+     * <p>Parallel processing isn't supported either when there are listeners
+     * notified by the broker (such as {@link #addOnVmsCreatedListener(EventListener) onVmsCreated}
+     * or VM creation listeners), a {@link #enableCloudletFinishedStreaming(Consumer) finished Cloudlets sink} is set,
+     * or the user sets a function such as the {@link #setVmMapper(Function) VM mapper},
+     * the {@link #setDatacenterMapper(BiFunction) Datacenter mapper} or the
+     * {@link #setVmDestructionDelayFunction(Function) VM destruction delay function},
+     * since they may run arbitrary code that changes the state shared among entities.
+     * Actions that change the state shared among entities (such as requesting a VM shutdown)
+     * and log messages are deferred by the {@link Simulation}, so that they run in the same
+     * order as when entities process events sequentially.</p>
+     */
+    @Override
+    protected boolean isParallelProcessingSupported(final List<SimEvent> events) {
+        if (userFunctionSet || !onVmsCreatedListeners.isEmpty() || cloudletFinishedSink != null) {
+            return false;
+        }
+
+        for (final SimEvent evt : events) {
+            final boolean supported = switch (evt.getTag()) {
+                case CloudSimTag.CLOUDLET_CREATION, CloudSimTag.CLOUDLET_RETURN,
+                     CloudSimTag.VM_CREATE_RETRY, CloudSimTag.VM_VERTICAL_SCALING,
+                     CloudSimTag.DC_LIST_REQUEST, CloudSimTag.ENTITY_SHUTDOWN, CloudSimTag.SIMULATION_END -> true;
+                case CloudSimTag.VM_CREATE_ACK -> VmAbstract.getList(evt.getData()).stream()
+                    .allMatch(vm -> vm instanceof VmAbstract vmAbstract && !vmAbstract.hasCreationListeners());
+                default -> false;
+            };
+
+            if (!supported) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     private boolean processCloudletEvents(final SimEvent evt) {
         return switch (evt.getTag()) {
             case CloudSimTag.CLOUDLET_CREATION -> createWaitingCloudlets();
@@ -576,7 +672,22 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
 
     private void logCloudletStatusChange(final Cloudlet cloudlet, final String status) {
         final String msg = cloudlet.getJobId() > 0 ? "(job %d) ".formatted(cloudlet.getJobId()) : "";
-        LOGGER.info("{}: {}: Request to {} {} {}received.", getSimulation().clockStr(), getName(), status, cloudlet, msg);
+        log(Level.INFO, "{}: {}: Request to {} {} {}received.", getSimulation().clockStr(), getName(), status, cloudlet, msg);
+    }
+
+    /**
+     * Logs a message, deferring it while the broker processes events in parallel with other entities,
+     * so that messages are logged in the same order as when entities process events sequentially.
+     * The message arguments are evaluated right away, since the state of the broker may change
+     * before the message is actually logged.
+     *
+     * @param level the level to log the message
+     * @param format the message format
+     * @param args the message arguments
+     * @see Simulation#runOrDefer(Runnable)
+     */
+    private void log(final Level level, final String format, final Object... args) {
+        getSimulation().runOrDefer(() -> LOGGER.atLevel(level).log(format, args));
     }
 
     private boolean processCloudletFail(final SimEvent evt){
@@ -605,7 +716,7 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
     private void processDatacenterListRequest(final SimEvent evt) {
         if(evt.getData() instanceof List dcList) {
             setDatacenterList(dcList);
-            LOGGER.info("{}: {}: List of {} datacenters(s) received.", getSimulation().clockStr(), getName(), this.datacenterList.size());
+            log(Level.INFO, "{}: {}: List of {} datacenters(s) received.", getSimulation().clockStr(), getName(), this.datacenterList.size());
             requestDatacenterToCreateWaitingVms(false, false);
             return;
         }
@@ -649,7 +760,7 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
                 if (!vmCreation.isRetryFailedVms()) {
                     vmWaitingList.remove(vm);
                     vmFailedList.add(vm);
-                    LOGGER.warn(
+                    log(Level.WARN,
                         "{}: {}: {} has been moved to the failed list because creation retry is not enabled.",
                         getSimulation().clockStr(), getName(), vm);
                 }
@@ -716,7 +827,7 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         final var msg =
             "{}: {}: {} of the requested {} VMs couldn't be created because suitable Hosts weren't found in any available Datacenter."
             + (vmExecList.isEmpty() && !vmCreation.isRetryFailedVms() ? " Shutting broker down..." : "");
-        LOGGER.error(msg, getSimulation().clockStr(), getName(), vmWaitingList.size(), getVmsNumber());
+        log(Level.ERROR, msg, getSimulation().clockStr(), getName(), vmWaitingList.size(), getVmsNumber());
 
         /* If it gets here, it means that all datacenters were already queried and not all VMs could be created. */
         if (!vmWaitingList.isEmpty()) {
@@ -838,11 +949,11 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         final var vm = VmAbstract.getFirstVm(vmOrList);
         final var vmMsg = VmAbstract.isVmList(vmOrList) ? "%d Vms in batch".formatted(VmAbstract.getVmCount(vmOrList)) : vm;
         if(vm.getSubmissionDelay() == 0)
-            LOGGER.info(
+            log(Level.INFO,
                 "{}: {}: Trying to create {} inside {}{}",
                 getSimulation().clockStr(), getName(), vmMsg, dc, fallbackMsg);
         else
-            LOGGER.info(
+            log(Level.INFO,
                 "{}: {}: Creation of {} inside {}{} will be requested in {} seconds",
                 getSimulation().clockStr(), getName(), vmMsg, dc,
                 fallbackMsg, vm.getSubmissionDelay());
@@ -878,6 +989,7 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
 
         vmWaitingList.remove(vm);
         vmExecList.add(vm);
+        vmIdleIndex.update(vm, vmDestructionDelayFunction.apply(vm));
         vmCreatedList.add(vm);
         notifyOnVmsCreatedListeners();
     }
@@ -889,10 +1001,15 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
      */
     private boolean processCloudletReturn(final SimEvent evt) {
         final var cloudlet = (Cloudlet) evt.getData();
-        cloudletFinishedList.add(cloudlet);
+        cloudletFinishedCount++;
+        if (cloudletFinishedSink == null) {
+            cloudletFinishedList.add(cloudlet);
+        } else streamFinishedCloudlet(cloudlet);
+
         ((VmSimple) cloudlet.getVm()).addExpectedFreePesNumber(cloudlet.getPesNumber());
+        vmExpectedFreePesChanged(cloudlet.getVm());
         final String lifeTime = cloudlet.getLifeTime() == Double.MAX_VALUE ? "" : " (after defined lifetime expired)";
-        LOGGER.info(
+        log(Level.INFO,
             "{}: {}: {} finished{} in {} and returned to broker.",
             getSimulation().clockStr(), getName(), cloudlet, lifeTime, cloudlet.getVm());
 
@@ -905,13 +1022,54 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         return true;
     }
 
+    /**
+     * Gives a finished Cloudlet to the {@link #cloudletFinishedSink},
+     * removing finished Cloudlets from the submitted and created lists
+     * when they are at least half of the created list.
+     * That way, such lists are scanned just after a number of Cloudlets proportional
+     * to their size has finished, instead of searching every finished Cloudlet into them.
+     *
+     * @param cloudlet the finished Cloudlet
+     * @see #enableCloudletFinishedStreaming(Consumer)
+     */
+    private void streamFinishedCloudlet(final Cloudlet cloudlet) {
+        cloudletFinishedSink.accept(cloudlet);
+        if (++streamedCloudletsToRelease * 2 < cloudletCreatedList.size()) {
+            return;
+        }
+
+        cloudletSubmittedList.removeIf(Cloudlet::isReturnedToBroker);
+        cloudletCreatedList.removeIf(Cloudlet::isReturnedToBroker);
+        streamedCloudletsToRelease = 0;
+    }
+
+    @Override
+    public boolean isCloudletFinishedStreamingEnabled() {
+        return cloudletFinishedSink != null;
+    }
+
+    @Override
+    public DatacenterBroker enableCloudletFinishedStreaming(@NonNull final Consumer<Cloudlet> sink) {
+        this.cloudletFinishedSink = sink;
+        return this;
+    }
+
     /**
      * Request the destruction of VMs after all running cloudlets have finished and returned to the broker.
      * If there is no waiting Cloudlet, request all VMs to be destroyed.
+     *
+     * <p>While the broker is running, just the VMs that may have to be destroyed
+     * at the current time are checked, which are got from the {@link #vmIdleIndex}.
+     * Other VMs are checked when their processing is updated.</p>
      */
     private void requestVmDestructionAfterAllCloudletsFinished() {
-        for (int i = vmExecList.size() - 1; i >= 0; i--) {
-            requestIdleVmDestruction(vmExecList.get(i));
+        if (isFinished()) {
+            for (int i = vmExecList.size() - 1; i >= 0; i--) {
+                requestIdleVmDestruction(vmExecList.get(i));
+            }
+        } else {
+            final double time = getSimulation().clock() + getSimulation().getMinTimeBetweenEvents();
+            vmIdleIndex.pollUntil(time).forEach(this::requestIdleVmDestruction);
         }
 
         if (cloudletWaitingList.isEmpty()) {
@@ -932,9 +1090,10 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
 
     @Override
     public DatacenterBroker requestIdleVmDestruction(final Vm vm) {
+        vmIdleIndex.update(vm, vmDestructionDelayFunction.apply(vm));
         if (vm.isCreated()) {
             if(isFinished() || vm.isLifeTimeReached() || isVmIdleEnough(vm)) {
-                vm.shutdown();
+                getSimulation().runOrDefer(vm::shutdown);
             }
 
             if(isVmIdlenessVerificationRequired((VmSimple)vm)) {
@@ -1023,16 +1182,20 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         schedule(CloudSimTag.CLOUDLET_CREATION);
     }
 
+    /**
+     * Tries to send waiting Cloudlets to the VMs they are mapped to.
+     * Cloudlets bound to a VM not created yet are put aside
+     * and just tried again after such a VM is created,
+     * so that they aren't checked every time this method is called.
+     * @return true if some waiting Cloudlet was sent to a VM, false otherwise
+     */
     private boolean createWaitingCloudlets() {
-        /* Uses Iterator to remove Cloudlets from the waiting list
-         * while iterating over that List. This avoids the collection of successfully
-         * created Cloudlets into a separate list.
-         * Cloudlets in such new list were removed just after the loop,
-         * degrading performance in large scale simulations. */
-        int createdCloudlets = 0;
-        for (final var iterator = cloudletWaitingList.iterator(); iterator.hasNext(); ) {
-            final CloudletSimple cloudlet = (CloudletSimple)iterator.next();
+        final var createdCloudletList = new ArrayList<Cloudlet>();
+        final var submissions = new LinkedHashMap<CloudletSubmission, List<Cloudlet>>();
+        for (final Cloudlet waitingCloudlet : cloudletWaitingIndex.pollCloudletsToMap()) {
+            final CloudletSimple cloudlet = (CloudletSimple)waitingCloudlet;
             if (!cloudlet.getLastTriedDatacenter().equals(Datacenter.NULL)) {
+                cloudletWaitingIndex.waitForAnyVm(cloudlet);
                 continue;
             }
 
@@ -1040,24 +1203,66 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
             lastSelectedVm = vmMapper.apply(cloudlet);
             if (!lastSelectedVm.isCreated()) {
                 logPostponingCloudletExecution(cloudlet);
+                if (cloudlet.isBoundToVm() && lastSelectedVm.equals(cloudlet.getVm())) {
+                    cloudletWaitingIndex.waitForVm(cloudlet, lastSelectedVm);
+                } else cloudletWaitingIndex.waitForAnyVm(cloudlet);
+
                 continue;
             }
 
             ((VmSimple) lastSelectedVm).removeExpectedFreePesNumber(cloudlet.getPesNumber());
+            vmExpectedFreePesChanged(lastSelectedVm);
 
             cloudlet.setVm(lastSelectedVm);
             logCloudletCreationRequest(cloudlet);
             final Datacenter dc = getDatacenter(lastSelectedVm);
             final double totalDelay = cloudlet.getSubmissionDelay() + cloudlet.getVm().getStartupDelay();
-            send(dc, totalDelay, CloudSimTag.CLOUDLET_SUBMIT, cloudlet);
+            submissions.computeIfAbsent(new CloudletSubmission(dc, totalDelay), key -> new ArrayList<>()).add(cloudlet);
             cloudlet.setLastTriedDatacenter(dc);
             cloudletCreatedList.add(cloudlet);
-            iterator.remove();
-            createdCloudlets++;
+            createdCloudletList.add(cloudlet);
+        }
+
+        cloudletWaitingIndex.removeAll(createdCloudletList);
+        submissions.forEach(this::sendCloudletSubmission);
+        allWaitingCloudletsSubmittedToVm(createdCloudletList.size());
+        return !createdCloudletList.isEmpty();
+    }
+
+    /**
+     * Sends a list of Cloudlets to a Datacenter using a single event.
+     * A single Cloudlet is sent with the {@link CloudSimTag#CLOUDLET_SUBMIT} tag,
+     * while multiple ones are sent with the {@link CloudSimTag#CLOUDLET_SUBMIT_LIST} tag.
+     *
+     * @param submission the Datacenter and the delay to send the Cloudlets
+     * @param cloudlets the Cloudlets to send
+     */
+    private void sendCloudletSubmission(final CloudletSubmission submission, final List<Cloudlet> cloudlets) {
+        if (cloudlets.size() == 1) {
+            send(submission.dc(), submission.delay(), CloudSimTag.CLOUDLET_SUBMIT, cloudlets.get(0));
+            return;
         }
 
-        allWaitingCloudletsSubmittedToVm(createdCloudlets);
-        return createdCloudlets > 0;
+        send(submission.dc(), submission.delay(), CloudSimTag.CLOUDLET_SUBMIT_LIST, cloudlets);
+    }
+
+    /**
+     * Notifies that the {@link Vm#getExpectedFreePesNumber() expected free PEs} of a VM
+     * was changed by the broker, when a Cloudlet is submitted to or returned from it.
+     * Brokers that index VMs by such a number must override this method to update the index.
+     *
+     * @param vm the VM whose expected free PEs has changed
+     */
+    protected void vmExpectedFreePesChanged(final Vm vm) {/**/}
+
+    /**
+     * Creates an index of VMs by their {@link Vm#getExpectedFreePesNumber() expected free PEs}
+     * for a list of VMs of this broker.
+     * @param vms the {@link #getVmExecList()} or {@link #getVmCreatedList()}
+     * @return the new index
+     */
+    VmFreePesIndex newVmFreePesIndex(final List<Vm> vms) {
+        return new VmFreePesIndex((VmList) vms);
     }
 
     private void logPostponingCloudletExecution(final Cloudlet cloudlet) {
@@ -1074,7 +1279,7 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
             .formatted(getSimulation().clockStr(), getName(), cloudlet.getId());
 
         if (vm.getSubmissionDelay() <= 0) {
-            LOGGER.warn(msg, vmMsg);
+            log(Level.WARN, msg, vmMsg);
             return;
         }
 
@@ -1082,7 +1287,7 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         final var reason =
             "bind Vm %d was requested to be created with %.2f %s delay"
             .formatted(vm.getId(), vm.getSubmissionDelay(), secs);
-        LOGGER.info(msg, reason);
+        log(Level.INFO, msg, reason);
     }
 
     private void logCloudletCreationRequest(final Cloudlet cloudlet) {
@@ -1096,7 +1301,7 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
 
         final var delayMsg = " in %.2f seconds (%s%s%s)".formatted(totalDelay, submissionStr, connector, startupStr);
 
-        LOGGER.info(
+        log(Level.INFO,
             "{}: {}: Sending Cloudlet {} to {} inside {}{}.",
             getSimulation().clockStr(), getName(), cloudlet.getId(),
             lastSelectedVm, lastSelectedVm.getHost(), delayMsg);
@@ -1112,7 +1317,7 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
 
         //avoid duplicated notifications
         if (wereThereWaitingCloudlets) {
-            LOGGER.info(
+            log(Level.INFO,
                 "{}: {}: All {} waiting Cloudlets submitted to some VM.",
                 getSimulation().clockStr(), getName(), createdCloudlets);
             wereThereWaitingCloudlets = false;
@@ -1124,7 +1329,7 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
     @Override
     public void shutdown() {
         super.shutdown();
-        LOGGER.info("{}: {} is shutting down...", getSimulation().clockStr(), getName());
+        log(Level.INFO, "{}: {} is shutting down...", getSimulation().clockStr(), getName());
         requestVmDestructionAfterAllCloudletsFinished();
     }
 
@@ -1229,7 +1434,21 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
             throw new IllegalArgumentException(msg);
         }
 
-        setVmDestructionDelayFunction(vm -> delay);
+        updateVmDestructionDelayFunction(vm -> delay);
+        return this;
+    }
+
+    @Override
+    public DatacenterBroker setDatacenterMapper(@NonNull final BiFunction<Datacenter, Vm, Datacenter> datacenterMapper) {
+        this.datacenterMapper = datacenterMapper;
+        this.userFunctionSet = true;
+        return this;
+    }
+
+    @Override
+    public DatacenterBroker setVmMapper(@NonNull final Function<Cloudlet, Vm> vmMapper) {
+        this.vmMapper = vmMapper;
+        this.userFunctionSet = true;
         return this;
     }
 
@@ -1242,10 +1461,17 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
      */
     @Override
     public DatacenterBroker setVmDestructionDelayFunction(final Function<Vm, Double> function) {
-        this.vmDestructionDelayFunction = function == null ? DEF_VM_DESTRUCTION_DELAY_FUNC : function;
+        this.userFunctionSet |= function != null;
+        updateVmDestructionDelayFunction(function == null ? DEF_VM_DESTRUCTION_DELAY_FUNC : function);
         return this;
     }
 
+    private void updateVmDestructionDelayFunction(final Function<Vm, Double> function) {
+        this.vmDestructionDelayFunction = function;
+        vmIdleIndex.clear();
+        vmExecList.forEach(vm -> vmIdleIndex.update(vm, vmDestructionDelayFunction.apply(vm)));
+    }
+
     /**
      * The policy used to select the closest Datacenter to run each {@link #getVmWaitingList() waiting VM},
      * according to their timezone offset.
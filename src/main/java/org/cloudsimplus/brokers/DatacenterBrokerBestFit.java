@@ -27,8 +27,6 @@ import org.cloudsimplus.cloudlets.Cloudlet;
 import org.cloudsimplus.core.CloudSimPlus;
 import org.cloudsimplus.vms.Vm;
 
-import java.util.Comparator;
-
 /**
  * A implementation of {@link DatacenterBroker} that uses a Best Fit
  * mapping between submitted cloudlets and Vm's, trying to place a Cloudlet
@@ -40,6 +38,11 @@ import java.util.Comparator;
  * @since CloudSim Plus 4.3.8
  */
 public class DatacenterBrokerBestFit extends DatacenterBrokerSimple {
+    /**
+     * An index of the {@link #getVmExecList() running VMs} by their expected free PEs,
+     * to find the best VM for a Cloudlet without scanning all VMs.
+     */
+    private final VmFreePesIndex vmFreePesIndex;
 
     /**
      * Creates a DatacenterBroker object.
@@ -48,6 +51,7 @@ public class DatacenterBrokerBestFit extends DatacenterBrokerSimple {
      */
     public DatacenterBrokerBestFit(final CloudSimPlus simulation) {
         super(simulation);
+        this.vmFreePesIndex = newVmFreePesIndex(getVmExecList());
     }
 
     /**
@@ -61,11 +65,7 @@ public class DatacenterBrokerBestFit extends DatacenterBrokerSimple {
             return cloudlet.getVm();
         }
 
-        final Vm mappedVm = getVmExecList()
-            .stream()
-            .filter(vm -> vm.getExpectedFreePesNumber() >= cloudlet.getPesNumber())
-            .min(Comparator.comparingLong(Vm::getExpectedFreePesNumber))
-            .orElse(Vm.NULL);
+        final Vm mappedVm = vmFreePesIndex.findBestFit(cloudlet.getPesNumber());
 
         if (Vm.NULL.equals(mappedVm)) {
             LOGGER.warn("{}: {}: {} (PEs: {}) couldn't be mapped to any suitable VM.",
@@ -78,4 +78,9 @@ public class DatacenterBrokerBestFit extends DatacenterBrokerSimple {
 
         return mappedVm;
     }
+
+    @Override
+    protected void vmExpectedFreePesChanged(final Vm vm) {
+        vmFreePesIndex.update(vm);
+    }
 }
@@ -43,6 +43,12 @@ public class DatacenterBrokerFirstFit extends DatacenterBrokerSimple {
      */
     private int lastVmIndex;
 
+    /**
+     * An index of the {@link #getVmCreatedList() created VMs} by their expected free PEs,
+     * to find the first suitable VM for a Cloudlet without trying VMs one by one.
+     */
+    private final VmFreePesIndex vmFreePesIndex;
+
     /**
      * Creates a DatacenterBroker object.
      *
@@ -50,6 +56,7 @@ public class DatacenterBrokerFirstFit extends DatacenterBrokerSimple {
      */
     public DatacenterBrokerFirstFit(final CloudSimPlus simulation) {
         super(simulation);
+        this.vmFreePesIndex = newVmFreePesIndex(getVmCreatedList());
     }
 
     /**
@@ -66,23 +73,16 @@ public class DatacenterBrokerFirstFit extends DatacenterBrokerSimple {
             return cloudlet.getVm();
         }
 
-        /* The for loop just defines the maximum number of Hosts to try.
-         * When a suitable Host is found, the method returns immediately. */
-        final int maxTries = getVmCreatedList().size();
-        for (int i = 0; i < maxTries; i++) {
-            final Vm vm = getVmCreatedList().get(lastVmIndex);
-            if (vm.getExpectedFreePesNumber() >= cloudlet.getPesNumber()) {
-                LOGGER.trace("{}: {}: {} (PEs: {}) mapped to {} (available PEs: {}, tot PEs: {})",
-                    getSimulation().clockStr(), getName(), cloudlet, cloudlet.getPesNumber(), vm,
-                    vm.getExpectedFreePesNumber(), vm.getFreePesNumber());
-                return vm;
-            }
-
-            /* If it gets here, the previous Vm doesn't have capacity to place the Cloudlet.
-             * Then, moves to the next Vm.
-             * If the end of the Vm list is reached, starts from the beginning,
-             * until the max number of tries.*/
-            lastVmIndex = ++lastVmIndex % getVmCreatedList().size();
+        /* Finds the first Vm with capacity to place the Cloudlet, starting from the last used one.
+         * If the end of the Vm list is reached, starts from the beginning. */
+        final int vmIndex = vmFreePesIndex.findFirstFit(lastVmIndex, cloudlet.getPesNumber());
+        if (vmIndex != -1) {
+            lastVmIndex = vmIndex;
+            final Vm vm = getVmCreatedList().get(vmIndex);
+            LOGGER.trace("{}: {}: {} (PEs: {}) mapped to {} (available PEs: {}, tot PEs: {})",
+                getSimulation().clockStr(), getName(), cloudlet, cloudlet.getPesNumber(), vm,
+                vm.getExpectedFreePesNumber(), vm.getFreePesNumber());
+            return vm;
         }
 
         LOGGER.warn("{}: {}: {} (PEs: {}) couldn't be mapped to any suitable VM.",
@@ -91,5 +91,8 @@ public class DatacenterBrokerFirstFit extends DatacenterBrokerSimple {
         return Vm.NULL;
     }
 
-
+    @Override
+    protected void vmExpectedFreePesChanged(final Vm vm) {
+        vmFreePesIndex.update(vm);
+    }
 }
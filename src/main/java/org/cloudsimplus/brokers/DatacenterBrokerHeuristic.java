@@ -28,11 +28,13 @@ import lombok.NonNull;
 import lombok.Setter;
 import org.cloudsimplus.cloudlets.Cloudlet;
 import org.cloudsimplus.core.CloudSimPlus;
+import org.cloudsimplus.core.events.SimEvent;
 import org.cloudsimplus.heuristics.CloudletToVmMappingHeuristic;
 import org.cloudsimplus.heuristics.CloudletToVmMappingSimulatedAnnealing;
 import org.cloudsimplus.heuristics.CloudletToVmMappingSolution;
 import org.cloudsimplus.vms.Vm;
 
+import java.util.List;
 import java.util.stream.Collectors;
 
 /**
@@ -71,6 +73,19 @@ public class DatacenterBrokerHeuristic extends DatacenterBrokerSimple {
         heuristic = CloudletToVmMappingHeuristic.NULL;
     }
 
+    /**
+     * {@inheritDoc}
+     * The broker processes events sequentially,
+     * since the heuristic is given by the user and may change the state shared among entities
+     * (such as a pseudo-random number generator).
+     * @param events {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    protected boolean isParallelProcessingSupported(final List<SimEvent> events) {
+        return false;
+    }
+
     @Override
     protected void requestDatacentersToCreateWaitingCloudlets() {
         setupAndStartHeuristic();
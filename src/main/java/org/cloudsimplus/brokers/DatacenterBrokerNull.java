@@ -36,6 +36,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 /**
@@ -56,6 +57,9 @@ final class DatacenterBrokerNull implements DatacenterBroker, SimEntityNullBase
     @Override public <T extends Cloudlet> List<T> getCloudletFinishedList() {
         return Collections.emptyList();
     }
+    @Override public long getCloudletFinishedCount() { return 0; }
+    @Override public boolean isCloudletFinishedStreamingEnabled() { return false; }
+    @Override public DatacenterBroker enableCloudletFinishedStreaming(Consumer<Cloudlet> sink) { return this; }
     @Override public Vm getWaitingVm(int index) {
         return Vm.NULL;
     }
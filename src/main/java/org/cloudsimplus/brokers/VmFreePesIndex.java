@@ -0,0 +1,189 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.brokers;
+
+import org.cloudsimplus.vms.Vm;
+
+import java.util.*;
+
+/**
+ * An index of the VMs into a {@link VmList} by their {@link Vm#getExpectedFreePesNumber() expected free PEs},
+ * used internally by {@link DatacenterBroker}s to map Cloudlets to VMs
+ * in logarithmic time, instead of scanning the whole VM list for each Cloudlet.
+ *
+ * <p>The index is lazily rebuilt when the list is structurally modified
+ * and has to be {@link #update(Vm) updated} every time the expected free PEs of a VM changes.</p>
+ *
+ * @since CloudSim Plus 8.5.0
+ */
+final class VmFreePesIndex {
+    private final VmList vms;
+
+    /** The number of modifications in the {@link #vms} list when the index was built. */
+    private int modifications;
+
+    /** The expected free PEs of each VM, by its position into the {@link #vms} list. */
+    private long[] freePes;
+
+    /**
+     * A segment tree where each node stores the maximum expected free PEs
+     * for a range of positions into the {@link #vms} list,
+     * with leaves starting at position {@link #leaves}.
+     */
+    private long[] maxFreePesTree;
+
+    /** The number of leaves in the {@link #maxFreePesTree}. */
+    private int leaves;
+
+    /** Maps each VM to its positions into the {@link #vms} list. */
+    private final Map<Vm, List<Integer>> positionsByVm;
+
+    /** Maps a number of expected free PEs to the positions of the VMs having such PEs. */
+    private final NavigableMap<Long, NavigableSet<Integer>> positionsByFreePes;
+
+    /**
+     * Creates an index for a VM list.
+     * @param vms the list to index
+     */
+    VmFreePesIndex(final VmList vms) {
+        this.vms = vms;
+        this.modifications = -1;
+        this.positionsByVm = new HashMap<>();
+        this.positionsByFreePes = new TreeMap<>();
+    }
+
+    /**
+     * Updates the index after the expected free PEs of a VM has changed.
+     * @param vm the VM to update
+     */
+    void update(final Vm vm) {
+        if (isOutdated()) {
+            //The index will be entirely rebuilt when used
+            return;
+        }
+
+        for (final int position : positionsByVm.getOrDefault(vm, List.of())) {
+            setFreePes(position, vm.getExpectedFreePesNumber());
+        }
+    }
+
+    /**
+     * Finds the VM with the lowest number of expected free PEs that is at least a given number.
+     * If there are multiple of such VMs, the first one into the list is selected.
+     *
+     * @param pes the minimum number of expected free PEs
+     * @return the found VM or {@link Vm#NULL} if no VM has such a number of expected free PEs
+     */
+    Vm findBestFit(final long pes) {
+        rebuildIfOutdated();
+        final var entry = positionsByFreePes.ceilingEntry(pes);
+        return entry == null ? Vm.NULL : vms.get(entry.getValue().first());
+    }
+
+    /**
+     * Finds the first VM having at least a given number of expected free PEs,
+     * starting from a given position into the list and cyclically moving to the next ones.
+     *
+     * @param start the position into the list to start the search
+     * @param pes the minimum number of expected free PEs
+     * @return the position of the found VM into the list or -1 if no VM has such a number of expected free PEs
+     */
+    int findFirstFit(final int start, final long pes) {
+        rebuildIfOutdated();
+        final int position = findFirstFit(1, 0, leaves - 1, start, pes);
+        return position == -1 && start > 0 ? findFirstFit(1, 0, leaves - 1, 0, pes) : position;
+    }
+
+    /**
+     * Finds the first position that is at least a given one into the range of a segment tree node,
+     * whose VM has at least a given number of expected free PEs.
+     * Nodes whose maximum expected free PEs is lower than the requested ones are skipped entirely.
+     */
+    private int findFirstFit(final int node, final int from, final int to, final int start, final long pes) {
+        if (to < start || maxFreePesTree[node] < pes) {
+            return -1;
+        }
+
+        if (from == to) {
+            return from;
+        }
+
+        final int middle = (from + to) >>> 1;
+        final int position = findFirstFit(2 * node, from, middle, start, pes);
+        return position == -1 ? findFirstFit(2 * node + 1, middle + 1, to, start, pes) : position;
+    }
+
+    private boolean isOutdated() {
+        return modifications != vms.getModifications();
+    }
+
+    private void rebuildIfOutdated() {
+        if (!isOutdated()) {
+            return;
+        }
+
+        modifications = vms.getModifications();
+        leaves = Integer.highestOneBit(Math.max(vms.size(), 1) * 2 - 1);
+        freePes = new long[vms.size()];
+        //Leaves without a VM have a negative number of PEs to be never selected
+        maxFreePesTree = new long[2 * leaves];
+        Arrays.fill(maxFreePesTree, -1);
+        positionsByVm.clear();
+        positionsByFreePes.clear();
+
+        for (int position = 0; position < vms.size(); position++) {
+            final Vm vm = vms.get(position);
+            positionsByVm.computeIfAbsent(vm, key -> new ArrayList<>(1)).add(position);
+            freePes[position] = vm.getExpectedFreePesNumber();
+            positionsByFreePes.computeIfAbsent(freePes[position], key -> new TreeSet<>()).add(position);
+            maxFreePesTree[leaves + position] = freePes[position];
+        }
+
+        for (int node = leaves - 1; node > 0; node--) {
+            maxFreePesTree[node] = Math.max(maxFreePesTree[2 * node], maxFreePesTree[2 * node + 1]);
+        }
+    }
+
+    private void setFreePes(final int position, final long pes) {
+        final long previousPes = freePes[position];
+        if (previousPes == pes) {
+            return;
+        }
+
+        final NavigableSet<Integer> previousPositions = positionsByFreePes.get(previousPes);
+        previousPositions.remove(position);
+        if (previousPositions.isEmpty()) {
+            positionsByFreePes.remove(previousPes);
+        }
+
+        positionsByFreePes.computeIfAbsent(pes, key -> new TreeSet<>()).add(position);
+        freePes[position] = pes;
+
+        int node = leaves + position;
+        maxFreePesTree[node] = pes;
+        for (node /= 2; node > 0; node /= 2) {
+            maxFreePesTree[node] = Math.max(maxFreePesTree[2 * node], maxFreePesTree[2 * node + 1]);
+        }
+    }
+}
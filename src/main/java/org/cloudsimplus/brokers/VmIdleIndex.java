@@ -0,0 +1,148 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.brokers;
+
+import org.cloudsimplus.vms.Vm;
+
+import java.util.*;
+
+/**
+ * An index of the VMs into a {@link VmList} that may have to be destroyed by a {@link DatacenterBroker},
+ * ordered by the time that will happen.
+ * Such a time is the earliest between the time the VM has been idle for its
+ * {@link DatacenterBroker#setVmDestructionDelayFunction(java.util.function.Function) destruction delay}
+ * and the time its {@link Vm#getLifeTime() lifetime} is reached.
+ *
+ * <p>That way, when a Cloudlet finishes, the broker just checks the VMs which
+ * may be destroyed at that time, instead of checking the idleness of every running VM.
+ * The index has to be {@link #update(Vm, double) updated} every time the idleness of a VM is checked.</p>
+ *
+ * @since CloudSim Plus 8.5.0
+ */
+final class VmIdleIndex {
+    /**
+     * A VM into the index.
+     * @param time the time the VM may have to be destroyed
+     * @param vm the indexed VM
+     */
+    private record Entry(double time, Vm vm) {}
+
+    private final VmList vms;
+
+    /**
+     * The entries ordered by the time their VMs may have to be destroyed.
+     * It may have outdated entries, which are not in the {@link #entries} map anymore
+     * and are just discarded when they reach the head of the queue.
+     */
+    private final PriorityQueue<Entry> queue;
+
+    /** Maps each indexed VM to its current entry. */
+    private final Map<Vm, Entry> entries;
+
+    /**
+     * Creates an index for a VM list.
+     * @param vms the list to index
+     */
+    VmIdleIndex(final VmList vms) {
+        this.vms = vms;
+        this.queue = new PriorityQueue<>(Comparator.comparingDouble(Entry::time));
+        this.entries = new HashMap<>();
+    }
+
+    /**
+     * Updates the time a VM may have to be destroyed, according to its current state.
+     * If the VM isn't created, it's not idle and has no lifetime, it's removed from the index.
+     *
+     * @param vm the VM to update
+     * @param destructionDelay the time the VM has to be idle to be destroyed
+     *                         (if equal to {@link DatacenterBroker#DEF_VM_DESTRUCTION_DELAY},
+     *                         the VM isn't destroyed when idle)
+     */
+    void update(final Vm vm, final double destructionDelay) {
+        final double time = vm.isCreated() ? destructionTime(vm, destructionDelay) : Double.MAX_VALUE;
+        final Entry previous = entries.get(vm);
+        if (previous != null && previous.time() == time) {
+            return;
+        }
+
+        if (time == Double.MAX_VALUE) {
+            entries.remove(vm);
+            return;
+        }
+
+        final var entry = new Entry(time, vm);
+        entries.put(vm, entry);
+        queue.add(entry);
+    }
+
+    private static double destructionTime(final Vm vm, final double destructionDelay) {
+        final double lifeTimeEnd = vm.getLifeTime() == Double.MAX_VALUE ? Double.MAX_VALUE : vm.getStartTime() + vm.getLifeTime();
+        if (destructionDelay > DatacenterBroker.DEF_VM_DESTRUCTION_DELAY && vm.getCloudletScheduler().getCloudletExecList().isEmpty()) {
+            return Math.min(vm.getLastBusyTime() + destructionDelay, lifeTimeEnd);
+        }
+
+        return lifeTimeEnd;
+    }
+
+    /**
+     * Removes from the index the created VMs that may have to be destroyed up to a given time.
+     * Such VMs have to be {@link #update(Vm, double) updated} after they are checked,
+     * to be added back into the index if they weren't destroyed.
+     *
+     * @param time the maximum time the VMs may have to be destroyed
+     * @return the VMs that may have to be destroyed, in the reverse order they are into the list
+     */
+    List<Vm> pollUntil(final double time) {
+        final var list = new ArrayList<Vm>();
+        while (!queue.isEmpty() && queue.peek().time() <= time) {
+            final Entry entry = queue.poll();
+            if (entries.get(entry.vm()) == entry) {
+                entries.remove(entry.vm());
+                if (entry.vm().isCreated()) {
+                    list.add(entry.vm());
+                }
+            }
+        }
+
+        if (list.size() > 1) {
+            final var positions = new HashMap<Vm, Integer>();
+            for (int position = 0; position < vms.size(); position++) {
+                positions.put(vms.get(position), position);
+            }
+
+            list.removeIf(vm -> !positions.containsKey(vm));
+            list.sort(Comparator.comparing((Vm vm) -> positions.get(vm)).reversed());
+        }
+
+        return list;
+    }
+
+    /**
+     * Removes all VMs from the index.
+     */
+    void clear() {
+        queue.clear();
+        entries.clear();
+    }
+}
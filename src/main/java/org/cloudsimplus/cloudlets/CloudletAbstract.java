@@ -19,6 +19,7 @@ import org.cloudsimplus.datacenters.Datacenter;
 import org.cloudsimplus.listeners.CloudletVmEventInfo;
 import org.cloudsimplus.listeners.EventListener;
 import org.cloudsimplus.resources.*;
+import org.cloudsimplus.schedulers.cloudlet.CloudletSchedulerAbstract;
 import org.cloudsimplus.utilizationmodels.UtilizationModel;
 import org.cloudsimplus.utilizationmodels.UtilizationModelFull;
 import org.cloudsimplus.vms.Vm;
@@ -192,9 +193,31 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
         return this;
     }
 
+    @Override
+    public CloudletAbstract setUtilizationModelCpu(@NonNull final UtilizationModel utilizationModelCpu) {
+        this.utilizationModelCpu = utilizationModelCpu;
+        updateStatefulCloudlet();
+        return this;
+    }
+
+    @Override
+    public CloudletAbstract setUtilizationModelRam(@NonNull final UtilizationModel utilizationModelRam) {
+        this.utilizationModelRam = utilizationModelRam;
+        updateStatefulCloudlet();
+        return this;
+    }
+
+    @Override
+    public CloudletAbstract setUtilizationModelBw(@NonNull final UtilizationModel utilizationModelBw) {
+        this.utilizationModelBw = utilizationModelBw;
+        updateStatefulCloudlet();
+        return this;
+    }
+
     @Override
     public Cloudlet addOnUpdateProcessingListener(@NonNull final EventListener<CloudletVmEventInfo> listener) {
         this.onUpdateProcessingListeners.add(listener);
+        updateStatefulCloudlet();
         return this;
     }
 
@@ -206,6 +229,7 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
     @Override
     public Cloudlet addOnStartListener(@NonNull final EventListener<CloudletVmEventInfo> listener) {
         this.onStartListeners.add(listener);
+        updateStatefulCloudlet();
         return this;
     }
 
@@ -221,6 +245,7 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
         }
 
         this.onFinishListeners.add(listener);
+        updateStatefulCloudlet();
         return this;
     }
 
@@ -229,6 +254,28 @@ public abstract class CloudletAbstract extends CustomerEntityAbstract implements
         return onFinishListeners.remove(listener);
     }
 
+    /**
+     * Checks if there is any listener notified when the Cloudlet starts, finishes
+     * or has its processing updated.
+     * @return true if there is some of such listeners, false otherwise
+     */
+    public boolean hasProcessingListeners() {
+        return !onStartListeners.isEmpty() || !onFinishListeners.isEmpty() || !onUpdateProcessingListeners.isEmpty();
+    }
+
+    /**
+     * Notifies the scheduler running this Cloudlet that listeners or utilization models were set,
+     * so that it checks if the Cloudlet is stateful.
+     * @see CloudletSchedulerAbstract#hasStatefulCloudlets()
+     */
+    private void updateStatefulCloudlet() {
+        if (status != Status.INSTANTIATED && !isFinished() &&
+            vm.getCloudletScheduler() instanceof CloudletSchedulerAbstract scheduler)
+        {
+            scheduler.updateStatefulCloudlet(this);
+        }
+    }
+
     @Override
     public void notifyOnUpdateProcessingListeners(final double time) {
         onUpdateProcessingListeners.forEach(listener -> listener.update(CloudletVmEventInfo.of(listener, time, this)));
@@ -11,6 +11,8 @@ import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
 import lombok.experimental.Accessors;
+import org.apache.commons.math3.stat.descriptive.StatisticalSummary;
+import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
 import org.cloudsimplus.cloudlets.Cloudlet;
 import org.cloudsimplus.core.events.*;
 import org.cloudsimplus.datacenters.Datacenter;
@@ -22,7 +24,7 @@ import org.slf4j.LoggerFactory;
 
 import java.util.*;
 import java.util.function.Predicate;
-import java.util.stream.Stream;
+import java.util.stream.IntStream;
 
 /**
  * An abstract class to manage Cloud Computing simulations,
@@ -78,16 +80,68 @@ abstract class CloudSim implements Simulation {
 
     private final List<CloudSimEntity> entityList;
 
+    /**
+     * All entities ever added to the simulation, indexed by their
+     * {@link CloudSimEntity#getRegistrationOrder() registration order}.
+     * Finished entities are replaced by null.
+     */
+    private final List<CloudSimEntity> registeredEntities;
+
+    /**
+     * The {@link CloudSimEntity#getRegistrationOrder() registration order} of the entities
+     * having events in the {@link #deferred} queue or in their event buffer.
+     * Only those entities have to be executed at each clock tick
+     * and iterating the set bits keeps the order entities were added to the simulation.
+     */
+    private final BitSet entitiesWithPendingEvents;
+
     /**
      * The queue of events that will be sent in a future simulation time.
      */
-    private final FutureQueue future;
+    private final FutureEventQueue future;
 
     /**
      * The deferred event queue.
      */
     private final DeferredQueue deferred;
 
+    /** @see #getEventBatchSizeStats() */
+    private final SummaryStatistics eventBatchSizeStats;
+
+    /**
+     * The number of future events processed in the last simulation clock tick.
+     * @see #getEventBatchSizeStats()
+     */
+    @Getter
+    private int lastEventBatchSize;
+
+    /**
+     * A pool used to reuse events sent by entities, after they are processed.
+     * If null, event pooling is disabled (the default behaviour)
+     * and a new event is always created.
+     * @see CloudSimEntity#schedule(SimEntity, double, int, Object)
+     */
+    @Getter @Setter
+    private SimEventPool eventPool;
+
+    /**
+     * The list of actions deferred by the current thread while it is
+     * running a task through {@link #runDeferringSharedActions(Runnable)},
+     * or null if the thread is not running such a task.
+     * @see #runOrDefer(Runnable)
+     */
+    private final ThreadLocal<List<Runnable>> deferredActions;
+
+    /**
+     * Indicates if entities supporting it process their events in parallel or not.
+     * @see #enableParallelEntitiesProcessing()
+     */
+    private boolean parallelEntitiesProcessingEnabled;
+
+    /** @see #setParallelEntitiesProcessingThreshold(int) */
+    @Getter
+    private int parallelEntitiesProcessingThreshold;
+
     /** @see #clock() */
     private double clock;
 
@@ -129,10 +183,10 @@ abstract class CloudSim implements Simulation {
      * Internally it creates a CloudInformationService.
      *
      * @see CloudInformationService
-     * @see #CloudSim(double)
+     * @see #CloudSim(double, FutureEventQueue)
      */
     public CloudSim(){
-        this(0.1);
+        this(0.1, new FutureQueue());
     }
 
     /**
@@ -142,13 +196,19 @@ abstract class CloudSim implements Simulation {
      *
      * @param minTimeBetweenEvents the minimal period between events.
      * Events within shorter periods after the last event are discarded.
+     * @param futureQueue the queue to store the events to be processed in a future simulation time
      * @see CloudInformationService
      */
-    public CloudSim(final double minTimeBetweenEvents) {
+    public CloudSim(final double minTimeBetweenEvents, @NonNull final FutureEventQueue futureQueue) {
         this.entityList = new ArrayList<>();
-        this.future = new FutureQueue();
+        this.registeredEntities = new ArrayList<>();
+        this.entitiesWithPendingEvents = new BitSet();
+        this.future = futureQueue;
         this.deferred = new DeferredQueue();
+        this.eventBatchSizeStats = new SummaryStatistics();
+        this.deferredActions = new ThreadLocal<>();
         this.waitPredicates = new HashMap<>();
+        this.parallelEntitiesProcessingThreshold = DEF_PARALLEL_ENTITIES_PROCESSING_THRESHOLD;
         this.networkTopology = NetworkTopology.NULL;
         this.clock = 0;
         this.running = false;
@@ -392,7 +452,9 @@ abstract class CloudSim implements Simulation {
 
         if (entity.getId() == -1) { // Only add once!
             entity.setId(entityList.size());
+            entity.setRegistrationOrder(registeredEntities.size());
             entityList.add(entity);
+            registeredEntities.add(entity);
         }
     }
 
@@ -402,7 +464,13 @@ abstract class CloudSim implements Simulation {
             throw new IllegalStateException(msg.formatted(entity));
         }
 
-        entityList.remove(entity);
+        runOrDefer(() -> {
+            entityList.remove(entity);
+            if (entity.getRegistrationOrder() > -1) {
+                registeredEntities.set(entity.getRegistrationOrder(), null);
+                entitiesWithPendingEvents.clear(entity.getRegistrationOrder());
+            }
+        });
     }
 
     /**
@@ -418,9 +486,9 @@ abstract class CloudSim implements Simulation {
             return false;
         }
 
-        final SimEvent first = future.first();
-        if(first.getTime() <= until) {
-            processFutureEventsHappeningAtSameTimeOfTheFirstOne(first);
+        final double firstEventTime = future.first().getTime();
+        if(firstEventTime <= until) {
+            processFutureEventsHappeningAt(firstEventTime);
             return true;
         }
 
@@ -432,6 +500,15 @@ abstract class CloudSim implements Simulation {
             return false;
         }
 
+        if (isTimeToSkipWaitingForTerminationTime()) {
+            final double time = isPauseRequested() && pauseAt > clock ? Math.min(pauseAt, terminationTime) : terminationTime;
+            LOGGER.info(
+                "{}: Simulation: No more events to process. Advancing the clock to {} since all Datacenters use adaptive scheduling.",
+                clockStr(), time);
+            setClock(Math.max(time, clock + minTimeBetweenEvents));
+            return true;
+        }
+
         final double increment = minDatacentersSchedulingInterval();
         final String info = increment == minTimeBetweenEvents
             ? "using getMinTimeBetweenEvents() since a Datacenter schedulingInterval was not set"
@@ -449,6 +526,29 @@ abstract class CloudSim implements Simulation {
 
     }
 
+    /**
+     * Checks if the clock can be advanced right to the termination time when there is no event to process,
+     * instead of waiting it by increments of the {@link Datacenter#getSchedulingInterval()}.
+     * That is possible when all Datacenters have {@link Datacenter#enableAdaptiveScheduling() adaptive scheduling}
+     * enabled and there is no one to be notified at every clock tick (which could create new events).
+     * @return true if the wait for the termination time can be skipped, false otherwise
+     */
+    private boolean isTimeToSkipWaitingForTerminationTime() {
+        final var datacenterList = cis.getDatacenterList();
+        return !datacenterList.isEmpty() &&
+               !isClockTickNotificationRequired() &&
+               datacenterList.stream().allMatch(Datacenter::isAdaptiveSchedulingEnabled);
+    }
+
+    /**
+     * Checks if there is someone to be notified at every clock tick,
+     * which may create new events when the clock advances.
+     * @return true if clock ticks must be notified, false otherwise
+     */
+    protected boolean isClockTickNotificationRequired() {
+        return false;
+    }
+
     /**
      * Gets the minimum {@link Datacenter#getSchedulingInterval()} defined
      * among all existing Datacenters.
@@ -466,32 +566,158 @@ abstract class CloudSim implements Simulation {
             .min().orElse(minTimeBetweenEvents);
     }
 
-    private void processFutureEventsHappeningAtSameTimeOfTheFirstOne(final SimEvent firstEvent) {
-        processEvent(firstEvent);
-        future.remove(firstEvent);
-
-        while(!future.isEmpty()) {
-            final SimEvent evt = future.first();
-            if(evt.getTime() != firstEvent.getTime())
-                break;
-            processEvent(evt);
-            future.remove(evt);
-        }
+    /**
+     * Removes and processes all the events from the {@link #future} queue happening at a given time,
+     * in a single pass over the queue.
+     * @param time the time of the events to process
+     * @see #getEventBatchSizeStats()
+     */
+    private void processFutureEventsHappeningAt(final double time) {
+        lastEventBatchSize = future.pollAll(time, this::processEvent);
+        eventBatchSizeStats.addValue(lastEventBatchSize);
     }
 
     /**
      * Gets the list of entities that are in {@link SimEntity.State#RUNNABLE}
      * and execute them.
+     * Just entities having pending events are visited,
+     * in the same order they were added to the simulation.
      */
-    @SuppressWarnings("ForLoopReplaceableByForEach")
     private void executeRunnableEntities(final double until) {
-        /* Uses an indexed loop instead of anything else to avoid
-        ConcurrencyModificationException when a HostFaultInjection is created inside a DC. */
-        for (int i = 0; i < entityList.size(); i++) {
-            final CloudSimEntity ent = entityList.get(i);
-            if (ent.getState() == SimEntity.State.RUNNABLE) {
-                ent.run(until);
+        /* Entities created while iterating (such as a HostFaultInjection created inside a DC)
+         * don't have pending events yet, so they are just visited in the next tick. */
+        for (int i = entitiesWithPendingEvents.nextSetBit(0); i >= 0; i = entitiesWithPendingEvents.nextSetBit(i + 1)) {
+            final CloudSimEntity ent = registeredEntities.get(i);
+            if (ent == null) {
+                // Finished entities were removed from the simulation and cannot be executed anymore
+                entitiesWithPendingEvents.clear(i);
+                continue;
+            }
+
+            if (parallelEntitiesProcessingEnabled && eventPool == null) {
+                final var parallelEntities = findParallelEntities(i, until);
+                if (!parallelEntities.isEmpty()) {
+                    if (parallelEntities.size() >= parallelEntitiesProcessingThreshold) {
+                        executeEntitiesInParallel(parallelEntities);
+                    } else {
+                        parallelEntities.forEach(entityEvents -> executeEntity(entityEvents.entity(), until));
+                    }
+
+                    i = parallelEntities.get(parallelEntities.size() - 1).entity().getRegistrationOrder();
+                    continue;
+                }
             }
+
+            executeEntity(ent, until);
+        }
+    }
+
+    /**
+     * Executes an entity if it's in {@link SimEntity.State#RUNNABLE} state,
+     * so that it processes its events happening up to a given time.
+     * @param entity the entity to execute
+     * @param until the maximum time of the events to process
+     */
+    private void executeEntity(final CloudSimEntity entity, final double until) {
+        if (registeredEntities.get(entity.getRegistrationOrder()) == null) {
+            // The entity was finished by another one executed before it
+            return;
+        }
+
+        if (entity.getState() == SimEntity.State.RUNNABLE) {
+            entity.run(until);
+        }
+
+        clearIfNoPendingEvents(entity);
+    }
+
+    /**
+     * The events an entity has to process at the current clock tick,
+     * when entities are processed in parallel.
+     * @param entity the entity to process the events
+     * @param events the events to process, which are still in the {@link #deferred} queue
+     * @see #enableParallelEntitiesProcessing()
+     */
+    private record EntityEvents(CloudSimEntity entity, List<SimEvent> events) {
+    }
+
+    /**
+     * Finds the runnable entities, from a given registration order on,
+     * that can process their events in parallel with other ones.
+     * The search stops at the first entity that cannot process its events in parallel,
+     * so that entities are always executed in the order they were added to the simulation.
+     *
+     * @param start the registration order of the first entity to check
+     * @param until the maximum time of the events to process
+     * @return the list of entities and their events, in the order they were added to the simulation
+     */
+    private List<EntityEvents> findParallelEntities(final int start, final double until) {
+        final var list = new ArrayList<EntityEvents>();
+        final Predicate<SimEvent> predicate = evt -> evt.getTime() <= until;
+        for (int i = start; i >= 0; i = entitiesWithPendingEvents.nextSetBit(i + 1)) {
+            final CloudSimEntity ent = registeredEntities.get(i);
+            if (ent == null || ent.getState() != SimEntity.State.RUNNABLE || ent.isEventBuffered()) {
+                break;
+            }
+
+            final List<SimEvent> events = deferred.findAll(ent, predicate);
+            if (!ent.isParallelProcessingSupported(events)) {
+                break;
+            }
+
+            list.add(new EntityEvents(ent, events));
+        }
+
+        return list;
+    }
+
+    /**
+     * Executes entities in parallel, using the {@link java.util.concurrent.ForkJoinPool#commonPool() common fork-join pool}.
+     * Actions changing the state shared among entities (such as sending events)
+     * are deferred while an entity processes its events, then run for each entity
+     * in the order they were added to the simulation, after all of them are executed.
+     * That way, results are exactly the same as executing entities sequentially.
+     *
+     * @param entityEventsList the entities to execute and their events
+     * @see #enableParallelEntitiesProcessing()
+     */
+    private void executeEntitiesInParallel(final List<EntityEvents> entityEventsList) {
+        final int[] processedEvents = new int[entityEventsList.size()];
+        final var deferredActions = new ArrayList<List<Runnable>>(Collections.nCopies(entityEventsList.size(), null));
+        IntStream.range(0, entityEventsList.size()).parallel().forEach(i -> {
+            final var entityEvents = entityEventsList.get(i);
+            deferredActions.set(i, runDeferringSharedActions(
+                () -> processedEvents[i] = entityEvents.entity().processEvents(entityEvents.events())));
+        });
+
+        for (int i = 0; i < entityEventsList.size(); i++) {
+            final var entityEvents = entityEventsList.get(i);
+            entityEvents.events().subList(0, processedEvents[i]).forEach(deferred::remove);
+            deferredActions.get(i).forEach(Runnable::run);
+            clearIfNoPendingEvents(entityEvents.entity());
+        }
+    }
+
+    /**
+     * Clears the mark indicating an entity has events to process,
+     * if it doesn't have any event anymore.
+     * @param entity the entity to check
+     * @see #markEntityWithPendingEvents(CloudSimEntity)
+     */
+    private void clearIfNoPendingEvents(final CloudSimEntity entity) {
+        if (!entity.isEventBuffered() && deferred.isEmpty(entity) && entity.getRegistrationOrder() > -1) {
+            entitiesWithPendingEvents.clear(entity.getRegistrationOrder());
+        }
+    }
+
+    /**
+     * Marks an entity as having events to be processed in its next execution.
+     * @param entity the entity that received an event
+     * @see #executeRunnableEntities(double)
+     */
+    private void markEntityWithPendingEvents(final CloudSimEntity entity) {
+        if (entity.getRegistrationOrder() > -1) {
+            entitiesWithPendingEvents.set(entity.getRegistrationOrder());
         }
     }
 
@@ -511,6 +737,12 @@ abstract class CloudSim implements Simulation {
 
     @Override
     public void send(@NonNull final SimEvent evt) {
+        final var actions = deferredActions.get();
+        if(actions != null) {
+            actions.add(() -> send(evt));
+            return;
+        }
+
         //Events with a negative tag have higher priority
         if(evt.getTag() < 0)
             future.addEventFirst(evt);
@@ -524,9 +756,39 @@ abstract class CloudSim implements Simulation {
 
     @Override
     public void sendFirst(SimEvent evt) {
+        final var actions = deferredActions.get();
+        if(actions != null) {
+            actions.add(() -> sendFirst(evt));
+            return;
+        }
+
         future.addEventFirst(evt);
     }
 
+    @Override
+    public List<Runnable> runDeferringSharedActions(@NonNull final Runnable task) {
+        final var previousActions = deferredActions.get();
+        final var actions = new ArrayList<Runnable>();
+        deferredActions.set(actions);
+        try {
+            task.run();
+        } finally {
+            if(previousActions == null)
+                deferredActions.remove();
+            else deferredActions.set(previousActions);
+        }
+
+        return actions;
+    }
+
+    @Override
+    public void runOrDefer(@NonNull final Runnable action) {
+        final var actions = deferredActions.get();
+        if(actions == null)
+            action.run();
+        else actions.add(action);
+    }
+
     @Override
     public void wait(final CloudSimEntity src, final Predicate<SimEvent> predicate) {
         src.setState(SimEntity.State.WAITING);
@@ -538,63 +800,62 @@ abstract class CloudSim implements Simulation {
 
     @Override
     public SimEvent select(final SimEntity dest, final Predicate<SimEvent> predicate) {
-        final SimEvent evt = findFirstDeferred(dest, predicate);
-        if(evt != SimEvent.NULL) {
-            deferred.remove(evt);
-        }
-
-        return evt;
+        return deferred.removeFirst(dest, predicate);
     }
 
     @Override
     public SimEvent findFirstDeferred(final SimEntity dest, final Predicate<SimEvent> predicate) {
-        return filterEventsToDestinationEntity(deferred, predicate, dest).findFirst().orElse(SimEvent.NULL);
+        return deferred.findFirst(dest, predicate);
     }
 
     /**
-     * Gets a stream of events inside a specific queue that match a given predicate
-     * and are targeted to an specific entity.
-     *
-     * @param queue the queue to get the events from
-     * @param predicate the event selection predicate
-     * @param dest id of entity that the event has to be sent to
-     * @return a Stream of events from the queue
+     * {@inheritDoc}
+     * Just the events sent by the given entity are traversed.
+     * @param src {@inheritDoc}
+     * @param predicate {@inheritDoc}
+     * @return {@inheritDoc}
      */
-    private Stream<SimEvent> filterEventsToDestinationEntity(final EventQueue queue, final Predicate<SimEvent> predicate, final SimEntity dest) {
-        return filterEvents(queue, predicate.and(evt -> evt.getDestination() == dest));
-    }
-
     @Override
     public SimEvent cancel(final SimEntity src, final Predicate<SimEvent> predicate) {
         final SimEvent canceled =
-            future.stream()
-                  .filter(isEventSourceEqualsTo(predicate, src))
-                  .findFirst()
+            future.stream(src)
+                  .filter(predicate)
+                  .min(Comparator.naturalOrder())
                   .orElse(SimEvent.NULL);
-        future.remove(canceled);
-        return canceled;
+        return removeCanceledEvent(canceled);
     }
 
     @Override
-    public boolean cancelAll(final SimEntity src, final Predicate<SimEvent> predicate) {
-        final int previousSize = future.size();
-        future.removeIf(isEventSourceEqualsTo(predicate, src));
-        return previousSize < future.size();
+    public SimEvent cancel(final SimEntity src, final int tag) {
+        return removeCanceledEvent(future.first(src, tag));
     }
 
-    private Predicate<SimEvent> isEventSourceEqualsTo(final Predicate<SimEvent> predicate, final SimEntity src) {
-        return predicate.and(evt -> evt.getSource().equals(src));
+    private SimEvent removeCanceledEvent(final SimEvent canceled) {
+        if (canceled != SimEvent.NULL) {
+            future.remove(canceled);
+        }
+
+        return canceled;
     }
 
     /**
-     * Gets a stream of events inside a specific queue that match a given predicate.
+     * {@inheritDoc}
+     * Just the events sent by the given entity are traversed.
      *
-     * @param queue the queue to get the events from
-     * @param predicate the event selection predicate
-     * @return a Stream of events from the queue
+     * <p><b>WARNING:</b> Up to CloudSim Plus 8.4.x, this method always returned false,
+     * despite events were actually cancelled. It now returns true when any event is cancelled.</p>
+     * @param src {@inheritDoc}
+     * @param predicate {@inheritDoc}
+     * @return {@inheritDoc}
      */
-    private Stream<SimEvent> filterEvents(final EventQueue queue, final Predicate<SimEvent> predicate) {
-        return queue.stream().filter(predicate);
+    @Override
+    public boolean cancelAll(final SimEntity src, final Predicate<SimEvent> predicate) {
+        return future.removeAll(future.stream(src).filter(predicate).toList());
+    }
+
+    @Override
+    public boolean cancelAll(final SimEntity src, final int tag) {
+        return future.removeAll(src, tag);
     }
 
     /**
@@ -651,6 +912,7 @@ abstract class CloudSim implements Simulation {
         }
 
         final var destEnt = (CloudSimEntity)evt.getDestination();
+        markEntityWithPendingEvents(destEnt);
         if (destEnt.getState() != SimEntity.State.WAITING) {
             deferred.addEvent(evt);
             return;
@@ -765,16 +1027,62 @@ abstract class CloudSim implements Simulation {
         pauseAt = -1;
     }
 
+    /**
+     * {@inheritDoc}
+     * If the predicate is {@link #ANY_EVT} or a {@link PredicateType},
+     * the events are counted without traversing the future queue.
+     * @param predicate {@inheritDoc}
+     * @return {@inheritDoc}
+     */
     @Override
     public long getNumberOfFutureEvents(final Predicate<SimEvent> predicate){
+        if (predicate == ANY_EVT) {
+            return future.size();
+        }
+
+        if (predicate instanceof PredicateType type) {
+            return future.size(type.tag());
+        }
+
         return future.stream().filter(predicate).count();
     }
 
+    @Override
+    public long getNumberOfFutureEvents(final SimEntity src, final int tag) {
+        return future.size(src, tag);
+    }
+
+    @Override
+    public long getNumberOfFutureEvents(final int tag) {
+        return future.size(tag);
+    }
+
+    /**
+     * {@inheritDoc}
+     * If the predicate is {@link #ANY_EVT} or a {@link PredicateType},
+     * it's checked without traversing the future queue.
+     * @param predicate {@inheritDoc}
+     * @return {@inheritDoc}
+     */
     @Override
     public boolean isThereAnyFutureEvt(final Predicate<SimEvent> predicate){
+        if (predicate == ANY_EVT || predicate instanceof PredicateType) {
+            return getNumberOfFutureEvents(predicate) > 0;
+        }
+
         return future.stream().anyMatch(predicate);
     }
 
+    @Override
+    public boolean isThereAnyFutureEvt(final SimEntity src, final int tag) {
+        return future.size(src, tag) > 0;
+    }
+
+    @Override
+    public boolean isThereAnyFutureEvtExcept(final int tag) {
+        return future.size(tag) < future.size();
+    }
+
     private boolean isThereFutureEvtsAndNextOneHappensAfterTimeToPause() {
         return !future.isEmpty() && clock <= pauseAt && isNextFutureEventHappeningAfterTimeToPause();
     }
@@ -789,7 +1097,7 @@ abstract class CloudSim implements Simulation {
     }
 
     private boolean isNextFutureEventHappeningAfterTimeToPause() {
-        return future.iterator().next().getTime() >= pauseAt;
+        return future.first().getTime() >= pauseAt;
     }
 
     @Override
@@ -798,15 +1106,49 @@ abstract class CloudSim implements Simulation {
         running = false;
     }
 
+    @Override
+    public boolean isParallelEntitiesProcessingEnabled() {
+        return parallelEntitiesProcessingEnabled;
+    }
+
+    @Override
+    public Simulation enableParallelEntitiesProcessing() {
+        this.parallelEntitiesProcessingEnabled = true;
+        return this;
+    }
+
+    @Override
+    public Simulation disableParallelEntitiesProcessing() {
+        this.parallelEntitiesProcessingEnabled = false;
+        return this;
+    }
+
+    @Override
+    public Simulation setParallelEntitiesProcessingThreshold(final int threshold) {
+        this.parallelEntitiesProcessingThreshold = Math.max(threshold, 1);
+        return this;
+    }
+
     /**
      * Gets the maximum number of events that have ever existed at the same time
-     * inside the {@link FutureQueue}.
+     * inside the {@link FutureEventQueue}.
      */
     public long getMaxEventsNumber() {
         return future.getMaxEventsNumber();
     }
 
-    /** Gets the total number of events generated in the {@link FutureQueue} */
+    /**
+     * Gets statistics about the number of events processed at each simulation clock tick
+     * (the batches of future events happening at the same time),
+     * which enables checking how bursty a simulation is.
+     * @return a read-only summary of the event batch sizes
+     * @see #getLastEventBatchSize()
+     */
+    public StatisticalSummary getEventBatchSizeStats() {
+        return eventBatchSizeStats.getSummary();
+    }
+
+    /** Gets the total number of events generated in the {@link FutureEventQueue} */
     public long getGeneratedEventsNumber() {
         return future.getSerial();
     }
@@ -7,6 +7,7 @@
  */
 package org.cloudsimplus.core;
 
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NonNull;
@@ -16,6 +17,7 @@ import org.cloudsimplus.core.events.SimEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
 import java.util.function.Predicate;
 
 import static java.util.Objects.requireNonNull;
@@ -54,6 +56,16 @@ public abstract class CloudSimEntity implements SimEntity {
      */
     private SimEvent buffer;
 
+    /**
+     * The order in which the entity was added to the simulation
+     * (starting from 0), which is unique and never changes,
+     * even when other entities are removed from the simulation;
+     * or -1 if the entity wasn't added yet.
+     * It's used by the simulation to execute entities in the order they were added.
+     */
+    @Getter(AccessLevel.PACKAGE) @Setter(AccessLevel.PACKAGE)
+    private int registrationOrder = -1;
+
     /**
      * Creates a new entity.
      *
@@ -112,7 +124,25 @@ public abstract class CloudSimEntity implements SimEntity {
 
     @Override
     public boolean schedule(final SimEntity dest, final double delay, final int tag, final Object data) {
-        return schedule(new CloudSimEvent(delay, this, dest, tag, data));
+        return schedule(newEvent(dest, delay, tag, data));
+    }
+
+    /**
+     * Creates an event to be sent from this entity,
+     * getting it from the {@link CloudSim#getEventPool() simulation event pool} if one is set.
+     *
+     * @param dest the destination entity
+     * @param delay how many seconds after the current simulation time the event should be sent
+     * @param tag a user-defined number representing the type of event
+     * @param data the data to be sent with the event
+     * @return the new event
+     */
+    private SimEvent newEvent(final SimEntity dest, final double delay, final int tag, final Object data) {
+        if (simulation instanceof CloudSim cloudSim && cloudSim.getEventPool() != null) {
+            return cloudSim.getEventPool().acquire(delay, this, dest, tag, data);
+        }
+
+        return new CloudSimEvent(delay, this, dest, tag, data);
     }
 
     @Override
@@ -221,7 +251,7 @@ public abstract class CloudSimEntity implements SimEntity {
      * @param data  The data to be sent with the event.
      */
     public void scheduleFirst(final SimEntity dest, final double delay, final int tag, final Object data) {
-        final var evt = new CloudSimEvent(delay, this, dest, tag, data);
+        final var evt = newEvent(dest, delay, tag, data);
         if (canSendEvent(evt)) {
             simulation.sendFirst(evt);
         }
@@ -318,7 +348,7 @@ public abstract class CloudSimEntity implements SimEntity {
         var evt = requireNonNullElse(buffer, getNextEvent(e -> e.getTime() <= until));
 
         while (evt != SimEvent.NULL) {
-            processEvent(evt);
+            processAndReleaseEvent(evt);
             if (state != State.RUNNABLE) {
                 break;
             }
@@ -329,6 +359,57 @@ public abstract class CloudSimEntity implements SimEntity {
         buffer = null;
     }
 
+    /**
+     * Processes a list of events previously selected from the deferred queue, as {@link #run(double)} does.
+     * It stops processing events if the entity isn't {@link State#RUNNABLE} anymore.
+     *
+     * @param events the events to process
+     * @return the number of events actually processed
+     * @see Simulation#enableParallelEntitiesProcessing()
+     */
+    int processEvents(final List<SimEvent> events) {
+        int processed = 0;
+        for (final SimEvent evt : events) {
+            processEvent(evt);
+            processed++;
+            if (state != State.RUNNABLE) {
+                break;
+            }
+        }
+
+        return processed;
+    }
+
+    /**
+     * Checks if the entity can process a list of events concurrently with other entities,
+     * when {@link Simulation#enableParallelEntitiesProcessing() parallel processing} is enabled.
+     * That is just possible if processing such events doesn't change the state shared among entities,
+     * except by actions which are deferred by the simulation, such as sending events
+     * (see {@link Simulation#runDeferringSharedActions(Runnable)}).
+     * Entities don't support parallel processing by default.
+     *
+     * @param events the events the entity has to process
+     * @return true if the entity can process the events in parallel with other entities, false otherwise
+     */
+    protected boolean isParallelProcessingSupported(final List<SimEvent> events) {
+        return false;
+    }
+
+    /**
+     * Processes an event and then returns it to the {@link CloudSim#getEventPool() simulation event pool},
+     * if one is set.
+     * If the entity sent the same event again while processing it, the event is not returned to the pool.
+     *
+     * @param evt the event to process
+     */
+    private void processAndReleaseEvent(final SimEvent evt) {
+        final long serial = evt.getSerial();
+        processEvent(evt);
+        if (simulation instanceof CloudSim cloudSim && cloudSim.getEventPool() != null && evt.getSerial() == serial) {
+            cloudSim.getEventPool().release(evt);
+        }
+    }
+
     @Override
     public SimEntity setName(@NonNull final String name) throws IllegalArgumentException {
         if (name.isBlank()) {
@@ -357,6 +438,14 @@ public abstract class CloudSimEntity implements SimEntity {
         this.name = "%s%d".formatted(getClass().getSimpleName(), id);
     }
 
+    /**
+     * Checks if there is an event in the buffer, waiting to be processed.
+     * @return true if there is a buffered event, false otherwise
+     */
+    boolean isEventBuffered() {
+        return buffer != null;
+    }
+
     /**
      * Sets the event buffer.
      *
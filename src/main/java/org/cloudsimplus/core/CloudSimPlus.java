@@ -24,6 +24,9 @@
 package org.cloudsimplus.core;
 
 import lombok.NonNull;
+import org.cloudsimplus.core.events.CalendarQueue;
+import org.cloudsimplus.core.events.FutureEventQueue;
+import org.cloudsimplus.core.events.FutureQueue;
 import org.cloudsimplus.core.events.SimEvent;
 import org.cloudsimplus.listeners.EventInfo;
 import org.cloudsimplus.listeners.EventListener;
@@ -66,9 +69,39 @@ public final class CloudSimPlus extends CloudSim {
      * @param minTimeBetweenEvents the minimal period between events.
      * Events within shorter periods after the last event are discarded.
      * @see CloudInformationService
+     * @see #CloudSimPlus(double, FutureEventQueue)
      */
     public CloudSimPlus(final double minTimeBetweenEvents) {
-        super(minTimeBetweenEvents);
+        this(minTimeBetweenEvents, new FutureQueue());
+    }
+
+    /**
+     * Creates a CloudSim Plus simulation that uses a given queue to store future events.
+     * Internally it creates a {@link CloudInformationService}.
+     *
+     * @param futureQueue the queue to store the events to be processed in a future simulation time,
+     *                    such as a {@link FutureQueue} (the default one) or a {@link CalendarQueue}
+     *                    (more suitable for simulations with a huge number of events)
+     * @see #CloudSimPlus(double, FutureEventQueue)
+     */
+    public CloudSimPlus(final FutureEventQueue futureQueue) {
+        this(DEF_MIN_TIME_BETWEEN_EVENTS, futureQueue);
+    }
+
+    /**
+     * Creates a CloudSim Plus simulation that tracks events happening in a time interval
+     * as little as the minTimeBetweenEvents parameter and uses a given queue to store future events.
+     * Internally it creates a {@link CloudInformationService}.
+     *
+     * @param minTimeBetweenEvents the minimal period between events.
+     * Events within shorter periods after the last event are discarded.
+     * @param futureQueue the queue to store the events to be processed in a future simulation time,
+     *                    such as a {@link FutureQueue} (the default one) or a {@link CalendarQueue}
+     *                    (more suitable for simulations with a huge number of events)
+     * @see CloudInformationService
+     */
+    public CloudSimPlus(final double minTimeBetweenEvents, final FutureEventQueue futureQueue) {
+        super(minTimeBetweenEvents, futureQueue);
         this.onEventProcessingListeners = new HashSet<>();
         this.onSimulationPauseListeners = new HashSet<>();
         this.onClockTickListeners = new HashSet<>();
@@ -166,6 +199,11 @@ public final class CloudSimPlus extends CloudSim {
         return onEventProcessingListeners.remove(listener);
     }
 
+    @Override
+    protected boolean isClockTickNotificationRequired() {
+        return !onClockTickListeners.isEmpty();
+    }
+
     @Override
     public Simulation addOnClockTickListener(@NonNull final EventListener<EventInfo> listener) {
         onClockTickListeners.add(listener);
@@ -232,6 +232,16 @@ public class CloudSimTag{
      */
     public static final int CLOUDLET_UPDATE_ATTRIBUTES = BASE + 27;
 
+    /**
+     * Denotes the submission of a List of Cloudlets at once. This tag is normally used between
+     * a DatacenterBroker and Datacenter entity, to submit all Cloudlets
+     * to be created at the same time in such a Datacenter using a single event.
+     * Each Cloudlet is submitted as if it was sent with the {@link #CLOUDLET_SUBMIT} tag.
+     * When an event of this type is sent, the {@link SimEvent#getData()}
+     * must be a {@link java.util.List} of {@link Cloudlet} objects.
+     */
+    public static final int CLOUDLET_SUBMIT_LIST = BASE + 28;
+
     /**
      * Denotes a request to retry creating waiting VMs from a {@link DatacenterBroker}.
      */
@@ -37,6 +37,15 @@ public interface Simulation {
      */
     Predicate<SimEvent> ANY_EVT = evt -> true;
 
+    /**
+     * The default minimum number of entities (such as {@link org.cloudsimplus.brokers.DatacenterBroker}s)
+     * having events to process at the same clock tick to process them in parallel,
+     * when such a feature is enabled.
+     * @see #enableParallelEntitiesProcessing()
+     * @see #setParallelEntitiesProcessingThreshold(int)
+     */
+    int DEF_PARALLEL_ENTITIES_PROCESSING_THRESHOLD = 100;
+
     /**
      * An attribute that implements the Null Object Design Pattern for {@link Simulation}
      * objects.
@@ -137,6 +146,30 @@ public interface Simulation {
      */
     boolean cancelAll(SimEntity src, Predicate<SimEvent> predicate);
 
+    /**
+     * Cancels the first event from the future event queue that has a given tag
+     * and was sent by a given entity, then removes it from the queue.
+     * Since future events are indexed by source entity and tag,
+     * that is faster than {@link #cancel(SimEntity, Predicate)}.
+     *
+     * @param src entity that scheduled the event
+     * @param tag the tag of the event to cancel
+     * @return the removed event or {@link SimEvent#NULL} if not found
+     */
+    SimEvent cancel(SimEntity src, int tag);
+
+    /**
+     * Cancels all events from the future event queue that have a given tag
+     * and were sent by a given entity, then removes those ones from the queue.
+     * Since future events are indexed by source entity and tag,
+     * that is faster than {@link #cancelAll(SimEntity, Predicate)}.
+     *
+     * @param src entity that scheduled the events
+     * @param tag the tag of the events to cancel
+     * @return true if at least one event has been cancelled; false otherwise
+     */
+    boolean cancelAll(SimEntity src, int tag);
+
     /**
      * Gets the current simulation time in seconds.
      *
@@ -360,6 +393,88 @@ public interface Simulation {
      */
     void sendFirst(SimEvent evt);
 
+    /**
+     * Runs a task that may be executed concurrently with other ones
+     * (such as the processing update of a single {@link org.cloudsimplus.hosts.Host}),
+     * deferring every action that changes the state shared among entities.
+     * That includes sending events and any action requested via {@link #runOrDefer(Runnable)}.
+     *
+     * <p>The returned actions must be run by the caller in a single thread.
+     * Running the actions of each task in the same order the tasks would
+     * be executed sequentially ensures the same results (such as the same event ordering)
+     * as if the tasks were not executed concurrently.</p>
+     *
+     * @param task the task to run
+     * @return the list of actions deferred by the task, in the order they were requested
+     */
+    List<Runnable> runDeferringSharedActions(Runnable task);
+
+    /**
+     * Runs an action that changes the state shared among entities right away,
+     * unless the current thread is running a task via {@link #runDeferringSharedActions(Runnable)}.
+     * In that case, the action is deferred until the caller of such a method runs it.
+     *
+     * @param action the action to run or defer
+     */
+    void runOrDefer(Runnable action);
+
+    /**
+     * Checks if entities supporting it process their events in parallel.
+     * @return true if parallel processing is enabled; false otherwise
+     * @see #enableParallelEntitiesProcessing()
+     */
+    boolean isParallelEntitiesProcessingEnabled();
+
+    /**
+     * Enables entities to process the events happening at the same clock tick in parallel
+     * (which is disabled by default), using the {@link java.util.concurrent.ForkJoinPool#commonPool() common fork-join pool}.
+     * Just entities which {@link CloudSimEntity#isParallelProcessingSupported(List) support it}
+     * are processed in parallel, such as {@link org.cloudsimplus.brokers.DatacenterBrokerAbstract}.
+     * Since brokers for different customers rarely interact,
+     * that may largely reduce the simulation time for simulations with thousands of brokers,
+     * such as the ones created from the Google Cluster traces.
+     *
+     * <p>The results are exactly the same of the sequential processing:
+     * entities are still executed in the order they were added to the simulation,
+     * and events sent while an entity processes its events are just actually sent after all
+     * entities are executed, in the same order they would be sent by the sequential processing.
+     * Entities are still executed sequentially when:
+     * <ul>
+     *     <li>the number of consecutive entities supporting parallel processing is lower than
+     *     the {@link #getParallelEntitiesProcessingThreshold() threshold};</li>
+     *     <li>a {@link org.cloudsimplus.core.events.SimEventPool} is set, since it's shared among entities.</li>
+     * </ul>
+     * Just the order of log messages from entities processed in parallel may change.
+     * </p>
+     * @return
+     */
+    Simulation enableParallelEntitiesProcessing();
+
+    /**
+     * Disables the parallel processing of entities events.
+     * @return
+     * @see #enableParallelEntitiesProcessing()
+     */
+    Simulation disableParallelEntitiesProcessing();
+
+    /**
+     * Gets the minimum number of consecutive entities having events to process at the same clock tick
+     * to process them in parallel, when such a feature is enabled.
+     * @return
+     * @see #enableParallelEntitiesProcessing()
+     */
+    int getParallelEntitiesProcessingThreshold();
+
+    /**
+     * Sets the minimum number of consecutive entities having events to process at the same clock tick
+     * to process them in parallel, when such a feature is enabled.
+     * For fewer entities, the overhead of parallelization doesn't pay off.
+     * @param threshold the minimum number of entities to set (values lower than 1 are changed to 1)
+     * @return
+     * @see #enableParallelEntitiesProcessing()
+     */
+    Simulation setParallelEntitiesProcessingThreshold(int threshold);
+
     /**
      * Sends an event from one entity to another,
      * adding it to the beginning of the queue in order to give priority to it.
@@ -492,6 +607,26 @@ public interface Simulation {
      */
     long getNumberOfFutureEvents(Predicate<SimEvent> predicate);
 
+    /**
+     * Gets the number of events in the future queue which have a given tag and were sent by a given entity.
+     * Since future events are indexed by source entity and tag,
+     * that is performed in constant time.
+     *
+     * @param src entity that scheduled the events
+     * @param tag the tag of the events to count
+     * @return the number of future events matching the given parameters
+     */
+    long getNumberOfFutureEvents(SimEntity src, int tag);
+
+    /**
+     * Gets the number of events in the future queue which have a given tag (sent by any entity),
+     * without traversing the entire queue.
+     *
+     * @param tag the tag of the events to count
+     * @return the number of future events with the given tag
+     */
+    long getNumberOfFutureEvents(int tag);
+
     /**
      * Checks if there is any event in the future queue that matches a given predicate.
      *
@@ -500,6 +635,26 @@ public interface Simulation {
      */
     boolean isThereAnyFutureEvt(Predicate<SimEvent> predicate);
 
+    /**
+     * Checks if there is any event in the future queue that has a given tag and was sent by a given entity.
+     * Since future events are indexed by source entity and tag,
+     * that is performed in constant time.
+     *
+     * @param src entity that scheduled the event
+     * @param tag the tag of the event to check
+     * @return true if any event matching the given parameters is found, false otherwise
+     */
+    boolean isThereAnyFutureEvt(SimEntity src, int tag);
+
+    /**
+     * Checks if there is any event in the future queue having a tag different from a given one.
+     * That is performed without traversing the entire queue.
+     *
+     * @param tag the tag of the events to ignore
+     * @return true if any event having another tag is found, false otherwise
+     */
+    boolean isThereAnyFutureEvtExcept(int tag);
+
     /**
      * Gets the last time (in seconds) some Cloudlet was processed in the simulation.
      */
@@ -28,6 +28,10 @@ final class SimulationNull implements Simulation {
     @Override public boolean cancelAll(SimEntity src, Predicate<SimEvent> predicate) {
         return false;
     }
+    @Override public SimEvent cancel(SimEntity src, int tag) { return SimEvent.NULL; }
+    @Override public boolean cancelAll(SimEntity src, int tag) { return false; }
+    @Override public boolean isThereAnyFutureEvt(SimEntity src, int tag) { return false; }
+    @Override public boolean isThereAnyFutureEvtExcept(int tag) { return false; }
     @Override public double clock() { return 0.0; }
     @Override public String clockStr() { return ""; }
     @Override public double clockInMinutes() { return 0.0; }
@@ -77,6 +81,16 @@ final class SimulationNull implements Simulation {
     @Override public void send(SimEntity src, SimEntity dest, double delay, int tag, Object data) {/**/}
     @Override public void sendFirst(SimEvent evt) {/**/}
     @Override public void sendFirst(SimEntity src, SimEntity dest, double delay, int tag, Object data) {/**/}
+    @Override public List<Runnable> runDeferringSharedActions(Runnable task) {
+        task.run();
+        return Collections.emptyList();
+    }
+    @Override public void runOrDefer(Runnable action) { action.run(); }
+    @Override public boolean isParallelEntitiesProcessingEnabled() { return false; }
+    @Override public Simulation enableParallelEntitiesProcessing() { return this; }
+    @Override public Simulation disableParallelEntitiesProcessing() { return this; }
+    @Override public int getParallelEntitiesProcessingThreshold() { return 0; }
+    @Override public Simulation setParallelEntitiesProcessingThreshold(int threshold) { return this; }
     @Override public void sendNow(SimEntity src, SimEntity dest, int tag, Object data) {/**/}
     @Override public double runFor(double interval) { return 0; }
     @Override public Simulation addOnEventProcessingListener(EventListener<SimEvent> listener) {
@@ -101,6 +115,8 @@ final class SimulationNull implements Simulation {
     @Override public NetworkTopology getNetworkTopology() { return NetworkTopology.NULL; }
     @Override public Simulation setNetworkTopology(NetworkTopology networkTopology) { return this; }
     @Override public long getNumberOfFutureEvents(Predicate<SimEvent> predicate) { return 0; }
+    @Override public long getNumberOfFutureEvents(SimEntity src, int tag) { return 0; }
+    @Override public long getNumberOfFutureEvents(int tag) { return 0; }
     @Override public double getLastCloudletProcessingUpdate() { return 0; }
     @Override public Simulation setLastCloudletProcessingUpdate(double lastCloudletProcessingUpdate) { return this; }
     @Override public boolean isAbortRequested() {return true;}
@@ -0,0 +1,741 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.core.events;
+
+import lombok.Getter;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * A {@link FutureEventQueue} implemented as a Calendar Queue,
+ * which provides O(1) amortized complexity to add and remove events,
+ * instead of the O(log n) of the {@link FutureQueue}.
+ * It's suitable for large-scale simulations having millions of events.
+ *
+ * <p>Events are distributed across an array of buckets (the days of a calendar year),
+ * where each bucket stores the events happening within a time interval
+ * of {@link #getBucketWidth()} seconds, wrapping around the array
+ * when the end of the "year" is reached.
+ * Each bucket keeps its events sorted according to {@link SimEvent#compareTo(SimEvent)},
+ * therefore events are retrieved in the exact same order as in the {@link FutureQueue}.
+ * Events happening at the same time always belong to the same bucket,
+ * where they are kept into a balanced tree, so that a burst of such events
+ * (such as the ones sent at the simulation start) doesn't degrade to a linear insertion or removal.
+ * The number of buckets and their width are automatically adjusted as the queue grows or shrinks.</p>
+ *
+ * <p>Since the events are not kept in a single sorted structure,
+ * {@link #iterator()} and {@link #stream()} have to sort a snapshot of the events,
+ * therefore such operations are more expensive than in the {@link FutureQueue}.</p>
+ *
+ * @since CloudSim Plus 8.5.0
+ * @see <a href="https://doi.org/10.1145/63039.63045">R. Brown, Calendar queues: a fast O(1) priority queue implementation
+ * for the simulation event set problem. Communications of the ACM, 1988.</a>
+ */
+public class CalendarQueue extends FutureQueueAbstract {
+    /** The minimum number of buckets (days) in the calendar. */
+    private static final int MIN_BUCKETS = 2;
+
+    /** The max number of events used to estimate a new {@link #bucketWidth} when the calendar is resized. */
+    private static final int WIDTH_SAMPLE_SIZE = 25;
+
+    /** Default value for {@link #getBucketWidth()} (in seconds). */
+    private static final double DEF_BUCKET_WIDTH = 1.0;
+
+    private Bucket[] buckets;
+
+    /**
+     * The time interval (in seconds) covered by each bucket.
+     */
+    @Getter
+    private double bucketWidth;
+
+    private int size;
+
+    /**
+     * The virtual bucket (the number of bucket widths from time zero) where the search
+     * for the next event starts. No event in the queue belongs to a virtual bucket lower than this one.
+     */
+    private long currentVirtualBucket;
+
+    /**
+     * Index of the bucket containing the first event in the queue,
+     * or -1 if it has to be located again.
+     */
+    private int headBucket;
+
+    /**
+     * Creates a Calendar Queue with a default initial bucket width.
+     */
+    public CalendarQueue() {
+        this(DEF_BUCKET_WIDTH);
+    }
+
+    /**
+     * Creates a Calendar Queue with a given initial bucket width,
+     * which is automatically adjusted as events are added.
+     *
+     * @param initialBucketWidth the time interval (in seconds) initially covered by each bucket
+     */
+    public CalendarQueue(final double initialBucketWidth) {
+        if (initialBucketWidth <= 0 || !Double.isFinite(initialBucketWidth)) {
+            throw new IllegalArgumentException("The initial bucket width must be a positive number.");
+        }
+
+        this.bucketWidth = initialBucketWidth;
+        clear();
+    }
+
+    /**
+     * Gets the number of buckets (days) the calendar currently has.
+     * @return
+     */
+    public int getBucketsNumber() {
+        return buckets.length;
+    }
+
+    @Override
+    protected void addEventInternal(final SimEvent newEvent) {
+        insert(newEvent);
+        if (size > 2 * buckets.length) {
+            resize(2 * buckets.length);
+        }
+    }
+
+    /**
+     * Inserts an event into its bucket, without resizing the calendar.
+     * @param evt the event to insert
+     */
+    private void insert(final SimEvent evt) {
+        buckets[insertionBucketIndex(evt)].add(evt);
+        size++;
+    }
+
+    /**
+     * Inserts all events happening at the same time into their bucket, without resizing the calendar.
+     * @param slot the slot with the events to insert, whose time must not be in the bucket yet
+     */
+    private void insert(final TimeSlot slot) {
+        buckets[insertionBucketIndex(slot.first())].addSlot(slot);
+        size += slot.size();
+    }
+
+    /**
+     * Gets the index of the bucket where an event has to be inserted,
+     * updating the head of the queue if such an event will be the first one.
+     * @param evt the event to insert
+     * @return the bucket index
+     */
+    private int insertionBucketIndex(final SimEvent evt) {
+        final long virtualBucket = virtualBucket(evt.getTime());
+        final int index = bucketIndex(virtualBucket);
+        if (headBucket > -1 && evt.compareTo(buckets[headBucket].first()) < 0) {
+            headBucket = index;
+            currentVirtualBucket = virtualBucket;
+        } else if (virtualBucket < currentVirtualBucket) {
+            currentVirtualBucket = virtualBucket;
+        }
+
+        return index;
+    }
+
+    @Override
+    public SimEvent first() throws NoSuchElementException {
+        if (size == 0) {
+            throw new NoSuchElementException("The Calendar Queue is empty.");
+        }
+
+        return buckets[locateHeadBucket()].first();
+    }
+
+    /**
+     * Gets the index of the bucket containing the first event in the queue,
+     * searching for it if it's not known yet.
+     * The queue must not be empty.
+     *
+     * @return the index of the head bucket
+     */
+    private int locateHeadBucket() {
+        if (headBucket > -1) {
+            return headBucket;
+        }
+
+        /* Looks for the first event in the current "year".
+         * Since each bucket is sorted and no event belongs to a virtual bucket
+         * lower than the current one, the first event found in its expected
+         * virtual bucket is the lowest one. */
+        long virtualBucket = currentVirtualBucket;
+        for (int i = 0; i < buckets.length; i++, virtualBucket++) {
+            final int index = bucketIndex(virtualBucket);
+            final Bucket bucket = buckets[index];
+            if (!bucket.isEmpty() && virtualBucket(bucket.first().getTime()) == virtualBucket) {
+                return setHeadBucket(index, virtualBucket);
+            }
+        }
+
+        // No event in the current year: performs a direct search for the lowest event
+        int minIndex = -1;
+        for (int i = 0; i < buckets.length; i++) {
+            final Bucket bucket = buckets[i];
+            if (!bucket.isEmpty() && (minIndex == -1 || bucket.first().compareTo(buckets[minIndex].first()) < 0)) {
+                minIndex = i;
+            }
+        }
+
+        return setHeadBucket(minIndex, virtualBucket(buckets[minIndex].first().getTime()));
+    }
+
+    private int setHeadBucket(final int index, final long virtualBucket) {
+        this.headBucket = index;
+        this.currentVirtualBucket = virtualBucket;
+        return index;
+    }
+
+    @Override
+    public int pollAll(final double time, final Consumer<SimEvent> consumer) {
+        int count = 0;
+        while (size > 0) {
+            final int index = locateHeadBucket();
+            if (buckets[index].first().getTime() != time) {
+                break;
+            }
+
+            final SimEvent evt = buckets[index].pollFirst();
+            unindex(evt);
+            headBucket = -1;
+            size--;
+            shrinkIfRequired();
+            consumer.accept(evt);
+            count++;
+        }
+
+        return count;
+    }
+
+    @Override
+    public boolean remove(final SimEvent event) {
+        if (size == 0) {
+            return false;
+        }
+
+        final int index = bucketIndex(virtualBucket(event.getTime()));
+        if (!buckets[index].remove(event)) {
+            return false;
+        }
+
+        if (index == headBucket) {
+            headBucket = -1;
+        }
+
+        unindex(event);
+        size--;
+        shrinkIfRequired();
+        return true;
+    }
+
+    @Override
+    public boolean removeIf(final Predicate<SimEvent> predicate) {
+        final int previousSize = size;
+        size = 0;
+        final Predicate<SimEvent> unindexingPredicate = evt -> {
+            if (predicate.test(evt)) {
+                unindex(evt);
+                return true;
+            }
+
+            return false;
+        };
+
+        for (final Bucket bucket : buckets) {
+            bucket.removeIf(unindexingPredicate);
+            size += bucket.size();
+        }
+
+        if (size == previousSize) {
+            return false;
+        }
+
+        headBucket = -1;
+        shrinkIfRequired();
+        return true;
+    }
+
+    private void shrinkIfRequired() {
+        if (buckets.length > MIN_BUCKETS && size < buckets.length / 2) {
+            resize(buckets.length / 2);
+        }
+    }
+
+    /**
+     * Changes the number of buckets and redistributes the events,
+     * after estimating a new bucket width from the first events in the queue.
+     *
+     * @param bucketsNumber the new number of buckets
+     */
+    private void resize(final int bucketsNumber) {
+        final double newWidth = estimateBucketWidth();
+        final Bucket[] oldBuckets = buckets;
+        this.buckets = newBuckets(bucketsNumber);
+        this.bucketWidth = newWidth;
+        this.headBucket = -1;
+        this.currentVirtualBucket = Long.MAX_VALUE;
+        this.size = 0;
+        for (final Bucket bucket : oldBuckets) {
+            bucket.forEachSlot(this::insert);
+        }
+    }
+
+    /**
+     * Estimates the bucket width based on the average time separation
+     * between the first distinct event times in the queue, as proposed by R. Brown.
+     * Separations much larger than the average are ignored.
+     * Events happening at the same time are not considered as separate samples,
+     * since they always belong to the same bucket, whatever its width.
+     *
+     * @return the new bucket width or the current one if a valid width couldn't be computed
+     */
+    private double estimateBucketWidth() {
+        if (size < 2) {
+            return bucketWidth;
+        }
+
+        final double[] times = new double[WIDTH_SAMPLE_SIZE];
+        final var polledSlots = new ArrayList<TimeSlot>(WIDTH_SAMPLE_SIZE);
+        int polledEvents = 0;
+        while (polledSlots.size() < WIDTH_SAMPLE_SIZE && polledEvents < size) {
+            final TimeSlot slot = buckets[locateHeadBucket()].pollFirstSlot();
+            headBucket = -1;
+            times[polledSlots.size()] = slot.time;
+            polledSlots.add(slot);
+            polledEvents += slot.size();
+        }
+
+        // Puts the polled slots back into their buckets (the size is restored by insert)
+        size -= polledEvents;
+        polledSlots.forEach(this::insert);
+
+        final int samples = polledSlots.size();
+        if (samples < 2) {
+            return bucketWidth;
+        }
+
+        final double avgSeparation = (times[samples - 1] - times[0]) / (samples - 1);
+        double separationSum = 0;
+        int count = 0;
+        for (int i = 1; i < samples; i++) {
+            final double separation = times[i] - times[i - 1];
+            if (separation <= 2 * avgSeparation) {
+                separationSum += separation;
+                count++;
+            }
+        }
+
+        final double separation = count > 0 ? separationSum / count : avgSeparation;
+        final double newWidth = 3 * separation;
+        return newWidth > 0 && Double.isFinite(newWidth) ? newWidth : bucketWidth;
+    }
+
+    private long virtualBucket(final double time) {
+        return (long) Math.floor(time / bucketWidth);
+    }
+
+    private int bucketIndex(final long virtualBucket) {
+        return (int) Math.floorMod(virtualBucket, buckets.length);
+    }
+
+    private static Bucket[] newBuckets(final int bucketsNumber) {
+        final var array = new Bucket[bucketsNumber];
+        for (int i = 0; i < bucketsNumber; i++) {
+            array[i] = new Bucket();
+        }
+
+        return array;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The iterator works on a sorted snapshot of the queue,
+     * therefore it doesn't support removal.
+     * @return {@inheritDoc}
+     */
+    @Override
+    public Iterator<SimEvent> iterator() {
+        return Collections.unmodifiableList(sortedSnapshot()).iterator();
+    }
+
+    /**
+     * {@inheritDoc}
+     * The stream works on a sorted snapshot of the queue.
+     * @return {@inheritDoc}
+     */
+    @Override
+    public Stream<SimEvent> stream() {
+        return sortedSnapshot().stream();
+    }
+
+    private List<SimEvent> sortedSnapshot() {
+        final var list = new ArrayList<SimEvent>(size);
+        for (final Bucket bucket : buckets) {
+            bucket.forEach(list::add);
+        }
+
+        list.sort(null);
+        return list;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public final void clear() {
+        clearIndex();
+        this.buckets = newBuckets(MIN_BUCKETS);
+        this.size = 0;
+        this.headBucket = -1;
+        this.currentVirtualBucket = 0;
+    }
+
+    /**
+     * A day in the calendar, which stores events sorted according to {@link SimEvent#compareTo(SimEvent)}.
+     * Events happening at the same time are grouped into a {@link TimeSlot}.
+     * Slots are kept sorted by time in an array between a head and a tail index,
+     * so that adding a slot to the end (the most common case)
+     * or removing the first one are O(1) operations.
+     * Since there is a single slot for each time, adding an event
+     * that happens at the same time as other ones doesn't require shifting the array.
+     */
+    private static final class Bucket {
+        private static final int DEF_CAPACITY = 4;
+
+        private TimeSlot[] slots = new TimeSlot[DEF_CAPACITY];
+
+        /** Index of the first slot. */
+        private int head;
+
+        /** Index after the last slot. */
+        private int tail;
+
+        /** The number of events in all slots. */
+        private int size;
+
+        boolean isEmpty() {
+            return head == tail;
+        }
+
+        int size() {
+            return size;
+        }
+
+        SimEvent first() {
+            return slots[head].first();
+        }
+
+        SimEvent pollFirst() {
+            final TimeSlot slot = slots[head];
+            final SimEvent evt = slot.pollFirst();
+            size--;
+            if (slot.isEmpty()) {
+                removeSlot(head);
+            }
+
+            return evt;
+        }
+
+        /**
+         * Removes the first slot, with all the events happening at its time.
+         * @return the removed slot
+         */
+        TimeSlot pollFirstSlot() {
+            final TimeSlot slot = slots[head];
+            size -= slot.size();
+            removeSlot(head);
+            return slot;
+        }
+
+        /**
+         * Adds a slot with events happening at a time not in the bucket yet.
+         * @param slot the slot to add
+         */
+        void addSlot(final TimeSlot slot) {
+            size += slot.size();
+            insertSlot(slot);
+        }
+
+        void add(final SimEvent evt) {
+            final double time = evt.getTime();
+            size++;
+            if (isEmpty() || time > slots[tail - 1].time) {
+                ensureTailCapacity();
+                slots[tail++] = new TimeSlot(evt);
+                return;
+            }
+
+            if (time == slots[tail - 1].time) {
+                slots[tail - 1].add(evt);
+                return;
+            }
+
+            if (head > 0 && time < slots[head].time) {
+                slots[--head] = new TimeSlot(evt);
+                return;
+            }
+
+            final int index = binarySearch(time);
+            if (index >= 0) {
+                slots[index].add(evt);
+                return;
+            }
+
+            insertSlot(new TimeSlot(evt));
+        }
+
+        private void insertSlot(final TimeSlot slot) {
+            ensureTailCapacity();
+            final int index = -binarySearch(slot.time) - 1;
+            System.arraycopy(slots, index, slots, index + 1, tail - index);
+            slots[index] = slot;
+            tail++;
+        }
+
+        /**
+         * Makes room for a new slot at the end of the array,
+         * by moving the slots to the beginning or growing the array.
+         */
+        private void ensureTailCapacity() {
+            if (tail < slots.length) {
+                return;
+            }
+
+            final int count = tail - head;
+            final TimeSlot[] target = head > slots.length / 2 ? slots : new TimeSlot[slots.length * 2];
+            System.arraycopy(slots, head, target, 0, count);
+            if (target == slots) {
+                Arrays.fill(slots, count, tail, null);
+            }
+
+            slots = target;
+            head = 0;
+            tail = count;
+        }
+
+        boolean remove(final SimEvent evt) {
+            final int index = binarySearch(evt.getTime());
+            if (index < 0 || !slots[index].remove(evt)) {
+                return false;
+            }
+
+            size--;
+            if (slots[index].isEmpty()) {
+                removeSlot(index);
+            }
+
+            return true;
+        }
+
+        private void removeSlot(final int index) {
+            if (index == head) {
+                slots[head++] = null;
+            } else {
+                System.arraycopy(slots, index + 1, slots, index, tail - index - 1);
+                slots[--tail] = null;
+            }
+
+            if (head == tail) {
+                head = tail = 0;
+            }
+        }
+
+        void removeIf(final Predicate<SimEvent> predicate) {
+            int newTail = head;
+            for (int i = head; i < tail; i++) {
+                size -= slots[i].removeIf(predicate);
+                if (!slots[i].isEmpty()) {
+                    slots[newTail++] = slots[i];
+                }
+            }
+
+            Arrays.fill(slots, newTail, tail, null);
+            tail = newTail;
+            if (head == tail) {
+                head = tail = 0;
+            }
+        }
+
+        /**
+         * Performs an action for each event in the bucket.
+         * Events in different slots are visited in time order,
+         * but events in the same slot are visited in no specific order.
+         * @param action the action to perform
+         */
+        void forEach(final Consumer<SimEvent> action) {
+            for (int i = head; i < tail; i++) {
+                slots[i].forEach(action);
+            }
+        }
+
+        void forEachSlot(final Consumer<TimeSlot> action) {
+            for (int i = head; i < tail; i++) {
+                action.accept(slots[i]);
+            }
+        }
+
+        /**
+         * Searches the slot for a given time using the binary search algorithm.
+         * @param time the time to search
+         * @return the index of the slot or <code>(-(insertion point) - 1)</code> if not found
+         * @see Arrays#binarySearch(double[], int, int, double)
+         */
+        private int binarySearch(final double time) {
+            int low = head;
+            int high = tail - 1;
+            while (low <= high) {
+                final int mid = (low + high) >>> 1;
+                final int res = Double.compare(slots[mid].time, time);
+                if (res < 0) {
+                    low = mid + 1;
+                } else if (res > 0) {
+                    high = mid - 1;
+                } else return mid;
+            }
+
+            return -(low + 1);
+        }
+    }
+
+    /**
+     * The events in a {@link Bucket} happening at the same time.
+     * A single event is stored directly, while multiple ones are kept into a {@link TreeSet},
+     * so that adding or removing any event from a burst of same-time events
+     * (which are sorted by tag priority and serial) takes O(log n).
+     */
+    private static final class TimeSlot {
+        private final double time;
+
+        /** The event in the slot, when it never had more than one, or null otherwise. */
+        private SimEvent single;
+
+        /** The events in the slot, after it had more than one, or null otherwise. */
+        private TreeSet<SimEvent> events;
+
+        TimeSlot(final SimEvent evt) {
+            this.time = evt.getTime();
+            this.single = evt;
+        }
+
+        boolean isEmpty() {
+            return events == null ? single == null : events.isEmpty();
+        }
+
+        int size() {
+            if (events != null) {
+                return events.size();
+            }
+
+            return single == null ? 0 : 1;
+        }
+
+        SimEvent first() {
+            if (events == null) {
+                return single;
+            }
+
+            return events.isEmpty() ? null : events.first();
+        }
+
+        SimEvent pollFirst() {
+            if (events != null) {
+                return events.pollFirst();
+            }
+
+            final SimEvent evt = single;
+            single = null;
+            return evt;
+        }
+
+        void add(final SimEvent evt) {
+            if (events == null && single == null) {
+                single = evt;
+                return;
+            }
+
+            if (events == null) {
+                events = new TreeSet<>();
+                events.add(single);
+                single = null;
+            }
+
+            events.add(evt);
+        }
+
+        boolean remove(final SimEvent evt) {
+            if (events != null) {
+                return events.remove(evt);
+            }
+
+            if (single == null || single.compareTo(evt) != 0) {
+                return false;
+            }
+
+            single = null;
+            return true;
+        }
+
+        /**
+         * Removes the events matching a predicate.
+         * @param predicate the predicate to check events
+         * @return the number of removed events
+         */
+        int removeIf(final Predicate<SimEvent> predicate) {
+            if (events != null) {
+                final int previousSize = events.size();
+                events.removeIf(predicate);
+                return previousSize - events.size();
+            }
+
+            if (single != null && predicate.test(single)) {
+                single = null;
+                return 1;
+            }
+
+            return 0;
+        }
+
+        void forEach(final Consumer<SimEvent> action) {
+            if (events != null) {
+                events.forEach(action);
+            } else if (single != null) {
+                action.accept(single);
+            }
+        }
+    }
+}
@@ -33,9 +33,11 @@ public final class CloudSimEvent implements SimEvent {
     @NonNull
     private Simulation simulation;
 
-    private final Type type;
+    @Setter(AccessLevel.NONE)
+    private Type type;
 
-    private final double time;
+    @Setter(AccessLevel.NONE)
+    private double time;
 
     @Setter(AccessLevel.NONE)
     private double endWaitingTime;
@@ -46,12 +48,34 @@ public final class CloudSimEvent implements SimEvent {
     @NonNull
     private SimEntity destination;
 
-    private final int tag;
+    @Setter(AccessLevel.NONE)
+    private int tag;
 
-    private final Object data;
+    @Setter(AccessLevel.NONE)
+    private Object data;
 
     private long serial = -1;
 
+    /**
+     * Indicates if this event was got from a {@link SimEventPool},
+     * so that it can be returned to the pool after processed.
+     */
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    boolean pooled;
+
+    /**
+     * Indicates if this event was returned to a {@link SimEventPool} in debug mode,
+     * so that it must not be accessed anymore.
+     */
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    boolean recycled;
+
+    /**
+     * Indicates if this event is currently stored as a free event inside a {@link SimEventPool}.
+     */
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    boolean free;
+
     /**
      * Creates a {@link Type#SEND} CloudSimEvent.
      * @param delay how many seconds after the current simulation time the event should be scheduled
@@ -159,6 +183,27 @@ public final class CloudSimEvent implements SimEvent {
         final Type type, final double delay,
         final SimEntity source, final SimEntity destination,
         final int tag, final Object data)
+    {
+        init(type, delay, source, destination, tag, data);
+    }
+
+    /**
+     * Initializes all event attributes,
+     * enabling the event to be reused by a {@link SimEventPool}.
+     *
+     * @param type the internal type of the event
+     * @param delay how many seconds after the current simulation time the event should be scheduled
+     * @param source the source entity which is sending the message
+     * @param destination the destination entity which has to receive the message
+     * @param tag the tag that identifies the type of the message
+     *            (which is used by the destination entity to perform operations based on the message type)
+     * @param data the data attached to the message, that depends on the message tag
+     * @return this event
+     */
+    CloudSimEvent init(
+        final Type type, final double delay,
+        final SimEntity source, final SimEntity destination,
+        final int tag, final Object data)
     {
         if (delay < 0) {
             throw new IllegalArgumentException("Delay can't be negative.");
@@ -169,8 +214,69 @@ public final class CloudSimEvent implements SimEvent {
         this.setDestination(destination);
         this.setSimulation(source.getSimulation());
         this.time = simulation.clock() + delay;
+        this.endWaitingTime = 0;
         this.tag = tag;
         this.data = data;
+        this.serial = -1;
+        return this;
+    }
+
+    /**
+     * Clears references kept by the event, so that it can be stored in a {@link SimEventPool}.
+     */
+    void clear() {
+        this.data = null;
+        this.source = SimEntity.NULL;
+        this.destination = SimEntity.NULL;
+    }
+
+    @Override
+    public Type getType() {
+        checkNotRecycled();
+        return type;
+    }
+
+    @Override
+    public double getTime() {
+        checkNotRecycled();
+        return time;
+    }
+
+    @Override
+    public SimEntity getSource() {
+        checkNotRecycled();
+        return source;
+    }
+
+    @Override
+    public SimEntity getDestination() {
+        checkNotRecycled();
+        return destination;
+    }
+
+    @Override
+    public int getTag() {
+        checkNotRecycled();
+        return tag;
+    }
+
+    @Override
+    public Object getData() {
+        checkNotRecycled();
+        return data;
+    }
+
+    /**
+     * Checks if the event was not returned to a {@link SimEventPool} in debug mode.
+     * @throws IllegalStateException if some object is trying to access an event after it was recycled,
+     *                               which means the event reference was unsafely retained
+     */
+    private void checkNotRecycled() {
+        if (recycled) {
+            throw new IllegalStateException(
+                "Attempt to access an event (tag %d, serial %d) after it was recycled by the SimEventPool. Events must not be retained after processed."
+                    .formatted(tag, serial));
+        }
     }
 
     @Override
@@ -1,6 +1,7 @@
 package org.cloudsimplus.core.events;
 
 import lombok.Getter;
+import org.cloudsimplus.core.SimEntity;
 
 import java.util.*;
 import java.util.function.Predicate;
@@ -14,28 +15,51 @@ import java.util.stream.Stream;
  * because the {@link LinkedList} provides constant O(1) complexity
  * to add elements to the end.
  *
+ * <p>Events are indexed by {@link SimEvent#getDestination() destination entity},
+ * using a separate list for each entity.
+ * This way, getting and removing the next event for a given entity
+ * (which is what the simulation engine does most of the time)
+ * doesn't require traversing the events targeted to other entities.
+ * The events of each entity are kept in temporal order and events happening
+ * at the same time are kept in the order they were added.
+ * Entities are kept in the order they got pending events
+ * and are removed when they have none left,
+ * so that the global order of same-time events is deterministic.</p>
+ *
  * @author Marcos Dias de Assuncao
  * @author Manoel Campos da Silva Filho
  * @since CloudSim Plus 4.4.2
  */
 public class DeferredQueue implements EventQueue {
     /**
+     * A map where each key is a destination entity and the value
+     * is the list of events sent to that entity.
      * Despite the events are sorted by time and there are
      * sorted collections such as {@link java.util.SortedSet},
      * since the time of a new event is usually higher than the previous
      * one, in such a case, the {@link LinkedList#add(Object)} provides
      * better performance, which is O(1).
+     * A {@link LinkedHashMap} is used to iterate entities in the order they were added,
+     * making the order of events happening at the same time reproducible.
+     * An entity is removed from the map when it has no more events.
      */
-    private final List<SimEvent> eventList = new LinkedList<>();
+    private final Map<SimEntity, LinkedList<SimEvent>> eventsByEntity = new LinkedHashMap<>();
 
     /**
-     * The max time that an added event is scheduled.
+     * The first event in the queue, as returned by {@link #first()},
+     * or null if it has to be found again due to changes in the queue.
      */
-    private double maxTime = -1;
+    private SimEvent head;
+
+    /**
+     * Total number of events in the queue.
+     */
+    private int size;
 
     /**
      * Keeps track of the total number of events
-     * added to the tail of the queue,
+     * added to the tail of the queue
+     * (the tail of the list of events for their destination entity),
      * just for debug purpose.
      */
     @Getter
@@ -43,7 +67,8 @@ public class DeferredQueue implements EventQueue {
 
     /**
      * Keeps track of the total number of events
-     * added to the middle of the queue,
+     * inserted into the middle of the queue
+     * (the middle of the list of events for their destination entity),
      * just for debug purpose.
      */
     @Getter
@@ -66,24 +91,26 @@ public class DeferredQueue implements EventQueue {
         // The event has to be inserted as the last of all events
         // with the same event_time(). Yes, this matters.
         final double eventTime = newEvent.getTime();
-        maxSize = Math.max(maxSize, eventList.size());
-        if (eventTime >= maxTime) {
+        maxSize = Math.max(maxSize, size);
+        final var eventList = eventsByEntity.computeIfAbsent(newEvent.getDestination(), entity -> new LinkedList<>());
+        size++;
+        updateHead(newEvent);
+        if (eventList.isEmpty() || eventTime >= eventList.getLast().getTime()) {
             eventList.add(newEvent);
-            maxTime = eventTime;
             addedToTail++;
             return;
         }
 
         /*
          * Adds an event in some position from the tail of the list.
-         * If the event time is smaller than the maxTime, traverses the list
+         * If the event time is smaller than the time of the last event, traverses the list
          * to find the place to insert the event.
          * It uses a reverse iterator because usually in such cases,
          * the time of the new event is close to the last events.
          * Starting from the tail of the list will ensure the lowest number
          * of iterations on the best cases.
          * */
-        final var reverseEvtIterator = eventList.listIterator(eventList.size() - 1);
+        final var reverseEvtIterator = eventList.listIterator(eventList.size());
         while (reverseEvtIterator.hasPrevious()) {
             if (reverseEvtIterator.previous().getTime() <= eventTime) {
                 reverseEvtIterator.next();
@@ -93,25 +120,146 @@ public class DeferredQueue implements EventQueue {
             }
         }
 
-        eventList.add(newEvent);
+        eventList.addFirst(newEvent);
+    }
+
+    /**
+     * Updates the {@link #head} after adding a new event.
+     * If the new event is scheduled for the same time as the current head,
+     * it may come before the head, depending on the destination entities order.
+     * In such a case, the head is invalidated to be found again when required.
+     *
+     * @param newEvent the event added to the queue
+     */
+    private void updateHead(final SimEvent newEvent) {
+        if (head == null) {
+            return;
+        }
+
+        if (newEvent.getTime() < head.getTime()) {
+            head = newEvent;
+        } else if (newEvent.getTime() == head.getTime()) {
+            head = null;
+        }
+    }
+
+    /**
+     * Gets all events targeted to a given entity that match a predicate,
+     * in the order they would be selected by {@link #removeFirst(SimEntity, Predicate)}.
+     *
+     * @param dest the entity the events were sent to
+     * @param predicate the event selection predicate
+     * @return a new list with the matching events
+     */
+    public List<SimEvent> findAll(final SimEntity dest, final Predicate<SimEvent> predicate) {
+        final var eventList = eventsByEntity.get(dest);
+        if (eventList == null) {
+            return new ArrayList<>();
+        }
+
+        final var list = new ArrayList<SimEvent>();
+        for (final SimEvent evt : eventList) {
+            if (predicate.test(evt)) {
+                list.add(evt);
+            }
+        }
+
+        return list;
+    }
+
+    /**
+     * Gets the first event targeted to a given entity that matches a predicate.
+     * Since events for each entity are indexed,
+     * that doesn't require traversing events for other entities.
+     *
+     * @param dest the entity the event was sent to
+     * @param predicate the event selection predicate
+     * @return the first matching event or {@link SimEvent#NULL} if not found
+     */
+    public SimEvent findFirst(final SimEntity dest, final Predicate<SimEvent> predicate) {
+        final var eventList = eventsByEntity.get(dest);
+        if (eventList == null) {
+            return SimEvent.NULL;
+        }
+
+        for (final SimEvent evt : eventList) {
+            if (predicate.test(evt)) {
+                return evt;
+            }
+        }
+
+        return SimEvent.NULL;
+    }
+
+    /**
+     * Removes the first event targeted to a given entity that matches a predicate.
+     * If the first event of such an entity matches the predicate
+     * (which is the most common case), that is an O(1) operation.
+     *
+     * @param dest the entity the event was sent to
+     * @param predicate the event selection predicate
+     * @return the removed event or {@link SimEvent#NULL} if not found
+     */
+    public SimEvent removeFirst(final SimEntity dest, final Predicate<SimEvent> predicate) {
+        final var eventList = eventsByEntity.get(dest);
+        if (eventList == null) {
+            return SimEvent.NULL;
+        }
+
+        final var iterator = eventList.iterator();
+        while (iterator.hasNext()) {
+            final SimEvent evt = iterator.next();
+            if (predicate.test(evt)) {
+                iterator.remove();
+                removed(dest, eventList, evt);
+                return evt;
+            }
+        }
+
+        return SimEvent.NULL;
+    }
+
+    /**
+     * Updates the queue state after an event is removed from the list of its destination entity.
+     *
+     * @param dest the entity the event was sent to
+     * @param eventList the list of events for the entity
+     * @param evt the removed event
+     */
+    private void removed(final SimEntity dest, final List<SimEvent> eventList, final SimEvent evt) {
+        size--;
+        if (evt.equals(head)) {
+            head = null;
+        }
+
+        if (eventList.isEmpty()) {
+            eventsByEntity.remove(dest);
+        }
     }
 
     /**
      * Returns an iterator to the events in the queue.
+     * Events are sorted by time and events
+     * happening at the same time are grouped by destination entity,
+     * following the order such entities got pending events.
      *
      * @return the iterator
      */
     public Iterator<SimEvent> iterator() {
-        return eventList.iterator();
+        return stream().iterator();
     }
 
     /**
      * Returns a stream to the elements into the queue.
+     * Events are sorted by time and events
+     * happening at the same time are grouped by destination entity,
+     * following the order such entities got pending events.
      *
      * @return the stream
      */
     public Stream<SimEvent> stream() {
-        return eventList.stream();
+        // The sort is stable, keeping the order of entities and of their same-time events
+        return eventsByEntity.values().stream().flatMap(List::stream).sorted(Comparator.comparingDouble(SimEvent::getTime));
     }
 
     /**
@@ -120,12 +268,21 @@ public class DeferredQueue implements EventQueue {
      * @return the number of events in the queue.
      */
     public int size() {
-        return eventList.size();
+        return size;
     }
 
     @Override
     public boolean isEmpty() {
-        return eventList.isEmpty();
+        return size == 0;
+    }
+
+    /**
+     * Checks if there is no event targeted to a given entity.
+     * @param dest the entity to check if there are events sent to it
+     * @return true if there is no event for the entity, false otherwise
+     */
+    public boolean isEmpty(final SimEntity dest) {
+        return !eventsByEntity.containsKey(dest);
     }
 
     /**
@@ -135,7 +292,14 @@ public class DeferredQueue implements EventQueue {
      * @return true if successful; false otherwise
      */
     public boolean remove(final SimEvent event) {
-        return eventList.remove(event);
+        final var dest = event.getDestination();
+        final var eventList = eventsByEntity.get(dest);
+        if (eventList != null && eventList.remove(event)) {
+            removed(dest, eventList, event);
+            return true;
+        }
+
+        return false;
     }
 
     /**
@@ -145,26 +309,76 @@ public class DeferredQueue implements EventQueue {
      * @return true if successful; false otherwise
      */
     public boolean removeAll(final Collection<SimEvent> events) {
-        return eventList.removeAll(events);
+        boolean removed = false;
+        for (final SimEvent evt : events) {
+            removed |= remove(evt);
+        }
+
+        return removed;
     }
 
     public boolean removeIf(final Predicate<SimEvent> predicate) {
-        return eventList.removeIf(predicate);
+        boolean removed = false;
+        final var iterator = eventsByEntity.values().iterator();
+        while (iterator.hasNext()) {
+            final var eventList = iterator.next();
+            final int previousSize = eventList.size();
+            if (eventList.removeIf(predicate)) {
+                size -= previousSize - eventList.size();
+                removed = true;
+                if (eventList.isEmpty()) {
+                    iterator.remove();
+                }
+            }
+        }
+
+        if (removed) {
+            head = null;
+        }
+
+        return removed;
     }
 
     /**
      * Clears the queue removing all elements.
      */
     public void clear() {
-        eventList.clear();
+        eventsByEntity.clear();
+        size = 0;
+        head = null;
     }
 
     @Override
     public SimEvent first() throws NoSuchElementException {
-        if (eventList.isEmpty()) {
+        if (isEmpty()) {
             throw new NoSuchElementException("The Deferred Queue is empty.");
         }
 
-        return eventList.get(0);
+        if (head == null) {
+            head = findHead();
+        }
+
+        return head;
+    }
+
+    /**
+     * Finds the first event in the queue, which is the earliest
+     * event among the first events of each entity.
+     * Since the events of each entity are sorted, that requires
+     * traversing just the first event of each entity.
+     * Ties are solved by the entity order, as in {@link #stream()}.
+     *
+     * @return the first event in the queue
+     */
+    private SimEvent findHead() {
+        SimEvent first = null;
+        for (final var eventList : eventsByEntity.values()) {
+            final var evt = eventList.getFirst();
+            if (first == null || evt.getTime() < first.getTime()) {
+                first = evt;
+            }
+        }
+
+        return first;
     }
 }
@@ -0,0 +1,161 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.core.events;
+
+import org.cloudsimplus.core.CloudSimPlus;
+import org.cloudsimplus.core.SimEntity;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * An {@link EventQueue} that stores the events to be processed in a future simulation time.
+ * Implementations must keep events ordered according to {@link SimEvent#compareTo(SimEvent)},
+ * that is, by time, tag and serial number.
+ * Events are also indexed by {@link SimEvent#getSource() source entity} and {@link SimEvent#getTag() tag},
+ * so that finding, counting and removing events sent by a given entity
+ * doesn't require traversing the whole queue.
+ * Different implementations can be given to {@link CloudSimPlus#CloudSimPlus(double, FutureEventQueue)}
+ * to change the data structure used by the simulation engine.
+ *
+ * @since CloudSim Plus 8.5.0
+ * @see FutureQueue
+ * @see CalendarQueue
+ */
+public interface FutureEventQueue extends EventQueue {
+    /**
+     * Adds a new event to the head of the queue.
+     *
+     * @param newEvent The event to be put in the queue.
+     */
+    void addEventFirst(SimEvent newEvent);
+
+    /**
+     * Removes, in order, all the events at the head of the queue which happen at a given time,
+     * sending each one to a {@link Consumer} right after it's removed.
+     * If the Consumer adds new events to the queue happening at that same time,
+     * they are polled as well, in the same order they would be got
+     * by repeatedly calling {@link #first()} and {@link #remove(SimEvent)}.
+     *
+     * <p>That enables draining a batch of events happening at the same time
+     * with a single pass over the queue for each event.</p>
+     *
+     * @param time the time of the events to poll
+     * @param consumer the {@link Consumer} that will receive each polled event
+     * @return the number of polled events
+     */
+    int pollAll(double time, Consumer<SimEvent> consumer);
+
+    /**
+     * Removes the event from the queue.
+     *
+     * @param event the event
+     * @return true if successful; false if not event was removed
+     */
+    boolean remove(SimEvent event);
+
+    /**
+     * Removes all the events from the queue.
+     *
+     * @param events the events
+     * @return true if successful; false if not event was removed
+     */
+    boolean removeAll(Collection<SimEvent> events);
+
+    /**
+     * Removes all the events from the queue that match a given predicate.
+     *
+     * @param predicate the predicate to select the events to remove
+     * @return true if any event was removed; false otherwise
+     */
+    boolean removeIf(Predicate<SimEvent> predicate);
+
+    /**
+     * Removes all the events sent by a given entity with a given tag.
+     * That just requires traversing the events matching such parameters.
+     *
+     * @param source the entity that sent the events
+     * @param tag the tag of the events to remove
+     * @return true if any event was removed; false otherwise
+     */
+    boolean removeAll(SimEntity source, int tag);
+
+    /**
+     * Gets the first event (according to the queue order) sent by a given entity with a given tag.
+     * That just requires traversing the events matching such parameters.
+     *
+     * @param source the entity that sent the event
+     * @param tag the tag of the event to get
+     * @return the first event found or {@link SimEvent#NULL} if not found
+     */
+    SimEvent first(SimEntity source, int tag);
+
+    /**
+     * Gets a stream of the events sent by a given entity, in no particular order.
+     * That doesn't require traversing the events sent by other entities.
+     *
+     * @param source the entity that sent the events
+     * @return the stream of events sent by the entity
+     */
+    Stream<SimEvent> stream(SimEntity source);
+
+    /**
+     * Gets the number of events sent by a given entity with a given tag, in constant time.
+     *
+     * @param source the entity that sent the events
+     * @param tag the tag of the events to count
+     * @return the number of events matching the given parameters
+     */
+    int size(SimEntity source, int tag);
+
+    /**
+     * Gets the number of events with a given tag (sent by any entity),
+     * without traversing all events in the queue.
+     *
+     * @param tag the tag of the events to count
+     * @return the number of events with the given tag
+     */
+    int size(int tag);
+
+    /**
+     * Clears the queue.
+     */
+    void clear();
+
+    /**
+     * Gets the incremental number used for {@link SimEvent#getSerial()} event attribute,
+     * which represents the total number of events added by {@link #addEvent(SimEvent)}.
+     * @return
+     */
+    long getSerial();
+
+    /**
+     * Gets the maximum number of events that have ever existed at the same time
+     * inside the queue.
+     * @return
+     */
+    long getMaxEventsNumber();
+}
@@ -8,9 +8,8 @@
 
 package org.cloudsimplus.core.events;
 
-import lombok.Getter;
-
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -21,46 +20,43 @@ import java.util.stream.Stream;
  * as defined by {@link DeferredQueue} to improve performance
  * doesn't work for this queue.
  *
+ * <p>This is the default {@link FutureEventQueue} used by the simulation.
+ * For simulations with a large number of events, consider using a {@link CalendarQueue}.</p>
+ *
  * @author Marcos Dias de Assuncao
  * @author Manoel Campos da Silva Filho
  * @see java.util.TreeSet
  * @since CloudSim Toolkit 1.0
  */
-public class FutureQueue implements EventQueue {
+public class FutureQueue extends FutureQueueAbstract {
 
     /**
      * The sorted set of events.
      */
-    private final SortedSet<SimEvent> sortedSet = new TreeSet<>();
-
-    /** An incremental number used for {@link SimEvent#getSerial()} event attribute. */
-    @Getter
-    private long serial;
-
-    private long lowestSerial;
-
-    /**
-     * Maximum number of events that have ever existed at the same time
-     * inside the queue.
-     */
-    @Getter
-    private long maxEventsNumber;
+    private final NavigableSet<SimEvent> sortedSet = new TreeSet<>();
 
     @Override
-    public void addEvent(final SimEvent newEvent) {
-        newEvent.setSerial(serial++);
+    protected void addEventInternal(final SimEvent newEvent) {
         sortedSet.add(newEvent);
-        maxEventsNumber = Math.max(maxEventsNumber, sortedSet.size());
     }
 
-    /**
-     * Adds a new event to the head of the queue.
-     *
-     * @param newEvent The event to be put in the queue.
-     */
-    public void addEventFirst(final SimEvent newEvent) {
-        newEvent.setSerial(--lowestSerial);
-        sortedSet.add(newEvent);
+    @Override
+    public int pollAll(final double time, final Consumer<SimEvent> consumer) {
+        int count = 0;
+        SimEvent evt;
+        while ((evt = sortedSet.pollFirst()) != null) {
+            if (evt.getTime() != time) {
+                // The first event after the batch is put back, avoiding to call first() for every event
+                sortedSet.add(evt);
+                break;
+            }
+
+            unindex(evt);
+            consumer.accept(evt);
+            count++;
+        }
+
+        return count;
     }
 
     @Override
@@ -83,28 +79,26 @@ public class FutureQueue implements EventQueue {
         return sortedSet.isEmpty();
     }
 
-    /**
-     * Removes the event from the queue.
-     *
-     * @param event the event
-     * @return true if successful; false if not event was removed
-     */
+    @Override
     public boolean remove(final SimEvent event) {
-        return sortedSet.remove(event);
-    }
+        if (sortedSet.remove(event)) {
+            unindex(event);
+            return true;
+        }
 
-    /**
-     * Removes all the events from the queue.
-     *
-     * @param events the events
-     * @return true if successful; false if not event was removed
-     */
-    public boolean removeAll(final Collection<SimEvent> events) {
-        return sortedSet.removeAll(events);
+        return false;
     }
 
+    @Override
     public boolean removeIf(final Predicate<SimEvent> predicate){
-        return sortedSet.removeIf(predicate);
+        return sortedSet.removeIf(evt -> {
+            if (predicate.test(evt)) {
+                unindex(evt);
+                return true;
+            }
+
+            return false;
+        });
     }
 
     @Override
@@ -112,10 +106,9 @@ public class FutureQueue implements EventQueue {
         return sortedSet.first();
     }
 
-    /**
-     * Clears the queue.
-     */
+    @Override
     public void clear() {
         sortedSet.clear();
+        clearIndex();
     }
 }
@@ -0,0 +1,199 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.core.events;
+
+import lombok.Getter;
+import org.cloudsimplus.core.SimEntity;
+
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * A base class for implementing {@link FutureEventQueue}s,
+ * which defines the {@link SimEvent#getSerial() serial number} of added events
+ * and indexes them by source entity and tag.
+ * Subclasses must call {@link #unindex(SimEvent)} for every event they remove.
+ *
+ * @since CloudSim Plus 8.5.0
+ */
+public abstract class FutureQueueAbstract implements FutureEventQueue {
+    /** @see #getSerial() */
+    @Getter
+    private long serial;
+
+    private long lowestSerial;
+
+    /** @see #getMaxEventsNumber() */
+    @Getter
+    private long maxEventsNumber;
+
+    /**
+     * A map where each key is a source entity and the value is another map
+     * containing, for each event tag, the set of events sent by that entity.
+     * Events are compared by reference,
+     * since that is cheaper than computing {@link SimEvent#hashCode()}.
+     */
+    private final Map<SimEntity, Map<Integer, Set<SimEvent>>> eventsBySourceAndTag = new IdentityHashMap<>();
+
+    @Override
+    public void addEvent(final SimEvent newEvent) {
+        newEvent.setSerial(serial++);
+        addEventInternal(newEvent);
+        index(newEvent);
+        maxEventsNumber = Math.max(maxEventsNumber, size());
+    }
+
+    @Override
+    public void addEventFirst(final SimEvent newEvent) {
+        newEvent.setSerial(--lowestSerial);
+        addEventInternal(newEvent);
+        index(newEvent);
+    }
+
+    /**
+     * Actually adds a new event to the queue, after its serial number is set.
+     * @param newEvent The event to be put in the queue.
+     */
+    protected abstract void addEventInternal(SimEvent newEvent);
+
+    private void index(final SimEvent evt) {
+        eventsBySourceAndTag
+            .computeIfAbsent(evt.getSource(), source -> new HashMap<>())
+            .computeIfAbsent(evt.getTag(), tag -> Collections.newSetFromMap(new IdentityHashMap<>()))
+            .add(evt);
+    }
+
+    /**
+     * Removes an event from the source/tag index.
+     * Empty entries are removed from the index, so that it doesn't grow
+     * with every source/tag pair ever seen.
+     * It must be called by subclasses for every event removed from the queue.
+     * @param evt the removed event
+     */
+    protected void unindex(final SimEvent evt) {
+        final var eventsByTag = eventsBySourceAndTag.get(evt.getSource());
+        if (eventsByTag == null) {
+            return;
+        }
+
+        final var events = eventsByTag.get(evt.getTag());
+        if (events == null || !events.remove(evt) || !events.isEmpty()) {
+            return;
+        }
+
+        eventsByTag.remove(evt.getTag());
+        if (eventsByTag.isEmpty()) {
+            eventsBySourceAndTag.remove(evt.getSource());
+        }
+    }
+
+    /**
+     * Gets the number of source/tag pairs in the index, just for testing purposes.
+     * @return the number of indexed source/tag pairs
+     */
+    int getIndexedSourceTagPairs() {
+        int count = 0;
+        for (final var eventsByTag : eventsBySourceAndTag.values()) {
+            count += eventsByTag.size();
+        }
+
+        return count;
+    }
+
+    /**
+     * Removes all events from the source/tag index.
+     * It must be called by subclasses when the queue is cleared.
+     */
+    protected void clearIndex() {
+        eventsBySourceAndTag.clear();
+    }
+
+    private Set<SimEvent> indexedEvents(final SimEntity source, final int tag) {
+        final var eventsByTag = eventsBySourceAndTag.get(source);
+        if (eventsByTag == null) {
+            return Set.of();
+        }
+
+        return eventsByTag.getOrDefault(tag, Set.of());
+    }
+
+    @Override
+    public boolean removeAll(final Collection<SimEvent> events) {
+        boolean removed = false;
+        for (final SimEvent evt : events) {
+            removed |= remove(evt);
+        }
+
+        return removed;
+    }
+
+    @Override
+    public boolean removeAll(final SimEntity source, final int tag) {
+        final var events = indexedEvents(source, tag);
+        if (events.isEmpty()) {
+            return false;
+        }
+
+        // Copies the events since the set is changed when each event is removed
+        return removeAll(new ArrayList<>(events));
+    }
+
+    @Override
+    public SimEvent first(final SimEntity source, final int tag) {
+        SimEvent first = SimEvent.NULL;
+        for (final SimEvent evt : indexedEvents(source, tag)) {
+            if (first == SimEvent.NULL || evt.compareTo(first) < 0) {
+                first = evt;
+            }
+        }
+
+        return first;
+    }
+
+    @Override
+    public Stream<SimEvent> stream(final SimEntity source) {
+        final var eventsByTag = eventsBySourceAndTag.get(source);
+        if (eventsByTag == null) {
+            return Stream.empty();
+        }
+
+        return eventsByTag.values().stream().flatMap(Set::stream);
+    }
+
+    @Override
+    public int size(final SimEntity source, final int tag) {
+        return indexedEvents(source, tag).size();
+    }
+
+    @Override
+    public int size(final int tag) {
+        int count = 0;
+        for (final var eventsByTag : eventsBySourceAndTag.values()) {
+            final var events = eventsByTag.get(tag);
+            count += events == null ? 0 : events.size();
+        }
+
+        return count;
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.core.events;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Setter;
+import org.cloudsimplus.core.CloudSimTag;
+import org.cloudsimplus.core.SimEntity;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+
+/**
+ * A pool of {@link CloudSimEvent}s that enables reusing events after they are processed,
+ * instead of allocating a new object for every event sent.
+ * It's intended to reduce the allocation rate of high-frequency internal events,
+ * such as {@link CloudSimTag#VM_UPDATE_CLOUDLET_PROCESSING} and {@link CloudSimTag#POWER_MEASUREMENT}.
+ * Just events with one of the {@link #getTags() pooled tags} are got from the pool.
+ *
+ * <p>An event is returned to the pool right after its destination entity
+ * finishes processing it. Therefore, entities and listeners <b>must not</b>
+ * keep references to pooled events after that.
+ * To detect such an unsafe retention, enable the {@link #setDebug(boolean) debug mode}.
+ * In that mode, recycled events are not reused, but invalidated,
+ * so that accessing them throws an {@link IllegalStateException}.</p>
+ *
+ * @since CloudSim Plus 8.5.0
+ */
+public final class SimEventPool {
+    /**
+     * Default tags of the events that are got from the pool.
+     */
+    public static final Set<Integer> DEF_TAGS = Set.of(CloudSimTag.VM_UPDATE_CLOUDLET_PROCESSING, CloudSimTag.POWER_MEASUREMENT);
+
+    /**
+     * Default value for {@link #getMaxSize()}.
+     */
+    public static final int DEF_MAX_SIZE = 10_000;
+
+    private final Deque<CloudSimEvent> freeEvents;
+
+    /**
+     * The tags of the events that are got from the pool.
+     * Events with other tags are always created from scratch.
+     */
+    @Getter
+    private final Set<Integer> tags;
+
+    /**
+     * The maximum number of free events kept in the pool.
+     * Events recycled when the pool is full are just discarded.
+     */
+    @Getter
+    private final int maxSize;
+
+    /**
+     * Indicates if recycled events are invalidated instead of reused,
+     * to detect when they are unsafely retained after processed.
+     */
+    @Getter @Setter
+    private boolean debug;
+
+    /** The number of events created from scratch because there was no free event in the pool. */
+    @Getter
+    private long createdEvents;
+
+    /** The number of events got from the pool instead of being created from scratch. */
+    @Getter
+    private long reusedEvents;
+
+    /**
+     * Creates a pool for the events having one of the {@link #DEF_TAGS default tags}.
+     */
+    public SimEventPool() {
+        this(DEF_TAGS);
+    }
+
+    /**
+     * Creates a pool for the events having one of the given tags.
+     * @param tags the tags of the events that are got from the pool
+     */
+    public SimEventPool(final Set<Integer> tags) {
+        this(tags, DEF_MAX_SIZE);
+    }
+
+    /**
+     * Creates a pool for the events having one of the given tags.
+     * @param tags the tags of the events that are got from the pool
+     * @param maxSize the maximum number of free events kept in the pool
+     */
+    public SimEventPool(@NonNull final Set<Integer> tags, final int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("The max pool size must be greater than zero.");
+        }
+
+        this.tags = Set.copyOf(tags);
+        this.maxSize = maxSize;
+        this.freeEvents = new ArrayDeque<>();
+    }
+
+    /**
+     * Gets a {@link SimEvent.Type#SEND} event from the pool if its tag is one of the {@link #getTags() pooled tags}
+     * and there is a free event; otherwise, creates a new one.
+     * It is synchronized because entities may create events from multiple threads,
+     * such as when a {@link org.cloudsimplus.datacenters.Datacenter} updates its Hosts in parallel.
+     *
+     * @param delay how many seconds after the current simulation time the event should be scheduled
+     * @param source the source entity which is sending the message
+     * @param destination the destination entity which has to receive the message
+     * @param tag the tag that identifies the type of the message
+     * @param data the data attached to the message, that depends on the message tag
+     * @return the event
+     */
+    public synchronized SimEvent acquire(
+        final double delay, final SimEntity source,
+        final SimEntity destination, final int tag, final Object data)
+    {
+        if (!tags.contains(tag)) {
+            return new CloudSimEvent(delay, source, destination, tag, data);
+        }
+
+        final CloudSimEvent evt = freeEvents.pollLast();
+        if (evt == null) {
+            createdEvents++;
+            final var newEvent = new CloudSimEvent(delay, source, destination, tag, data);
+            newEvent.pooled = true;
+            return newEvent;
+        }
+
+        reusedEvents++;
+        evt.free = false;
+        return evt.init(SimEvent.Type.SEND, delay, source, destination, tag, data);
+    }
+
+    /**
+     * Returns an event to the pool after it was processed, so that it can be reused.
+     * Events not got from this pool are just ignored.
+     *
+     * @param evt the event to return to the pool
+     * @return true if the event was recycled, false otherwise
+     */
+    public synchronized boolean release(final SimEvent evt) {
+        if (!(evt instanceof CloudSimEvent cloudSimEvent) || !cloudSimEvent.pooled || cloudSimEvent.recycled || cloudSimEvent.free) {
+            return false;
+        }
+
+        if (debug) {
+            cloudSimEvent.recycled = true;
+            return true;
+        }
+
+        if (freeEvents.size() < maxSize) {
+            cloudSimEvent.clear();
+            cloudSimEvent.free = true;
+            freeEvents.addLast(cloudSimEvent);
+        }
+
+        return true;
+    }
+
+    /**
+     * Gets the number of free events currently in the pool.
+     * @return
+     */
+    public int size() {
+        return freeEvents.size();
+    }
+}
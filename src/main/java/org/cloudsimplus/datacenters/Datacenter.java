@@ -9,6 +9,7 @@ package org.cloudsimplus.datacenters;
 
 import org.cloudsimplus.allocationpolicies.VmAllocationPolicy;
 import org.cloudsimplus.allocationpolicies.migration.VmAllocationPolicyMigration;
+import org.cloudsimplus.brokers.DatacenterBroker;
 import org.cloudsimplus.core.SimEntity;
 import org.cloudsimplus.core.Sizeable;
 import org.cloudsimplus.hosts.Host;
@@ -53,6 +54,14 @@ public interface Datacenter extends SimEntity, PowerAware<PowerModelDatacenter>,
      */
     double DEF_BW_PERCENT_FOR_MIGRATION = 0.5;
 
+    /**
+     * The default minimum number of Hosts a Datacenter must have
+     * to update their processing in parallel, when such a feature is enabled.
+     * @see #enableParallelHostsUpdate()
+     * @see #setParallelHostsUpdateThreshold(int)
+     */
+    int DEF_PARALLEL_HOSTS_UPDATE_THRESHOLD = 1000;
+
     /**
      * Sends an event to request the migration of a {@link Vm} to a given target {@link Host}
      * on this Datacenter.
@@ -122,6 +131,17 @@ public interface Datacenter extends SimEntity, PowerAware<PowerModelDatacenter>,
      */
     Host getHostById(long id);
 
+    /**
+     * Gets a VM placed into some Host of this Datacenter from its id.
+     * Since VM ids are unique just among the VMs of the same broker,
+     * the broker owning the VM must be given.
+     *
+     * @param broker the broker owning the VM
+     * @param id the ID of the VM to get
+     * @return the VM if found or {@link Vm#NULL} otherwise
+     */
+    Vm getVmById(DatacenterBroker broker, long id);
+
     /**
      * Physically expands the Datacenter by adding a List of new Hosts (physical machines) to it.
      * Hosts can be added before or after the simulation has started.
@@ -289,6 +309,111 @@ public interface Datacenter extends SimEntity, PowerAware<PowerModelDatacenter>,
      */
     Datacenter disableMigrations();
 
+    /**
+     * Checks if the processing of Hosts is updated in parallel.
+     *
+     * @return true if parallel update is enabled; false otherwise
+     * @see #enableParallelHostsUpdate()
+     */
+    boolean isParallelHostsUpdateEnabled();
+
+    /**
+     * Enables the processing of Hosts to be updated in parallel (which is disabled by default),
+     * using the {@link java.util.concurrent.ForkJoinPool#commonPool() common fork-join pool}.
+     * Since Hosts are independent of each other while their processing is updated,
+     * that may largely reduce the simulation time for Datacenters with thousands of Hosts.
+     *
+     * <p>The results are exactly the same of the sequential update:
+     * events sent while updating a Host are just actually sent after all Hosts are updated,
+     * in the same order they would be sent by the sequential update.
+     * Hosts are still updated sequentially when:
+     * <ul>
+     *     <li>the number of Hosts is lower than the {@link #getParallelHostsUpdateThreshold() threshold};</li>
+     *     <li>there is any listener attached to Hosts, VMs, Cloudlet Schedulers or Cloudlets,
+     *     since listeners may run arbitrary code that changes the state shared among entities;</li>
+     *     <li>any Cloudlet uses a {@link org.cloudsimplus.utilizationmodels.UtilizationModel}
+     *     that keeps a state across calls (such as a
+     *     {@link org.cloudsimplus.utilizationmodels.UtilizationModelDynamic}),
+     *     since a single instance may be shared among Cloudlets running in different Hosts.</li>
+     * </ul>
+     * </p>
+     * @return
+     */
+    Datacenter enableParallelHostsUpdate();
+
+    /**
+     * Disables the parallel update of Hosts processing.
+     * @return
+     * @see #enableParallelHostsUpdate()
+     */
+    Datacenter disableParallelHostsUpdate();
+
+    /**
+     * Gets the minimum number of Hosts the Datacenter must have
+     * to update their processing in parallel, when such a feature is enabled.
+     * For fewer Hosts, the overhead of parallelization doesn't pay off.
+     * @return
+     * @see #enableParallelHostsUpdate()
+     */
+    int getParallelHostsUpdateThreshold();
+
+    /**
+     * Sets the minimum number of Hosts the Datacenter must have
+     * to update their processing in parallel, when such a feature is enabled.
+     * @param threshold the minimum number of Hosts to set
+     * @return
+     * @see #enableParallelHostsUpdate()
+     */
+    Datacenter setParallelHostsUpdateThreshold(int threshold);
+
+    /**
+     * Checks if the adaptive scheduling of Cloudlets processing updates is enabled.
+     *
+     * @return true if adaptive scheduling is enabled; false otherwise
+     * @see #enableAdaptiveScheduling()
+     */
+    boolean isAdaptiveSchedulingEnabled();
+
+    /**
+     * Enables the adaptive scheduling of Cloudlets processing updates (which is disabled by default).
+     * The processing is usually updated at every {@link #getSchedulingInterval()},
+     * even when nothing changes between such updates.
+     * When adaptive scheduling is enabled, the next update is scheduled just for the
+     * next time something may change: when the next Cloudlet is expected to finish
+     * or the utilization of some running Cloudlet may change,
+     * according to {@link org.cloudsimplus.utilizationmodels.UtilizationModel#getNextUtilizationChangeTime(double)}
+     * (such as the sample boundaries of a {@link org.cloudsimplus.utilizationmodels.UtilizationModelPlanetLab}).
+     * That skips empty intervals, which may largely reduce the simulation time for long-running Cloudlets.
+     * Since the processing is updated fewer times, finish times may slightly differ
+     * from the ones got when updating at every interval.
+     *
+     * <p>The CPU utilization statistics of Hosts and VMs are still collected
+     * for every skipped interval, since the utilization doesn't change in the meantime.
+     * If all Datacenters enable adaptive scheduling and there is no clock tick listener,
+     * the simulation also doesn't wait the termination time by increments of the scheduling interval.
+     * The scheduling interval is still used if, for any running Host:
+     * <ul>
+     *     <li>there is any listener attached to it, its VMs, Cloudlet Schedulers or running Cloudlets,
+     *     since listeners expect to be notified at every interval;</li>
+     *     <li>its state history is enabled, it has an idle shutdown deadline or VMs migrating;</li>
+     *     <li>any running Cloudlet has an utilization model which cannot predict when its utilization changes
+     *     (such as a {@link org.cloudsimplus.utilizationmodels.UtilizationModelDynamic});</li>
+     * </ul>
+     * or if {@link #isMigrationsEnabled() migrations are enabled} (which requires a {@link org.cloudsimplus.allocationpolicies.VmAllocationPolicy}
+     * that supports migration, such as a {@link org.cloudsimplus.allocationpolicies.migration.VmAllocationPolicyMigration}),
+     * since over and underloaded Hosts are checked at every interval.
+     * </p>
+     * @return
+     */
+    Datacenter enableAdaptiveScheduling();
+
+    /**
+     * Disables the adaptive scheduling of Cloudlets processing updates.
+     * @return
+     * @see #enableAdaptiveScheduling()
+     */
+    Datacenter disableAdaptiveScheduling();
+
     /**
      * Gets the time interval before trying to find suitable Hosts to migrate VMs
      * from an under or overload Host again.
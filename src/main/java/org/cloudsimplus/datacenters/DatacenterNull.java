@@ -24,6 +24,7 @@
 package org.cloudsimplus.datacenters;
 
 import org.cloudsimplus.allocationpolicies.VmAllocationPolicy;
+import org.cloudsimplus.brokers.DatacenterBroker;
 import org.cloudsimplus.core.SimEntity;
 import org.cloudsimplus.core.SimEntityNullBase;
 import org.cloudsimplus.hosts.Host;
@@ -62,6 +63,7 @@ final class DatacenterNull implements Datacenter, SimEntityNullBase {
     @Override public long getActiveHostsNumber() { return 0; }
     @Override public long size() { return 0; }
     @Override public Host getHostById(long id) { return Host.NULL; }
+    @Override public Vm getVmById(DatacenterBroker broker, long id) { return Vm.NULL; }
     @Override public <T extends Host> Datacenter addHostList(List<T> hostList) { return this; }
     @Override public <T extends Host> Datacenter removeHost(T host) { return this; }
     @Override public Datacenter addHost(Host host) { return this; }
@@ -78,6 +80,14 @@ final class DatacenterNull implements Datacenter, SimEntityNullBase {
     @Override public boolean isMigrationsEnabled() { return false; }
     @Override public Datacenter enableMigrations() { return this; }
     @Override public Datacenter disableMigrations() { return this; }
+    @Override public boolean isParallelHostsUpdateEnabled() { return false; }
+    @Override public Datacenter enableParallelHostsUpdate() { return this; }
+    @Override public Datacenter disableParallelHostsUpdate() { return this; }
+    @Override public int getParallelHostsUpdateThreshold() { return 0; }
+    @Override public Datacenter setParallelHostsUpdateThreshold(int threshold) { return this; }
+    @Override public boolean isAdaptiveSchedulingEnabled() { return false; }
+    @Override public Datacenter enableAdaptiveScheduling() { return this; }
+    @Override public Datacenter disableAdaptiveScheduling() { return this; }
     @Override public double getHostSearchRetryDelay() { return 0; }
     @Override public Datacenter setHostSearchRetryDelay(double delay) { return this; }
     @Override public String toString() { return "Datacenter.NULL"; }
@@ -11,18 +11,25 @@ import org.cloudsimplus.allocationpolicies.VmAllocationPolicy;
 import org.cloudsimplus.allocationpolicies.VmAllocationPolicySimple;
 import org.cloudsimplus.allocationpolicies.migration.VmAllocationPolicyMigration;
 import org.cloudsimplus.autoscaling.VerticalVmScaling;
+import org.cloudsimplus.brokers.DatacenterBroker;
 import org.cloudsimplus.cloudlets.Cloudlet;
+import org.cloudsimplus.cloudlets.CloudletAbstract;
+import org.cloudsimplus.cloudlets.CloudletExecution;
+import org.cloudsimplus.cloudlets.network.NetworkCloudlet;
 import org.cloudsimplus.core.CloudSimEntity;
 import org.cloudsimplus.core.CloudSimTag;
 import org.cloudsimplus.core.CustomerEntityAbstract;
 import org.cloudsimplus.core.Simulation;
+import org.cloudsimplus.core.UniquelyIdentifiable;
 import org.cloudsimplus.core.events.PredicateType;
 import org.cloudsimplus.core.events.SimEvent;
 import org.cloudsimplus.datacenters.DatacenterCharacteristics.Distribution;
 import org.cloudsimplus.faultinjection.HostFaultInjection;
 import org.cloudsimplus.hosts.Host;
+import org.cloudsimplus.hosts.HostAbstract;
 import org.cloudsimplus.hosts.HostSimple;
 import org.cloudsimplus.hosts.HostSuitability;
+import org.cloudsimplus.hosts.network.NetworkHost;
 import org.cloudsimplus.listeners.DatacenterVmMigrationEventInfo;
 import org.cloudsimplus.listeners.EventListener;
 import org.cloudsimplus.listeners.HostEventInfo;
@@ -31,19 +38,22 @@ import org.cloudsimplus.power.models.PowerModelDatacenter;
 import org.cloudsimplus.power.models.PowerModelDatacenterSimple;
 import org.cloudsimplus.resources.DatacenterStorage;
 import org.cloudsimplus.resources.SanStorage;
+import org.cloudsimplus.schedulers.cloudlet.CloudletSchedulerAbstract;
 import org.cloudsimplus.util.Conversion;
 import org.cloudsimplus.util.InvalidEventDataTypeException;
 import org.cloudsimplus.util.MathUtil;
+import org.cloudsimplus.utilizationmodels.UtilizationModel;
 import org.cloudsimplus.vms.Vm;
 import org.cloudsimplus.vms.VmAbstract;
 
 import java.util.*;
+import java.util.function.DoubleSupplier;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.function.Predicate.not;
-import static java.util.stream.Collectors.toList;
 import static org.cloudsimplus.datacenters.DatacenterCharacteristics.Distribution.PRIVATE;
 import static org.cloudsimplus.util.BytesConversion.bitsToBytes;
 
@@ -69,6 +79,41 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
 
     private List<? extends Host> hostList;
 
+    /**
+     * Maps each Host to its position in the {@link #hostList}.
+     */
+    private final Map<Host, Integer> hostPositions;
+
+    /**
+     * Maps each Host id to the first Host with such an id in the {@link #hostList}.
+     * @see #getHostById(long)
+     */
+    private final Map<Long, Host> hostsById;
+
+    /**
+     * Maps the {@link Vm#getUid() UID} of VMs placed into Hosts of this Datacenter to the VM itself.
+     * Since VMs are placed and removed by many parts of the code (such as allocation policies
+     * that temporarily place VMs to simulate a migration plan), the map is just rebuilt
+     * on demand when some VM is added to a Host, and each VM got from it is validated.
+     * @see #getVmById(DatacenterBroker, long)
+     */
+    private final Map<String, Vm> vmsByUid;
+
+    /**
+     * Indicates if the {@link #vmsByUid} map must be rebuilt
+     * because some VM may have been added to some Host.
+     */
+    private boolean vmsByUidOutdated;
+
+    /**
+     * An index of the Hosts which must have their processing updated,
+     * where each set bit is the position of a Host in the {@link #hostList}.
+     * It includes Hosts with VMs (including migrating ones),
+     * so that idle Hosts (usually powered off) are not updated at all.
+     * @see HostAbstract#isProcessingUpdateRequired()
+     */
+    private final BitSet hostsToUpdate;
+
     @Getter
     private long activeHostsNumber;
 
@@ -103,6 +148,21 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
      */
     private boolean migrationsEnabled;
 
+    /**
+     * Indicates if the processing of Hosts is updated in parallel or not.
+     * @see #enableParallelHostsUpdate()
+     */
+    private boolean parallelHostsUpdateEnabled;
+
+    @Getter
+    private int parallelHostsUpdateThreshold;
+
+    /**
+     * Indicates if Cloudlets processing updates are scheduled just for when something may change.
+     * @see #enableAdaptiveScheduling()
+     */
+    private boolean adaptiveSchedulingEnabled;
+
     @Getter
     private double bandwidthPercentForMigration;
 
@@ -192,6 +252,10 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         final DatacenterStorage storage)
     {
         super(simulation);
+        this.hostPositions = new IdentityHashMap<>();
+        this.hostsById = new HashMap<>();
+        this.vmsByUid = new HashMap<>();
+        this.hostsToUpdate = new BitSet();
         setHostList(hostList);
         setLastProcessTime(0.0);
         setSchedulingInterval(0);
@@ -203,6 +267,7 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         this.characteristics = new DatacenterCharacteristicsSimple(this);
         this.bandwidthPercentForMigration = DEF_BW_PERCENT_FOR_MIGRATION;
         this.migrationsEnabled = true;
+        this.parallelHostsUpdateThreshold = DEF_PARALLEL_HOSTS_UPDATE_THRESHOLD;
         this.hostSearchRetryDelay = -1;
 
         this.lastMigrationMap = Collections.emptyMap();
@@ -220,6 +285,71 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         for (final Host host : hostList) {
             lastHostId = setupHost(host, lastHostId);
         }
+
+        indexHosts();
+    }
+
+    /**
+     * Rebuilds the index of Host positions in the {@link #hostList},
+     * marking all Hosts to be updated in the next processing update.
+     */
+    private void indexHosts() {
+        hostPositions.clear();
+        hostsById.clear();
+        hostsToUpdate.clear();
+        for (int i = 0; i < hostList.size(); i++) {
+            indexHost(hostList.get(i), i);
+        }
+
+        vmsByUidOutdated = true;
+    }
+
+    /**
+     * Adds a Host to the indexes of Hosts, marking it to be updated in the next processing update.
+     * @param host the Host to index
+     * @param position the position of the Host in the {@link #hostList}
+     */
+    private void indexHost(final Host host, final int position) {
+        hostPositions.put(host, position);
+        hostsById.putIfAbsent(host.getId(), host);
+        hostsToUpdate.set(position);
+    }
+
+    /**
+     * Ensures the index of Host positions is consistent with the {@link #hostList},
+     * since such a list may have been changed directly by the developer.
+     */
+    private void checkHostsIndex() {
+        if (hostPositions.size() != hostList.size()) {
+            indexHosts();
+        }
+    }
+
+    /**
+     * Requests the processing of a Host to be updated in the next Datacenter processing updates,
+     * since something changed in the Host (such as a new VM placed into it).
+     * The Host stops being updated as soon as the update is not
+     * {@link HostAbstract#isProcessingUpdateRequired() required} anymore.
+     * This method is used internally by Hosts.
+     *
+     * @param host the Host to update
+     */
+    public void requestHostProcessingUpdate(final Host host) {
+        final Integer position = hostPositions.get(host);
+        if (position != null) {
+            hostsToUpdate.set(position);
+            vmsByUidOutdated = true;
+        }
+    }
+
+    /**
+     * Removes a Host from the index of Hosts to update, if its processing update is not required anymore.
+     * @param position the position of the Host in the {@link #hostList}
+     */
+    private void updateHostsToUpdateIndex(final int position) {
+        if (hostList.get(position) instanceof HostAbstract host && !host.isProcessingUpdateRequired()) {
+            hostsToUpdate.clear(position);
+        }
     }
 
     private long getLastHostId() {
@@ -360,6 +490,8 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
             case CloudSimTag.CLOUDLET_SUBMIT -> processCloudletSubmit(evt, false);
             // New Cloudlet arrives, but the sender asks for an ack
             case CloudSimTag.CLOUDLET_SUBMIT_ACK -> processCloudletSubmit(evt, true);
+            // A List of new Cloudlets arrives at once
+            case CloudSimTag.CLOUDLET_SUBMIT_LIST -> processCloudletSubmitList(evt);
             // Cancels a previously submitted Cloudlet
             case CloudSimTag.CLOUDLET_CANCEL -> processCloudlet(evt, CloudSimTag.CLOUDLET_CANCEL);
             // Pauses a previously submitted Cloudlet
@@ -437,6 +569,39 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         throw new InvalidEventDataTypeException(evt, "CLOUDLET_SUBMIT Tags", Cloudlet.class.getName());
     }
 
+    /**
+     * Processes the submission of a List of Cloudlets at once by a DatacenterBroker.
+     * Each Cloudlet is submitted to its VM just as in {@link #processCloudletSubmit(SimEvent, boolean)},
+     * but a single Cloudlets processing update is scheduled for all Cloudlets
+     * expected to require an update at the same time.
+     *
+     * @param evt information about the event just happened
+     * @return true if the event was processed, false otherwise
+     * @see CloudSimTag#CLOUDLET_SUBMIT_LIST
+     */
+    protected boolean processCloudletSubmitList(final SimEvent evt) {
+        if (evt.getData() instanceof List<?> cloudletList){
+            final var updateDelays = new TreeSet<Double>();
+            for (final Object data : cloudletList) {
+                final var cloudlet = (Cloudlet) data;
+                if (cloudlet.isFinished()) {
+                    notifyBrokerAboutAlreadyFinishedCloudlet(cloudlet, false);
+                    continue;
+                }
+
+                final double updateDelay = submitCloudletToScheduler(cloudlet);
+                if (updateDelay >= 0) {
+                    updateDelays.add(updateDelay);
+                }
+            }
+
+            updateDelays.forEach(delay -> send(this, delay, CloudSimTag.VM_UPDATE_CLOUDLET_PROCESSING));
+            return true;
+        }
+
+        throw new InvalidEventDataTypeException(evt, "CLOUDLET_SUBMIT_LIST", List.class.getName());
+    }
+
     /**
      * Submits a cloudlet to be executed inside its bind VM.
      *
@@ -445,20 +610,34 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
      * receives the cloudlet submission
      */
     private void submitCloudletToVm(final Cloudlet cloudlet, final boolean ack) {
+        final double updateDelay = submitCloudletToScheduler(cloudlet);
+        if (updateDelay >= 0) {
+            send(this, updateDelay, CloudSimTag.VM_UPDATE_CLOUDLET_PROCESSING);
+        }
+
+        sendCloudletSubmitAckToBroker(cloudlet, ack);
+    }
+
+    /**
+     * Submits a cloudlet to the {@link org.cloudsimplus.schedulers.cloudlet.CloudletScheduler} of its bind VM.
+     *
+     * @param cloudlet the cloudlet to the executed
+     * @return the delay for the next Cloudlets processing update required by the submitted Cloudlet,
+     *         or a negative value if the Cloudlet isn't executing yet (so that no update is required)
+     */
+    private double submitCloudletToScheduler(final Cloudlet cloudlet) {
         final double fileTransferTime = getDatacenterStorage().predictFileTransferTime(cloudlet.getRequiredFiles());
 
         final var scheduler = cloudlet.getVm().getCloudletScheduler();
         final double estimatedFinishTime = scheduler.cloudletSubmit(cloudlet, fileTransferTime);
+        ((CustomerEntityAbstract)cloudlet).setCreationTime();
 
         // if this cloudlet is in the exec queue
         if (estimatedFinishTime > 0.0 && !Double.isInfinite(estimatedFinishTime)) {
-            send(this,
-                getCloudletProcessingUpdateInterval(estimatedFinishTime),
-                CloudSimTag.VM_UPDATE_CLOUDLET_PROCESSING);
+            return getCloudletProcessingUpdateInterval(estimatedFinishTime, () -> getNextUtilizationChangeDelay(cloudlet));
         }
 
-        ((CustomerEntityAbstract)cloudlet).setCreationTime();
-        sendCloudletSubmitAckToBroker(cloudlet, ack);
+        return -1;
     }
 
     /**
@@ -491,6 +670,139 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         return Math.min(nextFinishingCloudletTime, delay);
     }
 
+    /**
+     * Gets the time when the next update of cloudlets has to be performed,
+     * considering the {@link #enableAdaptiveScheduling() adaptive scheduling} when enabled.
+     * In such a case, the update is scheduled for the minimum value between the given time
+     * and the next time the utilization of running Cloudlets may change.
+     *
+     * @param nextFinishingCloudletTime the predicted completion time of the earliest finishing cloudlet
+     * (which is a relative delay from the current simulation time)
+     * @param nextUtilizationChangeDelay a {@link DoubleSupplier} that gives the delay
+     *        for the next change in the utilization of running Cloudlets,
+     *        or 0 if it may change at any time
+     * @return next time cloudlets processing will be updated (a relative delay from the current simulation time)
+     * @see #getCloudletProcessingUpdateInterval(double)
+     */
+    private double getCloudletProcessingUpdateInterval(
+        final double nextFinishingCloudletTime, final DoubleSupplier nextUtilizationChangeDelay)
+    {
+        /* If the VmAllocationPolicy migrates VMs, Hosts must be checked at every interval.
+         * The migrationsEnabled flag alone isn't checked, since it's enabled by default. */
+        if (!adaptiveSchedulingEnabled || schedulingInterval == 0 || isMigrationsEnabled()) {
+            return getCloudletProcessingUpdateInterval(nextFinishingCloudletTime);
+        }
+
+        final double delay = nextUtilizationChangeDelay.getAsDouble();
+        return delay > 0 ? Math.min(nextFinishingCloudletTime, delay) : getCloudletProcessingUpdateInterval(nextFinishingCloudletTime);
+    }
+
+    /**
+     * Gets the delay for the next time the utilization of any Cloudlet running in Hosts of this Datacenter may change.
+     * @return the delay (relative to the current time) for the next utilization change,
+     *         {@link Double#MAX_VALUE} if utilization never changes,
+     *         or 0 if it may change at any time (or the Hosts must be updated at every scheduling interval anyway)
+     * @see #enableAdaptiveScheduling()
+     */
+    private double getNextUtilizationChangeDelay() {
+        double delay = Double.MAX_VALUE;
+        for (int i = hostsToUpdate.nextSetBit(0); i >= 0 && delay > 0; i = hostsToUpdate.nextSetBit(i + 1)) {
+            delay = Math.min(delay, getNextUtilizationChangeDelay(hostList.get(i)));
+        }
+
+        return delay;
+    }
+
+    /**
+     * Gets the delay for the next time the utilization of any Cloudlet running in a given Host may change.
+     * @param host the Host to check
+     * @return the delay (relative to the current time) for the next utilization change,
+     *         {@link Double#MAX_VALUE} if utilization never changes,
+     *         or 0 if it may change at any time (or the Host must be updated at every scheduling interval anyway)
+     */
+    private double getNextUtilizationChangeDelay(final Host host) {
+        if (!(host instanceof HostAbstract hostAbstract) || host instanceof NetworkHost ||
+            hostAbstract.hasProcessingListeners() || host.isStateHistoryEnabled() ||
+            host.getIdleShutdownDeadline() >= 0 || !host.getVmsMigratingIn().isEmpty())
+        {
+            return 0;
+        }
+
+        double delay = Double.MAX_VALUE;
+        for (final Vm vm : host.getVmList()) {
+            if (!(vm instanceof VmAbstract vmAbstract) || !vmAbstract.getOnUpdateProcessingListeners().isEmpty() ||
+                !(vm.getCloudletScheduler() instanceof CloudletSchedulerAbstract scheduler) ||
+                scheduler.hasProcessingListeners())
+            {
+                return 0;
+            }
+
+            for (final CloudletExecution cle : scheduler.getCloudletExecList()) {
+                delay = Math.min(delay, getNextUtilizationChangeDelay(cle.getCloudlet()));
+                if (delay == 0) {
+                    return 0;
+                }
+            }
+        }
+
+        return delay;
+    }
+
+    /**
+     * Gets the delay for the next time the utilization of a given Cloudlet may change.
+     * @param cloudlet the Cloudlet to check
+     * @return the delay (relative to the current time) for the next utilization change,
+     *         {@link Double#MAX_VALUE} if utilization never changes,
+     *         or 0 if it may change at any time (or the Cloudlet has listeners to be notified at every scheduling interval)
+     */
+    private double getNextUtilizationChangeDelay(final Cloudlet cloudlet) {
+        if (!(cloudlet instanceof CloudletAbstract cloudletAbstract) ||
+            cloudlet instanceof NetworkCloudlet || cloudletAbstract.hasProcessingListeners())
+        {
+            return 0;
+        }
+
+        final double time = clock();
+        final double changeTime = Math.min(
+            cloudlet.getUtilizationModelCpu().getNextUtilizationChangeTime(time),
+            Math.min(cloudlet.getUtilizationModelRam().getNextUtilizationChangeTime(time),
+                     cloudlet.getUtilizationModelBw().getNextUtilizationChangeTime(time)));
+
+        if (changeTime <= time) {
+            return 0;
+        }
+
+        return changeTime == Double.MAX_VALUE ? Double.MAX_VALUE : changeTime - time;
+    }
+
+    /**
+     * Collects the CPU utilization statistics of busy Hosts and VMs for every scheduling interval
+     * skipped since the last processing update, due to the {@link #enableAdaptiveScheduling() adaptive scheduling}.
+     * Since the utilization doesn't change in the meantime, the statistics are the same
+     * as if the processing was updated at every interval.
+     */
+    private void addSkippedUtilizationSamples() {
+        final double lastIntervalTime = (Math.ceil(clock() / schedulingInterval) - 1) * schedulingInterval;
+        final int samples = (int)(lastIntervalTime / schedulingInterval - Math.floor(lastProcessTime / schedulingInterval));
+        if (samples <= 0) {
+            return;
+        }
+
+        for (int i = hostsToUpdate.nextSetBit(0); i >= 0; i = hostsToUpdate.nextSetBit(i + 1)) {
+            final Host host = hostList.get(i);
+            if (host.getVmList().isEmpty()) {
+                continue;
+            }
+
+            host.getCpuUtilizationStats().addSkippedSamples(samples, lastIntervalTime);
+            for (final Vm vm : host.getVmList()) {
+                if (!vm.getCloudletScheduler().isEmpty()) {
+                    vm.getCpuUtilizationStats().addSkippedSamples(samples, lastIntervalTime);
+                }
+            }
+        }
+    }
+
     private double clock() {
         return getSimulation().clock();
     }
@@ -506,7 +818,7 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
 
         if (estimatedFinishTime > 0.0 && estimatedFinishTime > clock()) {
             schedule(this,
-                getCloudletProcessingUpdateInterval(estimatedFinishTime),
+                getCloudletProcessingUpdateInterval(estimatedFinishTime, () -> getNextUtilizationChangeDelay(cloudlet)),
                 CloudSimTag.VM_UPDATE_CLOUDLET_PROCESSING);
         }
 
@@ -745,17 +1057,18 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
      * Updates the processing of all Hosts, meaning
      * it makes the processing of VMs running inside such hosts to be updated.
      * Finally, the processing of Cloudlets running inside such VMs is updated too.
+     * Hosts which {@link HostAbstract#isProcessingUpdateRequired() don't require}
+     * such an update (such as idle ones) are just skipped.
      *
      * @return the predicted completion time of the earliest finishing cloudlet
      * (which is a relative delay from the current simulation time),
      * or {@link Double#MAX_VALUE} if there is no next Cloudlet to execute
      */
     protected double updateHostsProcessing() {
-        double nextSimulationDelay = Double.MAX_VALUE;
-        for (final Host host : getHostList()) {
-            final double delay = host.updateProcessing(clock());
-            nextSimulationDelay = Math.min(delay, nextSimulationDelay);
-        }
+        checkHostsIndex();
+        double nextSimulationDelay = isTimeToUpdateHostsInParallel() ?
+                                        updateHostsProcessingInParallel() :
+                                        updateHostsProcessingSequentially();
 
         // Guarantees a minimal interval before scheduling the event
         final double minTimeBetweenEvents = getSimulation().getMinTimeBetweenEvents()+0.01;
@@ -764,6 +1077,92 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         return nextSimulationDelay;
     }
 
+    private double updateHostsProcessingSequentially() {
+        double nextSimulationDelay = Double.MAX_VALUE;
+        for (int i = hostsToUpdate.nextSetBit(0); i >= 0; i = hostsToUpdate.nextSetBit(i + 1)) {
+            final double delay = hostList.get(i).updateProcessing(clock());
+            nextSimulationDelay = Math.min(delay, nextSimulationDelay);
+            updateHostsToUpdateIndex(i);
+        }
+
+        return nextSimulationDelay;
+    }
+
+    /**
+     * Updates the processing of all Hosts in parallel.
+     * Actions changing the state shared among entities (such as sending events)
+     * are deferred while a Host is updated, then run for each Host in the list order,
+     * after all of them are updated.
+     * The delays are also reduced in the list order,
+     * so that results are exactly the same as in {@link #updateHostsProcessingSequentially()}.
+     *
+     * @return the minimum delay returned by the Hosts processing update
+     * @see #enableParallelHostsUpdate()
+     */
+    private double updateHostsProcessingInParallel() {
+        final double time = clock();
+        final int[] positions = hostsToUpdate.stream().toArray();
+        final double[] delays = new double[positions.length];
+        final var deferredActions = new ArrayList<List<Runnable>>(Collections.nCopies(positions.length, null));
+
+        IntStream.range(0, positions.length).parallel().forEach(i -> {
+            final Host host = hostList.get(positions[i]);
+            deferredActions.set(i, getSimulation().runDeferringSharedActions(() -> delays[i] = host.updateProcessing(time)));
+        });
+
+        double nextSimulationDelay = Double.MAX_VALUE;
+        for (int i = 0; i < positions.length; i++) {
+            deferredActions.get(i).forEach(Runnable::run);
+            nextSimulationDelay = Math.min(delays[i], nextSimulationDelay);
+            updateHostsToUpdateIndex(positions[i]);
+        }
+
+        return nextSimulationDelay;
+    }
+
+    /**
+     * Checks if the parallel update of Hosts is enabled and there are enough Hosts
+     * that can be updated concurrently.
+     * @return true if Hosts can be updated in parallel, false otherwise
+     * @see #enableParallelHostsUpdate()
+     */
+    boolean isTimeToUpdateHostsInParallel() {
+        return parallelHostsUpdateEnabled &&
+               hostsToUpdate.cardinality() >= parallelHostsUpdateThreshold &&
+               hostsToUpdate.stream().allMatch(i -> isHostParallelUpdateSupported(hostList.get(i)));
+    }
+
+    /**
+     * Checks if a Host can have its processing updated concurrently with other ones.
+     * That isn't possible if there is any listener attached to the Host, its VMs or
+     * their Cloudlet Schedulers, since listeners may run arbitrary code
+     * that changes the state shared among entities.
+     * It isn't also possible if any Cloudlet is {@link CloudletSchedulerAbstract#hasStatefulCloudlets() stateful},
+     * since a single {@link UtilizationModel} instance may be shared among Cloudlets running in different Hosts.
+     *
+     * @param host the Host to check
+     * @return true if the Host can be updated in parallel, false otherwise
+     */
+    protected boolean isHostParallelUpdateSupported(final Host host) {
+        if (!(host instanceof HostAbstract hostAbstract) || hostAbstract.hasProcessingListeners()) {
+            return false;
+        }
+
+        for (final Vm vm : host.getVmList()) {
+            if (!(vm instanceof VmAbstract vmAbstract) || !vmAbstract.getOnUpdateProcessingListeners().isEmpty()) {
+                return false;
+            }
+
+            if (!(vm.getCloudletScheduler() instanceof CloudletSchedulerAbstract scheduler) ||
+                scheduler.hasProcessingListeners() || scheduler.hasStatefulCloudlets())
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     /**
      * Updates processing of each Host, that fires the update of VMs,
      * which in turn updates cloudlets running in this Datacenter.
@@ -782,10 +1181,15 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
             return Double.MAX_VALUE;
         }
 
+        if (adaptiveSchedulingEnabled && schedulingInterval > 0) {
+            checkHostsIndex();
+            addSkippedUtilizationSamples();
+        }
+
         double nextSimulationDelay = updateHostsProcessing();
 
         if (nextSimulationDelay != Double.MAX_VALUE) {
-            nextSimulationDelay = getCloudletProcessingUpdateInterval(nextSimulationDelay);
+            nextSimulationDelay = getCloudletProcessingUpdateInterval(nextSimulationDelay, this::getNextUtilizationChangeDelay);
             schedule(nextSimulationDelay, CloudSimTag.VM_UPDATE_CLOUDLET_PROCESSING);
         }
         setLastProcessTime(clock());
@@ -987,12 +1391,14 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
      * @return the list all VMs from all Hosts
      */
     private <T extends Vm> List<T> getVmList() {
-        return (List<T>) Collections.unmodifiableList(
-                getHostList()
-                    .stream()
-                    .map(Host::getVmList)
-                    .flatMap(List::stream)
-                    .collect(toList()));
+        checkHostsIndex();
+        final var vmList = new ArrayList<T>();
+        //Hosts with VMs are always in the index of Hosts to update
+        for (int i = hostsToUpdate.nextSetBit(0); i >= 0; i = hostsToUpdate.nextSetBit(i + 1)) {
+            vmList.addAll(hostList.get(i).getVmList());
+        }
+
+        return Collections.unmodifiableList(vmList);
     }
 
     @Override
@@ -1021,6 +1427,7 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
      */
     public void updateActiveHostsNumber(final Host host){
         activeHostsNumber += host.isActive() ? 1 : -1;
+        requestHostProcessingUpdate(host);
     }
 
     @Override
@@ -1030,7 +1437,52 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
 
     @Override
     public Host getHostById(final long id) {
-        return hostList.stream().filter(host -> host.getId() == id).findFirst().map(host -> (Host)host).orElse(Host.NULL);
+        checkHostsIndex();
+        Host host = hostsById.get(id);
+        if (host != null && host.getId() != id) {
+            //The id of the Host was changed after it was added to the Datacenter
+            indexHosts();
+            host = hostsById.get(id);
+        }
+
+        return host == null ? Host.NULL : host;
+    }
+
+    @Override
+    public Vm getVmById(@NonNull final DatacenterBroker broker, final long id) {
+        if (vmsByUidOutdated) {
+            indexVms();
+        }
+
+        final String uid = UniquelyIdentifiable.getUid(broker.getId(), id);
+        final Vm vm = vmsByUid.get(uid);
+        if (vm == null) {
+            return Vm.NULL;
+        }
+
+        //The VM may have been destroyed or migrated to another Datacenter
+        if (vm.isCreated() && vm.getHost().getDatacenter() == this && uid.equals(vm.getUid())) {
+            return vm;
+        }
+
+        vmsByUid.remove(uid);
+        return Vm.NULL;
+    }
+
+    /**
+     * Rebuilds the map of VMs placed into Hosts of this Datacenter.
+     * Hosts with VMs are always in the index of Hosts to update.
+     */
+    private void indexVms() {
+        checkHostsIndex();
+        vmsByUid.clear();
+        for (int i = hostsToUpdate.nextSetBit(0); i >= 0; i = hostsToUpdate.nextSetBit(i + 1)) {
+            for (final Vm vm : hostList.get(i).getVmList()) {
+                vmsByUid.putIfAbsent(vm.getUid(), vm);
+            }
+        }
+
+        vmsByUidOutdated = false;
     }
 
     @Override
@@ -1048,6 +1500,7 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
 
         setupHost(host, getLastHostId());
         ((List<T>)hostList).add(host);
+        indexHost(host, hostList.size()-1);
         return this;
     }
 
@@ -1057,7 +1510,10 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
 
     @Override
     public <T extends Host> Datacenter removeHost(final T host) {
-        hostList.remove(host);
+        if (hostList.remove(host)) {
+            indexHosts();
+        }
+
         return this;
     }
 
@@ -1115,6 +1571,46 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         return this;
     }
 
+    @Override
+    public boolean isParallelHostsUpdateEnabled() {
+        return parallelHostsUpdateEnabled;
+    }
+
+    @Override
+    public final Datacenter enableParallelHostsUpdate() {
+        this.parallelHostsUpdateEnabled = true;
+        return this;
+    }
+
+    @Override
+    public final Datacenter disableParallelHostsUpdate() {
+        this.parallelHostsUpdateEnabled = false;
+        return this;
+    }
+
+    @Override
+    public boolean isAdaptiveSchedulingEnabled() {
+        return adaptiveSchedulingEnabled;
+    }
+
+    @Override
+    public final Datacenter enableAdaptiveScheduling() {
+        this.adaptiveSchedulingEnabled = true;
+        return this;
+    }
+
+    @Override
+    public final Datacenter disableAdaptiveScheduling() {
+        this.adaptiveSchedulingEnabled = false;
+        return this;
+    }
+
+    @Override
+    public final Datacenter setParallelHostsUpdateThreshold(final int threshold) {
+        this.parallelHostsUpdateThreshold = Math.max(threshold, 1);
+        return this;
+    }
+
     @Override
     public final Datacenter setPowerModel(final PowerModelDatacenter powerModel) {
         requireNonNull(powerModel,
@@ -48,7 +48,6 @@ import org.slf4j.LoggerFactory;
 import java.util.*;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
-import java.util.function.Predicate;
 
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
@@ -283,16 +282,12 @@ public class HostFaultInjection extends CloudSimEntity {
      */
     private void scheduleFaultInjection() {
         final var sim = getSimulation();
-        final Predicate<SimEvent> otherEventsPredicate = evt -> evt.getTag() != HOST_FAILURE;
 
         /*
         Just re-schedule more failures if there are other events to be processed.
         Otherwise, the simulation has finished and no more failures should be scheduled.
-
-        The 2nd condition may be a complex operation that must be called only when necessary
-        in the short-circuit below.
         */
-        if (sim.clock() < getMaxTimeToFailInSecs() || sim.isThereAnyFutureEvt(otherEventsPredicate)) {
+        if (sim.clock() < getMaxTimeToFailInSecs() || sim.isThereAnyFutureEvtExcept(HOST_FAILURE)) {
             schedule(this, getTimeDelayForNextFault(), HOST_FAILURE);
         }
     }
@@ -270,6 +270,41 @@ public abstract class HostAbstract extends ExecDelayableAbstract implements Host
         return delay > 0 ? Math.min(delay, nextSimulationDelay) : nextSimulationDelay;
     }
 
+    /**
+     * Checks if the Host processing must be updated when the Datacenter updates the processing of its Hosts.
+     * That is required while the Host has VMs (including migrating ones), or if it has no VMs but still
+     * collects data at every update, notifies update listeners or is waiting to become
+     * {@link #getIdleShutdownDeadline() idle enough} to be powered off.
+     * Otherwise, updating the Host processing just does nothing.
+     *
+     * @return true if the Host processing must be updated, false otherwise
+     */
+    public boolean isProcessingUpdateRequired() {
+        return !vmList.isEmpty() || !vmsMigratingIn.isEmpty() || !vmsMigratingOut.isEmpty() ||
+               !onUpdateProcessingListeners.isEmpty() || stateHistoryEnabled ||
+               cpuUtilizationStats != HostResourceStats.NULL ||
+               active && idleShutdownDeadline >= 0;
+    }
+
+    /**
+     * Notifies the Datacenter the processing of this Host must be updated,
+     * since something changed that may make it {@link #isProcessingUpdateRequired() required}.
+     */
+    private void requestProcessingUpdate() {
+        if (datacenter instanceof DatacenterSimple dc) {
+            dc.requestHostProcessingUpdate(this);
+        }
+    }
+
+    /**
+     * Checks if there is any listener notified when the Host updates the processing of its VMs,
+     * or when the Host is powered on or off.
+     * @return true if there is some of such listeners, false otherwise
+     */
+    public boolean hasProcessingListeners() {
+        return !onUpdateProcessingListeners.isEmpty() || !onStartupListeners.isEmpty() || !onShutdownListeners.isEmpty();
+    }
+
     private void notifyOnUpdateProcessingListeners(final double nextSimulationTime) {
         onUpdateProcessingListeners.forEach(l -> l.update(HostUpdatesVmsProcessingEventInfo.of(l, this, nextSimulationTime)));
     }
@@ -306,6 +341,7 @@ public abstract class HostAbstract extends ExecDelayableAbstract implements Host
         final HostSuitability suitability = allocateResourcesForVm(vm, false);
         if (suitability.fully()) {
             vmList.add(vm);
+            requestProcessingUpdate();
         }
         ((VmAbstract)vm).setCreated(suitability.fully());
 
@@ -330,6 +366,7 @@ public abstract class HostAbstract extends ExecDelayableAbstract implements Host
 
         if (inMigration) {
             vmsMigratingIn.add(vm);
+            requestProcessingUpdate();
         }
         vm.setInMigration(inMigration);
         allocateResourcesForVm(vm);
@@ -367,6 +404,7 @@ public abstract class HostAbstract extends ExecDelayableAbstract implements Host
         for (final Vm vm : vmsMigratingIn) {
             if (!vmList.contains(vm)) {
                 vmList.add(vm);
+                requestProcessingUpdate();
             }
 
             allocateResourcesForVm(vm);
@@ -490,7 +528,7 @@ public abstract class HostAbstract extends ExecDelayableAbstract implements Host
         }
 
         this.active = activate;
-        ((DatacenterSimple) datacenter).updateActiveHostsNumber(this);
+        simulation.runOrDefer(() -> ((DatacenterSimple) datacenter).updateActiveHostsNumber(this));
         activationChangeInProgress = false;
         notifyStartupOrShutdown(activate, wasActive);
     }
@@ -634,6 +672,7 @@ public abstract class HostAbstract extends ExecDelayableAbstract implements Host
         }
 
         this.onUpdateProcessingListeners.add(listener);
+        requestProcessingUpdate();
         return this;
     }
 
@@ -809,6 +848,7 @@ public abstract class HostAbstract extends ExecDelayableAbstract implements Host
 
     protected void addVmToList(@NonNull final Vm vm) {
         vmList.add(vm);
+        requestProcessingUpdate();
     }
 
     protected void addVmToCreatedList(@NonNull final Vm vm) {
@@ -944,6 +984,7 @@ public abstract class HostAbstract extends ExecDelayableAbstract implements Host
 
     @Override
     public boolean addVmMigratingOut(@NonNull final Vm vm) {
+        requestProcessingUpdate();
         return this.vmsMigratingOut.add(vm);
     }
 
@@ -1064,6 +1105,7 @@ public abstract class HostAbstract extends ExecDelayableAbstract implements Host
         }
 
         this.cpuUtilizationStats = new HostResourceStats(this, Host::getCpuPercentUtilization);
+        requestProcessingUpdate();
         if (vmList.isEmpty()) {
             final String host = this.getId() > -1 ? this.toString() : "Host";
             LOGGER.info("Automatically enabling computation of utilization statistics for VMs on {} could not be performed because it doesn't have VMs yet. You need to enable it for each VM created.", host);
@@ -1279,11 +1321,13 @@ public abstract class HostAbstract extends ExecDelayableAbstract implements Host
 
     public final Host setIdleShutdownDeadline(double idleShutdownDeadline) {
         this.idleShutdownDeadline = idleShutdownDeadline;
+        requestProcessingUpdate();
         return this;
     }
 
     public final Host setStateHistoryEnabled(boolean stateHistoryEnabled) {
         this.stateHistoryEnabled = stateHistoryEnabled;
+        requestProcessingUpdate();
         return this;
     }
 
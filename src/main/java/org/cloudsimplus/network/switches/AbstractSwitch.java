@@ -14,7 +14,6 @@ import lombok.experimental.Accessors;
 import org.cloudsimplus.core.CloudSimEntity;
 import org.cloudsimplus.core.CloudSimPlus;
 import org.cloudsimplus.core.CloudSimTag;
-import org.cloudsimplus.core.events.PredicateType;
 import org.cloudsimplus.core.events.SimEvent;
 import org.cloudsimplus.datacenters.network.NetworkDatacenter;
 import org.cloudsimplus.hosts.network.NetworkHost;
@@ -123,7 +122,7 @@ public abstract class AbstractSwitch extends CloudSimEntity implements Switch {
      */
     protected void processPacketDown(final SimEvent evt) {
         // Packet coming from up level router has to send downward.
-        getSimulation().cancelAll(this, new PredicateType(CloudSimTag.NETWORK_EVENT_SEND));
+        getSimulation().cancelAll(this, CloudSimTag.NETWORK_EVENT_SEND);
         schedule(this, getSwitchingDelay(), CloudSimTag.NETWORK_EVENT_SEND);
     }
 
@@ -143,7 +142,7 @@ public abstract class AbstractSwitch extends CloudSimEntity implements Switch {
      */
     protected void processPacketUp(final SimEvent evt) {
         // Packet coming from down level router has to be sent up.
-        getSimulation().cancelAll(this, new PredicateType(CloudSimTag.NETWORK_EVENT_SEND));
+        getSimulation().cancelAll(this, CloudSimTag.NETWORK_EVENT_SEND);
         schedule(this, switchingDelay, CloudSimTag.NETWORK_EVENT_SEND);
     }
 
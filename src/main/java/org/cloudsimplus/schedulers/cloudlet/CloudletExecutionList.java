@@ -0,0 +1,389 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.schedulers.cloudlet;
+
+import org.cloudsimplus.cloudlets.CloudletExecution;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * A {@link List} of {@link CloudletExecution} used internally by {@link CloudletSchedulerAbstract},
+ * which finds and removes Cloudlets by their id in constant time,
+ * keeping the order elements were added.
+ *
+ * <p>Removed elements just leave a gap in the internal array, so that removals don't shift
+ * the following elements. All gaps are removed at once when an element is next accessed by its index.
+ * That way, removing many Cloudlets (such as when they are paused, canceled or finished)
+ * and then iterating over the list just costs a single pass over it.
+ * Removing elements by {@link #removeIf(Predicate)} or {@link Iterator#remove()}
+ * also leaves gaps, so that bulk removals cost a single pass, as in an {@link ArrayList}.</p>
+ *
+ * <p>Since {@link CloudletExecution#equals(Object)} compares Cloudlet ids,
+ * {@link #remove(Object)}, {@link #contains(Object)} and {@link #indexOf(Object)}
+ * consider the first element having the id of the given Cloudlet, as an {@link ArrayList} does.</p>
+ *
+ * @since CloudSim Plus 8.5.0
+ */
+final class CloudletExecutionList extends AbstractList<CloudletExecution> implements RandomAccess, Serializable {
+    @Serial
+    private static final long serialVersionUID = 4079651541463926617L;
+
+    private static final int DEF_CAPACITY = 10;
+
+    /** The elements, which may include null gaps for removed ones up to the {@link #end}. */
+    private CloudletExecution[] elements;
+
+    /** The number of used positions in the {@link #elements} array, including gaps. */
+    private int end;
+
+    /** The number of gaps in the {@link #elements} array. */
+    private int gaps;
+
+    /**
+     * The number of times gaps were removed, moving elements to different positions.
+     * That enables iterators to find their position again.
+     */
+    private int compactions;
+
+    /** Maps each Cloudlet id to the position of the first element with such an id in the {@link #elements} array. */
+    private final Map<Long, Integer> positionsById;
+
+    /** Indicates if the {@link #positionsById} map must be rebuilt before being used. */
+    private boolean positionsOutdated;
+
+    /** Indicates if there are elements with the same Cloudlet id in the list. */
+    private boolean duplicatedIds;
+
+    CloudletExecutionList() {
+        this.elements = new CloudletExecution[DEF_CAPACITY];
+        this.positionsById = new HashMap<>();
+    }
+
+    /**
+     * Finds an element by the id of its Cloudlet.
+     * @param cloudletId the id of the Cloudlet to find
+     * @return the first element with the given Cloudlet id or {@link CloudletExecution#NULL} if not found
+     */
+    CloudletExecution findById(final long cloudletId) {
+        final int position = positionOf(cloudletId);
+        return position < 0 ? CloudletExecution.NULL : elements[position];
+    }
+
+    /**
+     * {@return the number of times the list was structurally modified}
+     * That enables checking if the list was changed since a previous time.
+     */
+    int getModifications() {
+        return modCount;
+    }
+
+    @Override
+    public int size() {
+        return end - gaps;
+    }
+
+    @Override
+    public CloudletExecution get(final int index) {
+        Objects.checkIndex(index, size());
+        removeGaps();
+        return elements[index];
+    }
+
+    @Override
+    public CloudletExecution set(final int index, final CloudletExecution cle) {
+        Objects.checkIndex(index, size());
+        removeGaps();
+        final CloudletExecution previous = elements[index];
+        elements[index] = Objects.requireNonNull(cle);
+        positionsOutdated = true;
+        return previous;
+    }
+
+    @Override
+    public boolean add(final CloudletExecution cle) {
+        Objects.requireNonNull(cle);
+        ensureCapacity();
+        if (!positionsOutdated && positionsById.putIfAbsent(cle.getCloudletId(), end) != null) {
+            duplicatedIds = true;
+        }
+
+        elements[end++] = cle;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public void add(final int index, final CloudletExecution cle) {
+        Objects.checkIndex(index, size() + 1);
+        Objects.requireNonNull(cle);
+        ensureCapacity();
+        removeGaps();
+        System.arraycopy(elements, index, elements, index + 1, end - index);
+        elements[index] = cle;
+        end++;
+        positionsOutdated = true;
+        modCount++;
+    }
+
+    @Override
+    public CloudletExecution remove(final int index) {
+        Objects.checkIndex(index, size());
+        removeGaps();
+        final CloudletExecution cle = elements[index];
+        removeAt(index);
+        return cle;
+    }
+
+    @Override
+    public boolean remove(final Object obj) {
+        if (!(obj instanceof CloudletExecution cle)) {
+            return false;
+        }
+
+        final int position = positionOf(cle.getCloudletId());
+        if (position < 0) {
+            return false;
+        }
+
+        removeAt(position);
+        return true;
+    }
+
+    @Override
+    public boolean removeIf(final Predicate<? super CloudletExecution> filter) {
+        Objects.requireNonNull(filter);
+        boolean removed = false;
+        for (int i = 0; i < end; i++) {
+            if (elements[i] != null && filter.test(elements[i])) {
+                removeAt(i);
+                removed = true;
+            }
+        }
+
+        return removed;
+    }
+
+    @Override
+    public Iterator<CloudletExecution> iterator() {
+        return new Itr();
+    }
+
+    @Override
+    public boolean contains(final Object obj) {
+        return obj instanceof CloudletExecution cle && positionOf(cle.getCloudletId()) >= 0;
+    }
+
+    @Override
+    public int indexOf(final Object obj) {
+        if (!(obj instanceof CloudletExecution cle)) {
+            return -1;
+        }
+
+        removeGaps();
+        return positionOf(cle.getCloudletId());
+    }
+
+    @Override
+    public void sort(final Comparator<? super CloudletExecution> comparator) {
+        removeGaps();
+        Arrays.sort(elements, 0, end, comparator);
+        positionsOutdated = true;
+        modCount++;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(elements, 0, end, null);
+        end = 0;
+        gaps = 0;
+        positionsById.clear();
+        positionsOutdated = false;
+        duplicatedIds = false;
+        modCount++;
+    }
+
+    /**
+     * Removes the element at a given position of the {@link #elements} array, leaving a gap there.
+     * @param position the position of the element to remove
+     */
+    private void removeAt(final int position) {
+        final CloudletExecution cle = elements[position];
+        elements[position] = null;
+        gaps++;
+        if (duplicatedIds) {
+            //Another element with the same id may become the first one
+            positionsOutdated = true;
+        } else if (!positionsOutdated) {
+            positionsById.remove(cle.getCloudletId());
+        }
+
+        modCount++;
+    }
+
+    /**
+     * Gets the position of the first element with a given Cloudlet id in the {@link #elements} array.
+     * @param cloudletId the Cloudlet id to find
+     * @return the position of the element or -1 if not found
+     */
+    private int positionOf(final long cloudletId) {
+        if (positionsOutdated) {
+            updatePositions();
+        }
+
+        final Integer position = positionsById.get(cloudletId);
+        return position == null ? -1 : position;
+    }
+
+    /**
+     * Moves the elements to fill the gaps left by removed ones, keeping their order.
+     */
+    void removeGaps() {
+        if (gaps == 0) {
+            return;
+        }
+
+        int size = 0;
+        for (int i = 0; i < end; i++) {
+            if (elements[i] != null) {
+                elements[size++] = elements[i];
+            }
+        }
+
+        Arrays.fill(elements, size, end, null);
+        end = size;
+        gaps = 0;
+        compactions++;
+        positionsOutdated = true;
+    }
+
+    private void updatePositions() {
+        positionsById.clear();
+        duplicatedIds = false;
+        for (int i = 0; i < end; i++) {
+            if (elements[i] != null && positionsById.putIfAbsent(elements[i].getCloudletId(), i) != null) {
+                duplicatedIds = true;
+            }
+        }
+
+        positionsOutdated = false;
+    }
+
+    /**
+     * Ensures there is room to add one more element to the end of the {@link #elements} array,
+     * removing gaps or growing the array if required.
+     */
+    private void ensureCapacity() {
+        if (end < elements.length) {
+            return;
+        }
+
+        if (gaps > 0) {
+            removeGaps();
+            return;
+        }
+
+        elements = Arrays.copyOf(elements, elements.length + (elements.length >> 1) + 1);
+    }
+
+    /**
+     * An iterator that walks over the {@link #elements} array skipping gaps.
+     * Removing an element just leaves a gap, instead of moving all the following ones.
+     */
+    private final class Itr implements Iterator<CloudletExecution> {
+        /** The position in the {@link #elements} array of the next element to check. */
+        private int cursor;
+
+        /** The number of elements returned so far and not removed, which is the index of the next element. */
+        private int index;
+
+        /** The position of the last returned element, or -1 if there is none. */
+        private int lastReturned = -1;
+
+        private int expectedModCount = modCount;
+
+        private int expectedCompactions = compactions;
+
+        @Override
+        public boolean hasNext() {
+            syncPosition();
+            while (cursor < end && elements[cursor] == null) {
+                cursor++;
+            }
+
+            return cursor < end;
+        }
+
+        @Override
+        public CloudletExecution next() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            lastReturned = cursor;
+            index++;
+            return elements[cursor++];
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+
+            syncPosition();
+            checkForComodification();
+            removeAt(lastReturned);
+            lastReturned = -1;
+            index--;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Finds the position of the iterator again if gaps were removed (such as by a call to {@link #get(int)}),
+         * since elements were moved to the position of their indexes.
+         */
+        private void syncPosition() {
+            if (expectedCompactions == compactions) {
+                return;
+            }
+
+            cursor = index;
+            if (lastReturned >= 0) {
+                lastReturned = index - 1;
+            }
+
+            expectedCompactions = compactions;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
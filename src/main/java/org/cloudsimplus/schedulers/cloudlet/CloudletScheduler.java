@@ -151,6 +151,125 @@ public interface CloudletScheduler extends Serializable {
      */
     CloudletScheduler enableCloudletSubmittedList();
 
+    /**
+     * Checks if the processing of Cloudlets is updated just when the next Cloudlet is expected to finish,
+     * while nothing else changes.
+     * @return true if the event-driven update is enabled, false otherwise
+     * @see #enableEventDrivenUpdate()
+     */
+    boolean isEventDrivenUpdateEnabled();
+
+    /**
+     * Enables the event-driven update of Cloudlets processing (which is disabled by default).
+     * The processing of all running Cloudlets is usually updated every time the
+     * {@link #updateProcessing(double, MipsShare)} is called (for instance, at every
+     * {@link org.cloudsimplus.datacenters.Datacenter#getSchedulingInterval() scheduling interval}),
+     * even if nothing changed since the last update.
+     *
+     * <p>When the event-driven update is enabled, the scheduler keeps the time the next Cloudlet
+     * is expected to finish and just skips updates before that time,
+     * while the set of Cloudlets, the {@link MipsShare} and the VM RAM and BW capacity don't change,
+     * all running Cloudlets have a constant resource utilization
+     * (according to {@link org.cloudsimplus.utilizationmodels.UtilizationModel#getNextUtilizationChangeTime(double)})
+     * and none of them has listeners (such as {@link Cloudlet#addOnUpdateProcessingListener(EventListener)}),
+     * so that listeners are notified at every update as usual.
+     * That largely reduces the processing cost for VMs running many long Cloudlets.
+     * The scheduler just keeps a single expected finish time, which is discarded
+     * when any of the conditions above changes.</p>
+     *
+     * <p>The MI executed at every update are truncated to an integer.
+     * Since skipped updates are processed at once, the processed length of Cloudlets
+     * may slightly differ from the one got when updating at every call,
+     * making Cloudlets finish a little earlier.
+     * Results are the same when every update executes a whole number of MI.</p>
+     *
+     * <p><b>WARNING:</b> While updates are skipped, the progress of running Cloudlets is not updated.
+     * That way, the {@link Cloudlet#getFinishedLengthSoFar() processed length} of such Cloudlets
+     * is outdated (it keeps the value from the last actual update) for anyone reading it
+     * during the simulation, such as brokers, simulation listeners or tables printed while the simulation runs.
+     * It is updated again when Cloudlets finish or when the set of Cloudlets or the MIPS share change.
+     * Do not enable the event-driven update if you need to follow the progress of running Cloudlets.</p>
+     * @return
+     */
+    CloudletScheduler enableEventDrivenUpdate();
+
+    /**
+     * Disables the event-driven update of Cloudlets processing.
+     * @return
+     * @see #enableEventDrivenUpdate()
+     */
+    CloudletScheduler disableEventDrivenUpdate();
+
+    /**
+     * Checks if the VM RAM and BW used by running Cloudlets are allocated at once at each processing update.
+     * @return true if the batched VM resource allocation is enabled, false otherwise
+     * @see #enableBatchedVmResourceAllocation()
+     */
+    boolean isBatchedVmResourceAllocationEnabled();
+
+    /**
+     * Enables the batched allocation of VM RAM and BW for running Cloudlets (which is disabled by default).
+     * At every processing update, the VM RAM and BW are usually allocated to
+     * each running Cloudlet, one after another. This way, when such resources are over-subscribed,
+     * the first Cloudlets get all the resources they request and the last ones get
+     * what is left (causing their processing to be delayed).
+     *
+     * <p>When the batched allocation is enabled, the amount of RAM and BW requested by all
+     * running Cloudlets is computed first and allocated at once after Cloudlets are processed.
+     * If a resource is over-subscribed, the available amount is distributed
+     * among Cloudlets proportionally to the amount they request,
+     * so that all of them have their processing delayed.
+     * When resources are not over-subscribed, that reduces the processing cost for VMs running many Cloudlets.</p>
+     * @return
+     */
+    CloudletScheduler enableBatchedVmResourceAllocation();
+
+    /**
+     * Disables the batched allocation of VM RAM and BW for running Cloudlets.
+     * @return
+     * @see #enableBatchedVmResourceAllocation()
+     */
+    CloudletScheduler disableBatchedVmResourceAllocation();
+
+    /**
+     * Checks if the processing of running Cloudlets is updated in parallel when there are many of them.
+     * @return true if the parallel update is enabled, false otherwise
+     * @see #enableParallelUpdate(int)
+     */
+    boolean isParallelUpdateEnabled();
+
+    /**
+     * Enables the parallel update of Cloudlets processing (which is disabled by default).
+     * When the number of running Cloudlets reaches a given threshold,
+     * the length processed by each Cloudlet and its estimated finish time are computed in parallel,
+     * using the common {@link java.util.concurrent.ForkJoinPool}.
+     * The processed length is then added to each Cloudlet sequentially,
+     * in the order Cloudlets are in the execution list,
+     * so that results are the same as the sequential update.
+     *
+     * <p>That only happens when the {@link #enableBatchedVmResourceAllocation() batched VM resource allocation}
+     * is enabled and the VM RAM and BW are not over-subscribed, so that
+     * computing the processed length of a Cloudlet doesn't change any other one.
+     * Since the batched allocation isn't performed when there is a {@link CloudletTaskScheduler},
+     * network Cloudlets are always updated sequentially.
+     * Cloudlets are also updated sequentially when some of them have processing listeners
+     * or a {@link org.cloudsimplus.utilizationmodels.UtilizationModel} which isn't
+     * {@link org.cloudsimplus.utilizationmodels.UtilizationModel#isStateless() stateless},
+     * since such models are called from different threads.
+     * That reduces the processing time for VMs running a large number of Cloudlets.</p>
+     *
+     * @param threshold the minimum number of running Cloudlets for their processing to be updated in parallel
+     * @return
+     */
+    CloudletScheduler enableParallelUpdate(int threshold);
+
+    /**
+     * Disables the parallel update of Cloudlets processing.
+     * @return
+     * @see #enableParallelUpdate(int)
+     */
+    CloudletScheduler disableParallelUpdate();
+
     /**
      * Gets a <b>read-only</b> List of cloudlet waiting to be executed on the VM.
      *
@@ -11,6 +11,7 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
 import org.cloudsimplus.cloudlets.Cloudlet;
+import org.cloudsimplus.cloudlets.CloudletAbstract;
 import org.cloudsimplus.cloudlets.CloudletExecution;
 import org.cloudsimplus.core.CloudSimTag;
 import org.cloudsimplus.datacenters.Datacenter;
@@ -26,11 +27,13 @@ import org.cloudsimplus.vms.Vm;
 import org.cloudsimplus.vms.VmSimple;
 
 import java.io.Serial;
+import java.io.Serializable;
 import java.util.*;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static java.util.Objects.requireNonNull;
@@ -82,15 +85,126 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
     /** @see #getCloudletReturnedList() */
     private final Set<Cloudlet> cloudletReturnedList;
 
+    /**
+     * The number of finished Cloudlets that weren't added to the {@link #cloudletFinishedList}
+     * because the finished Cloudlets streaming is enabled for their broker.
+     * @see org.cloudsimplus.brokers.DatacenterBroker#enableCloudletFinishedStreaming(Consumer)
+     */
+    @Getter(AccessLevel.NONE)
+    private long cloudletFinishedStreamedCount;
+
     /** @see #getCloudletSubmittedList() */
     private final List<Cloudlet> cloudletSubmittedList;
 
     private boolean cloudletSubmittedListEnabled;
 
+    /** @see #enableEventDrivenUpdate() */
+    private boolean eventDrivenUpdateEnabled;
+
+    /**
+     * The expected finish time of the next Cloudlet and the state it was computed for,
+     * or null if the next processing update cannot be skipped.
+     * @see #enableEventDrivenUpdate()
+     */
+    @Getter(AccessLevel.NONE)
+    private FinishTimeProjection finishTimeProjection;
+
+    /**
+     * The last time a processing update was skipped by the {@link #enableEventDrivenUpdate() event-driven update}.
+     * @see #updateSkippedProcessing()
+     */
+    @Getter(AccessLevel.NONE)
+    private double lastSkippedUpdateTime;
+
+    /**
+     * Indicates if some Cloudlet finished while the processing of Cloudlets was updated.
+     * @see #updateProcessing(double, MipsShare)
+     */
+    @Getter(AccessLevel.NONE)
+    private boolean cloudletFinishedInUpdate;
+
+    /**
+     * The expected finish time of the next Cloudlet
+     * and the state of the scheduler when that time was computed.
+     * @param finishTime the expected finish time of the next Cloudlet (absolute simulation time)
+     * @param pes the number of PEs of the MIPS share
+     * @param mips the MIPS of each PE of the MIPS share
+     * @param ram the VM RAM capacity
+     * @param bw the VM BW capacity
+     * @param execListModifications the number of modifications in the Cloudlet execution list
+     * @param waitingListModifications the number of modifications in the Cloudlet waiting list
+     */
+    private record FinishTimeProjection(
+        double finishTime, long pes, double mips, long ram, long bw,
+        int execListModifications, int waitingListModifications) implements Serializable
+    {
+    }
+
+    /** @see #enableBatchedVmResourceAllocation() */
+    private boolean batchedVmResourceAllocationEnabled;
+
+    /**
+     * The RAM requested by all running Cloudlets during the current processing update,
+     * or null if the {@link #enableBatchedVmResourceAllocation() batched VM resource allocation}
+     * isn't being performed.
+     */
+    @Getter(AccessLevel.NONE)
+    private BatchedAllocation batchedRamAllocation;
+
+    /**
+     * The BW requested by all running Cloudlets during the current processing update.
+     * @see #batchedRamAllocation
+     */
+    @Getter(AccessLevel.NONE)
+    private BatchedAllocation batchedBwAllocation;
+
+    /**
+     * The amount of a VM resource requested by all running Cloudlets,
+     * which is allocated at once in a processing update.
+     * @param requested the sum of the amount requested by all Cloudlets,
+     *                  except those requesting more than the VM resource capacity
+     * @param maxRequested the maximum amount requested by a single Cloudlet
+     * @param allocatedRatio the ratio of the requested amount that can actually be allocated to each Cloudlet,
+     *                       which is 1 when the resource is not over-subscribed
+     */
+    private record BatchedAllocation(long requested, double maxRequested, double allocatedRatio) implements Serializable {
+    }
+
+    /**
+     * The minimum number of running Cloudlets for their processing to be updated in parallel,
+     * or 0 if the parallel update is disabled.
+     * @see #enableParallelUpdate(int)
+     */
+    @Getter(AccessLevel.NONE)
+    private int parallelUpdateThreshold;
+
+    /**
+     * The MIPS length processed by each running Cloudlet in the current parallel processing update,
+     * which is reused across updates.
+     * @see #enableParallelUpdate(int)
+     */
+    @Getter(AccessLevel.NONE)
+    private long[] parallelUpdatePartialFinishedMI;
+
+    /**
+     * The {@link #getAvailableMipsByPe() MIPS available for each PE} computed once
+     * for the current parallel processing update, or a negative value if such an update is not
+     * being performed.
+     */
+    @Getter(AccessLevel.NONE)
+    private double parallelUpdateAvailableMipsByPe;
+
     /** @see #addOnCloudletResourceAllocationFail(EventListener) */
     @Getter(AccessLevel.NONE)
     private final List<EventListener<CloudletResourceAllocationFailEventInfo>> resourceAllocationFailListeners;
 
+    /**
+     * Cloudlets submitted to this scheduler (which haven't finished yet) that are stateful.
+     * @see #hasStatefulCloudlets()
+     */
+    @Getter(AccessLevel.NONE)
+    private final Set<Cloudlet> statefulCloudlets;
+
     /**
      * Creates a CloudletScheduler.
      */
@@ -98,15 +212,18 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
         setPreviousTime(0.0);
         vm = Vm.NULL;
         cloudletSubmittedList = new ArrayList<>();
-        cloudletExecList = new ArrayList<>();
-        cloudletPausedList = new ArrayList<>();
-        cloudletFinishedList = new ArrayList<>();
-        cloudletFailedList = new ArrayList<>();
-        cloudletWaitingList = new ArrayList<>();
+        cloudletExecList = new CloudletExecutionList();
+        cloudletPausedList = new CloudletExecutionList();
+        cloudletFinishedList = new CloudletExecutionList();
+        cloudletFailedList = new CloudletExecutionList();
+        cloudletWaitingList = new CloudletExecutionList();
         cloudletReturnedList = new HashSet<>();
         currentMipsShare = new MipsShare();
         taskScheduler = CloudletTaskScheduler.NULL;
         resourceAllocationFailListeners = new ArrayList<>();
+        statefulCloudlets = new HashSet<>();
+        parallelUpdatePartialFinishedMI = new long[0];
+        parallelUpdateAvailableMipsByPe = -1;
     }
 
     @Override
@@ -145,6 +262,10 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      * @return the amount of available MIPS for each Processor PE.
      */
     public double getAvailableMipsByPe(){
+        if(parallelUpdateAvailableMipsByPe >= 0) {
+            return parallelUpdateAvailableMipsByPe;
+        }
+
         /*
          * TODO  Splitting the capacity of a CPU core among different applications
          *       inside a VM is not in fact possible (unless containers are used).
@@ -199,6 +320,53 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
         return this;
     }
 
+    @Override
+    public CloudletScheduler enableEventDrivenUpdate() {
+        this.eventDrivenUpdateEnabled = true;
+        return this;
+    }
+
+    @Override
+    public CloudletScheduler disableEventDrivenUpdate() {
+        this.eventDrivenUpdateEnabled = false;
+        this.finishTimeProjection = null;
+        return this;
+    }
+
+    @Override
+    public CloudletScheduler enableBatchedVmResourceAllocation() {
+        this.batchedVmResourceAllocationEnabled = true;
+        return this;
+    }
+
+    @Override
+    public CloudletScheduler disableBatchedVmResourceAllocation() {
+        this.batchedVmResourceAllocationEnabled = false;
+        return this;
+    }
+
+    @Override
+    public boolean isParallelUpdateEnabled() {
+        return parallelUpdateThreshold > 0;
+    }
+
+    @Override
+    public CloudletScheduler enableParallelUpdate(final int threshold) {
+        if(threshold <= 0){
+            throw new IllegalArgumentException("The parallel update threshold must be greater than 0.");
+        }
+
+        this.parallelUpdateThreshold = threshold;
+        return this;
+    }
+
+    @Override
+    public CloudletScheduler disableParallelUpdate() {
+        this.parallelUpdateThreshold = 0;
+        this.parallelUpdatePartialFinishedMI = new long[0];
+        return this;
+    }
+
     protected void addCloudletToWaitingList(final CloudletExecution cle) {
         if(requireNonNull(cle) == CloudletExecution.NULL){
             return;
@@ -230,10 +398,12 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
 
     @Override
     public final double cloudletSubmit(final Cloudlet cloudlet, final double fileTransferTime) {
+        updateSkippedProcessing();
         if(cloudletSubmittedListEnabled) {
             cloudletSubmittedList.add(cloudlet);
         }
 
+        updateStatefulCloudlet(cloudlet);
         return cloudletSubmitInternal(new CloudletExecution(cloudlet), fileTransferTime);
     }
 
@@ -273,7 +443,7 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
 
     @Override
     public boolean hasFinishedCloudlets() {
-        return !cloudletFinishedList.isEmpty();
+        return !cloudletFinishedList.isEmpty() || cloudletFinishedStreamedCount > 0;
     }
 
     /**
@@ -284,16 +454,16 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      * Cloudlet was found or not
      */
     protected Optional<CloudletExecution> findCloudletInAllLists(final double cloudletId) {
-        final var cloudletExecInfoListStream = Stream.of(
-            cloudletExecList, cloudletPausedList, cloudletWaitingList,
-            cloudletFinishedList, cloudletFailedList
-        );
-
-        //Gets all elements in each list and makes them a single full list,
-        //returning the first Cloudlet with the given id
-        return cloudletExecInfoListStream
-            .flatMap(List::stream)
-            .filter(cle -> cle.getCloudletId() == cloudletId)
+        if (cloudletId != (long) cloudletId) {
+            return Optional.empty();
+        }
+
+        //Returns the first Cloudlet with the given id, searching the lists in this order
+        return Stream.of(
+                cloudletExecList, cloudletPausedList, cloudletWaitingList,
+                cloudletFinishedList, cloudletFailedList)
+            .map(list -> findCloudletInList((long) cloudletId, list))
+            .flatMap(Optional::stream)
             .findFirst();
     }
 
@@ -306,8 +476,17 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      * Cloudlet was found or not
      */
     protected Optional<CloudletExecution> findCloudletInList(final Cloudlet cloudlet, final List<CloudletExecution> list) {
+        return findCloudletInList(cloudlet.getId(), list);
+    }
+
+    private Optional<CloudletExecution> findCloudletInList(final long cloudletId, final List<CloudletExecution> list) {
+        if (list instanceof CloudletExecutionList indexedList) {
+            final CloudletExecution cle = indexedList.findById(cloudletId);
+            return cle == CloudletExecution.NULL ? Optional.empty() : Optional.of(cle);
+        }
+
         return list.stream()
-            .filter(cle -> cle.getCloudletId() == cloudlet.getId())
+            .filter(cle -> cle.getCloudletId() == cloudletId)
             .findFirst();
     }
 
@@ -317,13 +496,17 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      * @param cle finished cloudlet
      */
     protected void cloudletFinish(final CloudletExecution cle) {
+        statefulCloudlets.remove(cle.getCloudlet());
         cle.setStatus(Cloudlet.Status.SUCCESS);
         cle.finalizeCloudlet();
-        cloudletFinishedList.add(cle);
+        if (cle.getCloudlet().getBroker().isCloudletFinishedStreamingEnabled()) {
+            cloudletFinishedStreamedCount++;
+        } else cloudletFinishedList.add(cle);
     }
 
     @Override
     public boolean cloudletReady(final Cloudlet cloudlet) {
+        updateSkippedProcessing();
         if (changeStatusOfCloudletIntoList(cloudletPausedList, cloudlet, this::changeToReady)) {
             return true;
         }
@@ -355,6 +538,7 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
 
     @Override
     public boolean cloudletPause(final Cloudlet cloudlet) {
+        updateSkippedProcessing();
         if (changeStatusOfCloudletIntoList(cloudletExecList, cloudlet, this::changeInExecToPaused)) {
             return true;
         }
@@ -388,6 +572,8 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      * @return the stopped cloudlet or {@link Cloudlet#NULL} if not found
      */
     private Cloudlet stopCloudlet(final Cloudlet cloudlet, final Cloudlet.Status stopStatus) {
+        updateSkippedProcessing();
+        statefulCloudlets.remove(cloudlet);
         //Removes finished cloudlets from the list without changing its status
         boolean found = changeStatusOfCloudletIntoList(cloudletFinishedList, cloudlet, cle -> {});
         if (found) {
@@ -455,7 +641,9 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
         final Consumer<CloudletExecution> cloudletStatusUpdaterConsumer)
     {
         final Function<CloudletExecution, Cloudlet> removeCloudletAndUpdateStatus = cle -> {
-            cloudletList.remove(cle);
+            if (cloudletList == cloudletWaitingList)
+                removeCloudletFromWaitingList(cle);
+            else cloudletList.remove(cle);
             cloudletStatusUpdaterConsumer.accept(cle);
             return cle.getCloudlet();
         };
@@ -467,6 +655,12 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
 
     @Override
     public double updateProcessing(final double currentTime, final MipsShare mipsShare) {
+        if (isTimeToSkipUpdate(currentTime, mipsShare)) {
+            lastSkippedUpdateTime = currentTime;
+            return finishTimeProjection.finishTime() - currentTime;
+        }
+
+        finishTimeProjection = null;
         setCurrentMipsShare(mipsShare);
 
         if (isEmpty()) {
@@ -476,16 +670,126 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
 
         deallocateVmResources();
 
+        cloudletFinishedInUpdate = false;
+        final int execListModifications = execListModifications();
+        computeBatchedVmResourceAllocation();
         double nextSimulationDelay = updateCloudletsProcessing(currentTime);
+        allocateBatchedVmResources();
         nextSimulationDelay = Math.min(nextSimulationDelay, moveNextCloudletsFromWaitingToExecList(currentTime));
-        addCloudletsToFinishedList();
+
+        /* The exec list just needs to be scanned for finished Cloudlets if some of them finished
+         * while being processed, or if it was changed when moving waiting Cloudlets to it. */
+        if (cloudletFinishedInUpdate || execListModifications != execListModifications()) {
+            addCloudletsToFinishedList();
+        }
 
         setPreviousTime(currentTime);
-        vm.getSimulation().setLastCloudletProcessingUpdate(currentTime);
+        // The simulation is shared by Hosts that may be updated in parallel
+        vm.getSimulation().runOrDefer(() -> vm.getSimulation().setLastCloudletProcessingUpdate(currentTime));
+        projectFinishTime(currentTime, mipsShare, nextSimulationDelay);
 
         return nextSimulationDelay;
     }
 
+    private int execListModifications() {
+        return ((CloudletExecutionList) cloudletExecList).getModifications();
+    }
+
+    private int waitingListModifications() {
+        return ((CloudletExecutionList) cloudletWaitingList).getModifications();
+    }
+
+    /**
+     * Checks if the processing update can be skipped because the
+     * {@link #enableEventDrivenUpdate() event-driven update} is enabled,
+     * the next Cloudlet is not expected to finish yet and nothing changed since the last update.
+     *
+     * @param currentTime current simulation time
+     * @param mipsShare the MIPS share given for the current update
+     * @return true if the update can be skipped, false otherwise
+     */
+    private boolean isTimeToSkipUpdate(final double currentTime, final MipsShare mipsShare) {
+        final var projection = finishTimeProjection;
+        return projection != null &&
+               currentTime < projection.finishTime() &&
+               mipsShare.pes() == projection.pes() && mipsShare.mips() == projection.mips() &&
+               vm.getRam().getCapacity() == projection.ram() && vm.getBw().getCapacity() == projection.bw() &&
+               execListModifications() == projection.execListModifications() &&
+               waitingListModifications() == projection.waitingListModifications();
+    }
+
+    /**
+     * Performs the last processing update skipped by the {@link #enableEventDrivenUpdate() event-driven update}, if any.
+     * It must be called before changing the Cloudlets being executed or the MIPS share,
+     * so that the time elapsed up to that update is processed using
+     * the state that was in place during such a time.
+     *
+     * <p>The processing is updated up to the time of the last skipped update, not the current time,
+     * since Cloudlets are not processed when they are submitted or their state is changed.
+     * The time between such an update and the current one is processed in the next update,
+     * using the new state, just as when no update is skipped.
+     * That way, the event-driven update gives the same results as the regular one.</p>
+     */
+    private void updateSkippedProcessing() {
+        if (finishTimeProjection == null) {
+            return;
+        }
+
+        finishTimeProjection = null;
+        if (lastSkippedUpdateTime > previousTime) {
+            updateProcessing(lastSkippedUpdateTime, currentMipsShare);
+        }
+    }
+
+    /**
+     * Keeps the time the next Cloudlet is expected to finish after a processing update,
+     * if the {@link #enableEventDrivenUpdate() event-driven update} is enabled
+     * and the next updates can be skipped until that time.
+     * That just happens if all running Cloudlets have a constant resource utilization,
+     * have already transferred their required files and have no processing listeners
+     * (which would not be notified while updates are skipped).
+     *
+     * @param currentTime current simulation time
+     * @param mipsShare the MIPS share given for the current update
+     * @param nextSimulationDelay the delay for the next Cloudlet to finish
+     */
+    private void projectFinishTime(final double currentTime, final MipsShare mipsShare, final double nextSimulationDelay) {
+        if (!eventDrivenUpdateEnabled || !isEventDrivenUpdateSupported() || isThereTaskScheduler() ||
+            cloudletExecList.isEmpty() || nextSimulationDelay == Double.MAX_VALUE)
+        {
+            return;
+        }
+
+        for (final CloudletExecution cle : cloudletExecList) {
+            final Cloudlet cloudlet = cle.getCloudlet();
+            if (!(cloudlet instanceof CloudletAbstract cloudletAbstract) || cloudletAbstract.hasProcessingListeners() ||
+                !hasCloudletFileTransferTimePassed(cle, currentTime) ||
+                cloudlet.getUtilizationModelCpu().getNextUtilizationChangeTime(currentTime) != Double.MAX_VALUE ||
+                cloudlet.getUtilizationModelRam().getNextUtilizationChangeTime(currentTime) != Double.MAX_VALUE ||
+                cloudlet.getUtilizationModelBw().getNextUtilizationChangeTime(currentTime) != Double.MAX_VALUE)
+            {
+                return;
+            }
+        }
+
+        finishTimeProjection = new FinishTimeProjection(
+            currentTime + nextSimulationDelay, mipsShare.pes(), mipsShare.mips(),
+            vm.getRam().getCapacity(), vm.getBw().getCapacity(),
+            execListModifications(), waitingListModifications());
+    }
+
+    /**
+     * Checks if this scheduler supports the {@link #enableEventDrivenUpdate() event-driven update},
+     * which requires the processing of Cloudlets doesn't change while the set of Cloudlets
+     * and the MIPS share don't change.
+     * Schedulers that preempt Cloudlets at every update must return false.
+     *
+     * @return true if the event-driven update is supported, false otherwise
+     */
+    protected boolean isEventDrivenUpdateSupported() {
+        return true;
+    }
+
     /**
      * Deallocates total used capacity from VM RAM and Bandwidth
      * so that the allocation can be updated when running Cloudlets are processed.
@@ -495,6 +799,65 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
         ((VmSimple)vm).getBw().deallocateAllResources();
     }
 
+    /**
+     * Computes the amount of VM RAM and BW requested by all running Cloudlets,
+     * if the {@link #enableBatchedVmResourceAllocation() batched VM resource allocation} is enabled,
+     * before the processing of such Cloudlets is updated.
+     */
+    private void computeBatchedVmResourceAllocation() {
+        if (batchedVmResourceAllocationEnabled && !isThereTaskScheduler()) {
+            batchedRamAllocation = computeBatchedAllocation(((VmSimple)vm).getRam());
+            batchedBwAllocation = computeBatchedAllocation(((VmSimple)vm).getBw());
+        }
+    }
+
+    private BatchedAllocation computeBatchedAllocation(final ResourceManageable vmResource) {
+        long requested = 0;
+        double maxRequested = 0;
+        for (final CloudletExecution cle : cloudletExecList) {
+            final long cloudletRequested = (long) getCloudletResourceAbsoluteUtilization(cle.getCloudlet(), vmResource);
+            maxRequested = Math.max(maxRequested, cloudletRequested);
+            //Requests greater than the capacity are never allocated
+            if (cloudletRequested <= vmResource.getCapacity()) {
+                requested += cloudletRequested;
+            }
+        }
+
+        final long available = vmResource.getAvailableResource();
+        final double allocatedRatio = requested <= available ? 1 : available / (double) requested;
+        return new BatchedAllocation(requested, maxRequested, allocatedRatio);
+    }
+
+    /**
+     * Allocates the VM RAM and BW requested by all running Cloudlets at once,
+     * if the {@link #enableBatchedVmResourceAllocation() batched VM resource allocation} is enabled,
+     * after the processing of such Cloudlets is updated.
+     */
+    private void allocateBatchedVmResources() {
+        if (batchedRamAllocation == null) {
+            return;
+        }
+
+        allocateBatchedVmResource(((VmSimple)vm).getRam(), batchedRamAllocation);
+        allocateBatchedVmResource(((VmSimple)vm).getBw(), batchedBwAllocation);
+        batchedRamAllocation = null;
+        batchedBwAllocation = null;
+    }
+
+    private void allocateBatchedVmResource(final ResourceManageable vmResource, final BatchedAllocation allocation) {
+        vmResource.allocateResource(Math.min(allocation.requested(), vmResource.getAvailableResource()));
+    }
+
+    /**
+     * {@return the batched allocation for a given VM resource}
+     * or null if the {@link #enableBatchedVmResourceAllocation() batched VM resource allocation}
+     * isn't being performed.
+     * @param vmResource the VM resource to get the batched allocation
+     */
+    private BatchedAllocation getBatchedAllocation(final ResourceManageable vmResource) {
+        return vmResource.getClass() == Ram.class ? batchedRamAllocation : batchedBwAllocation;
+    }
+
     /**
      * Updates the processing of all cloudlets of the Vm using this scheduler
      * that are in the {@link #getCloudletExecList() cloudlet execution list}.
@@ -506,6 +869,10 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      */
     @SuppressWarnings("ForLoopReplaceableByForEach")
     private double updateCloudletsProcessing(final double currentTime) {
+        if (isTimeToUpdateInParallel()) {
+            return updateCloudletsProcessingInParallel(currentTime);
+        }
+
         double nextCloudletFinishTime = Double.MAX_VALUE;
         long usedPes = 0;
         /* Uses an indexed for to avoid ConcurrentModificationException,
@@ -513,6 +880,7 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
         for (int i = 0; i < cloudletExecList.size(); i++) {
             final CloudletExecution cle = cloudletExecList.get(i);
             updateCloudletProcessingAndPacketsDispatch(cle, currentTime);
+            cloudletFinishedInUpdate |= cle.getCloudlet().isFinished();
             nextCloudletFinishTime = Math.min(nextCloudletFinishTime, cloudletEstimatedFinishTime(cle, currentTime));
             usedPes += cle.getCloudlet().getPesNumber();
         }
@@ -522,6 +890,89 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
         return nextCloudletFinishTime;
     }
 
+    /**
+     * Checks if the processing of running Cloudlets can be updated in parallel in the current update.
+     * That just happens when the {@link #enableParallelUpdate(int) parallel update} is enabled,
+     * the number of running Cloudlets reaches the defined threshold, there is no
+     * {@link #hasStatefulCloudlets() stateful Cloudlet} and the
+     * {@link #enableBatchedVmResourceAllocation() batched VM resource allocation}
+     * is being performed without any resource over-subscription
+     * (which never happens when there is a {@link CloudletTaskScheduler}).
+     * In such a case, computing the processed length of a Cloudlet
+     * doesn't change the VM resources, any other Cloudlet or any {@link UtilizationModel}.
+     *
+     * @return true if the processing of Cloudlets can be updated in parallel, false otherwise
+     */
+    private boolean isTimeToUpdateInParallel() {
+        return isParallelUpdateEnabled() && isParallelUpdateSupported() &&
+               cloudletExecList.size() >= parallelUpdateThreshold && !hasStatefulCloudlets() &&
+               isBatchedAllocationWithoutOverSubscription(((VmSimple)vm).getRam()) &&
+               isBatchedAllocationWithoutOverSubscription(((VmSimple)vm).getBw());
+    }
+
+    private boolean isBatchedAllocationWithoutOverSubscription(final ResourceManageable vmResource) {
+        final BatchedAllocation batchedAllocation = getBatchedAllocation(vmResource);
+        return batchedAllocation != null && batchedAllocation.allocatedRatio() == 1 &&
+               batchedAllocation.maxRequested() <= vmResource.getCapacity();
+    }
+
+    /**
+     * Checks if this scheduler supports the {@link #enableParallelUpdate(int) parallel update}
+     * of Cloudlets processing, which requires the processed length of each Cloudlet
+     * is computed independently of the other ones.
+     * Schedulers that change their state when updating the processing of a Cloudlet must return false.
+     *
+     * @return true if the parallel update is supported, false otherwise
+     */
+    protected boolean isParallelUpdateSupported() {
+        return true;
+    }
+
+    /**
+     * Updates the processing of all cloudlets in the {@link #getCloudletExecList() cloudlet execution list}
+     * when the {@link #enableParallelUpdate(int) parallel update} is enabled.
+     * The length processed by each Cloudlet and its estimated finish time are computed in parallel,
+     * while the processed length is added to each Cloudlet (which may finish it and notify the broker)
+     * sequentially, in the order of the execution list.
+     *
+     * @param currentTime current simulation time
+     * @return the predicted completion time of the earliest finishing cloudlet
+     * (which is a relative delay from the current simulation time),
+     * or {@link Double#MAX_VALUE} if there is no next Cloudlet to execute
+     * @see #updateCloudletsProcessing(double)
+     */
+    private double updateCloudletsProcessingInParallel(final double currentTime) {
+        final int size = cloudletExecList.size();
+        if (parallelUpdatePartialFinishedMI.length < size) {
+            parallelUpdatePartialFinishedMI = new long[size];
+        }
+
+        final long[] partialFinishedMI = parallelUpdatePartialFinishedMI;
+        parallelUpdateAvailableMipsByPe = getAvailableMipsByPe();
+        //Ensures the execution list is just read (and not compacted) by the parallel tasks
+        ((CloudletExecutionList) cloudletExecList).removeGaps();
+        try {
+            IntStream.range(0, size).parallel()
+                     .forEach(i -> partialFinishedMI[i] = cloudletTimeSpanExecutedMI(cloudletExecList.get(i), currentTime));
+
+            long usedPes = 0;
+            for (int i = 0; i < size; i++) {
+                final CloudletExecution cle = cloudletExecList.get(i);
+                cle.updateProcessing(partialFinishedMI[i]);
+                cloudletFinishedInUpdate |= cle.getCloudlet().isFinished();
+                usedPes += cle.getCloudlet().getPesNumber();
+            }
+
+            ((VmSimple) vm).setFreePesNumber(vm.getPesNumber() - usedPes);
+
+            return IntStream.range(0, size).parallel()
+                            .mapToDouble(i -> cloudletEstimatedFinishTime(cloudletExecList.get(i), currentTime))
+                            .min().orElse(Double.MAX_VALUE);
+        } finally {
+            parallelUpdateAvailableMipsByPe = -1;
+        }
+    }
+
     /**
      * Updates the processing of a specific cloudlet of the Vm using this
      * scheduler. Then process tasks such a Cloudlet may have
@@ -561,6 +1012,14 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      * @param vmResource the kind of resource to updates its utilization (usually {@link Ram} or {@link Bandwidth}).
      */
     private void updateVmResourceAbsoluteUtilization(final CloudletExecution cle, final ResourceManageable vmResource) {
+        final BatchedAllocation batchedAllocation = getBatchedAllocation(vmResource);
+        if (batchedAllocation != null && batchedAllocation.maxRequested() <= vmResource.getCapacity() &&
+            batchedAllocation.allocatedRatio() == 1)
+        {
+            //The amount requested by all Cloudlets is allocated at once after they are processed
+            return;
+        }
+
         final var cloudlet = cle.getCloudlet();
         final long requested = (long) getCloudletResourceAbsoluteUtilization(cloudlet, vmResource);
         if(requested > vmResource.getCapacity()){
@@ -571,7 +1030,10 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
             return;
         }
 
-        final long available = vmResource.getAvailableResource();
+        final long available =
+            batchedAllocation == null ?
+                vmResource.getAvailableResource() :
+                (long) (requested * batchedAllocation.allocatedRatio());
         if(requested > available){
             final String msg1 = available > 0 ? "just %d was available".formatted(available): "no amount is available.";
             final String msg2 = vmResource.getClass() == Ram.class ? ". Using Virtual Memory," : ",";
@@ -583,7 +1045,9 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
             updateOnResourceAllocationFailListeners(vmResource, cloudlet, requested, available);
         }
 
-        vmResource.allocateResource(Math.min(requested, available));
+        if (batchedAllocation == null) {
+            vmResource.allocateResource(Math.min(requested, available));
+        }
     }
 
     private void updateOnResourceAllocationFailListeners(
@@ -612,6 +1076,52 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
         return resourceAllocationFailListeners.remove(listener);
     }
 
+    /**
+     * Checks if there is any listener notified when the scheduler fails to allocate resources for a Cloudlet.
+     * @return true if there is some of such listeners, false otherwise
+     * @see #addOnCloudletResourceAllocationFail(EventListener)
+     */
+    public boolean hasProcessingListeners() {
+        return !resourceAllocationFailListeners.isEmpty();
+    }
+
+    /**
+     * Checks if any Cloudlet into this scheduler is stateful, i.e., it has processing listeners
+     * or some {@link UtilizationModel} which isn't {@link UtilizationModel#isStateless() stateless}.
+     * Updating such Cloudlets may change some state shared with other ones,
+     * so they cannot be updated concurrently.
+     * Such Cloudlets are tracked as they are submitted, have listeners or utilization models set and finish,
+     * so that the check doesn't need to go through all Cloudlets.
+     *
+     * @return true if some Cloudlet is stateful, false otherwise
+     * @since CloudSim Plus 8.5.0
+     */
+    public boolean hasStatefulCloudlets() {
+        return !statefulCloudlets.isEmpty();
+    }
+
+    /**
+     * Checks if a Cloudlet submitted to this scheduler is stateful,
+     * which must be called when listeners or utilization models are set to the Cloudlet.
+     *
+     * @param cloudlet the Cloudlet to check
+     * @see #hasStatefulCloudlets()
+     * @since CloudSim Plus 8.5.0
+     */
+    public void updateStatefulCloudlet(final Cloudlet cloudlet) {
+        if (isStateful(cloudlet))
+            statefulCloudlets.add(cloudlet);
+        else statefulCloudlets.remove(cloudlet);
+    }
+
+    private static boolean isStateful(final Cloudlet cloudlet) {
+        return !(cloudlet instanceof CloudletAbstract cloudletAbstract) ||
+               cloudletAbstract.hasProcessingListeners() ||
+               !cloudlet.getUtilizationModelCpu().isStateless() ||
+               !cloudlet.getUtilizationModelRam().isStateless() ||
+               !cloudlet.getUtilizationModelBw().isStateless();
+    }
+
     /**
      * Gets the absolute utilization of a given Cloudlet's resource
      *
@@ -815,6 +1325,15 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
         final BiPredicate<ResourceManageable, Double> suitableCapacityPredicate,
         final BiFunction<Double, Double, Double> delayFunction)
     {
+        /* If no Cloudlet requests more than the resource capacity (or more than is suitable)
+         * and the resource is not over-subscribed, there is no delay for any Cloudlet. */
+        final BatchedAllocation batchedAllocation = getBatchedAllocation(vmResource);
+        if (batchedAllocation != null && batchedAllocation.allocatedRatio() == 1 &&
+            suitableCapacityPredicate.test(vmResource, batchedAllocation.maxRequested()))
+        {
+            return 0;
+        }
+
         final double requestedResource = getCloudletResourceAbsoluteUtilization(cle.getCloudlet(), vmResource);
 
         /* If the requested resource is not suitable (even for over-subscription),
@@ -828,7 +1347,10 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
         /* Amount of resource that was not allocated to the Cloudlet due to lack of VM capacity.
          * This way, that extra amount will cause delay in cloudlet execution,
          * since the cloudlet will wait for that non-allocated resource until the next processing time. */
-        final double notAllocatedResource = Math.max(requestedResource - vmResource.getAvailableResource(), 0);
+        final double notAllocatedResource =
+            batchedAllocation == null ?
+                Math.max(requestedResource - vmResource.getAvailableResource(), 0) :
+                requestedResource * (1 - batchedAllocation.allocatedRatio());
         if (notAllocatedResource > 0) {
             final double delay = delayFunction.apply(notAllocatedResource, requestedResource);
             cle.incOverSubscriptionDelay(delay);
@@ -1014,11 +1536,23 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
     protected CloudletExecution addWaitingCloudletToExecList(final CloudletExecution cle) {
         /*If the Cloudlet is not found in the waiting List, there is no problem.
         * Just add it to the exec List.*/
-        cloudletWaitingList.remove(cle);
+        removeCloudletFromWaitingList(cle);
         addCloudletToExecList(cle);
         return cle;
     }
 
+    /**
+     * Removes a Cloudlet from the waiting list.
+     * Subclasses keeping additional structures for waiting Cloudlets
+     * must override it to remove the Cloudlet from such structures too.
+     *
+     * @param cle the Cloudlet to remove
+     * @return true if the Cloudlet was in the waiting list, false otherwise
+     */
+    protected boolean removeCloudletFromWaitingList(final CloudletExecution cle) {
+        return cloudletWaitingList.remove(cle);
+    }
+
     @Override
     public void setVm(@NonNull final Vm vm) {
         if (isOtherVmAssigned(vm)) {
@@ -1027,6 +1561,7 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
         }
 
         this.vm = vm;
+        this.finishTimeProjection = null;
     }
 
     /**
@@ -1242,11 +1777,14 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
 
     @Override
     public void addCloudletToReturnedList(final Cloudlet cloudlet) {
-        this.cloudletReturnedList.add(cloudlet);
+        if (!cloudlet.getBroker().isCloudletFinishedStreamingEnabled()) {
+            this.cloudletReturnedList.add(cloudlet);
+        }
     }
 
     @Override
     public void deallocatePesFromVm(final long pesToRemove) {
+        updateSkippedProcessing();
         final long removedPes = currentMipsShare.remove(pesToRemove);
         removeUsedPes(removedPes);
     }
@@ -1284,7 +1822,7 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
 	 * @param cle Cloudlet to check if it can be added to the execution list
 	 * @return true if the Cloudlet can be added to the execution list, false otherwise
 	 */
-    private boolean canExecuteCloudlet(final CloudletExecution cle){
+    protected boolean canExecuteCloudlet(final CloudletExecution cle){
         return cle.getCloudlet().getStatus().ordinal() < Cloudlet.Status.FROZEN.ordinal() && canExecuteCloudletInternal(cle);
     }
 
@@ -1295,6 +1833,8 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
 
     @Override
     public void clear() {
+        this.finishTimeProjection = null;
+        this.statefulCloudlets.clear();
         this.cloudletWaitingList.clear();
         this.cloudletExecList.clear();
     }
@@ -23,6 +23,7 @@
  */
 package org.cloudsimplus.schedulers.cloudlet;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.cloudsimplus.cloudlets.Cloudlet;
 import org.cloudsimplus.cloudlets.CloudletExecution;
@@ -32,8 +33,8 @@ import org.cloudsimplus.schedulers.MipsShare;
 import org.cloudsimplus.util.MathUtil;
 
 import java.io.Serial;
-import java.util.List;
-import java.util.Optional;
+import java.io.Serializable;
+import java.util.*;
 import java.util.function.Predicate;
 
 /**
@@ -65,6 +66,12 @@ import java.util.function.Predicate;
  *     room for other process to run.
  *     The CFS scheduler uses a dynamic defined time-slice.
  *     </li>
+ *     <li>Uses a Red-Black tree (a {@link TreeSet}), as in real implementations of CFS,
+ *     to sort waiting Cloudlets (run-queue) increasingly, based on their virtual runtime (vruntime or VRT),
+ *     placing the Cloudlets that have run the least at the beginning of the tree.
+ *     Ties are broken by the Cloudlet priority and then by its id, so that each Cloudlet has a unique position.
+ *     That way, adding, removing and selecting Cloudlets from the run-queue takes O(log n).
+ *     </li>
  * </ul>
  *
  * And it currently <b>DOES NOT</b> implement the following features:
@@ -87,14 +94,6 @@ import java.util.function.Predicate;
  *     (application execution is simulated just computing the amount of instructions
  *     that can be run), it doesn't matter which PEs are "running" the application.
  *     </li>
- *	   <li>It doesn't use a Red-Black tree (such as the TreeSet), as in real implementations of CFS,
- *	   to sort waiting Cloudlets (run-queue list) increasingly, based on their virtual runtime (vruntime or VRT)
- *	   (placing the Cloudlets that have run the least at the top of the tree).
- *	   Furthermore, the use of such a data structure added some complexity to the implementation.
- *	   Since different Cloudlets may have the same virtual runtime, this introduced some issues when adding or
- *	   removing elements in a structure such as the TreeSet, that requires
- *	   each value (the virtual runtime in this case) used to sort the Set to be unique.
- *	   </li>
  * </ul>
  * </p>
  *
@@ -169,6 +168,16 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
      */
     private int latency = 3;
 
+    /**
+     * The run-queue sorted by the {@link #waitingCloudletsComparator(CloudletExecution, CloudletExecution)},
+     * indexing the same Cloudlets as the {@link #getCloudletWaitingList() waiting list}.
+     * The virtual runtime of a Cloudlet must not change while it is in this set,
+     * otherwise it cannot be found anymore.
+     */
+    @Getter(AccessLevel.NONE)
+    private final NavigableSet<CloudletExecution> runQueue =
+        new TreeSet<>((Comparator<CloudletExecution> & Serializable) CloudletSchedulerCompletelyFair::waitingCloudletsComparator);
+
     /**
      * Sets the latency time (in seconds).
      * @param latency the latency to set
@@ -195,7 +204,7 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
      * @return a negative value if c1 is lower than c2, zero if they are equals,
      * a positive value if c1 is greater than c2
      */
-    private int waitingCloudletsComparator(final CloudletExecution c1, final CloudletExecution c2){
+    private static int waitingCloudletsComparator(final CloudletExecution c1, final CloudletExecution c2){
         final double vRuntimeDiff = c1.getVirtualRuntime() - c2.getVirtualRuntime();
         if (vRuntimeDiff != 0) {
             return MathUtil.doubleToInt(vRuntimeDiff);
@@ -231,6 +240,9 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
     /**
      * {@return a <b>read-only</b> list of Cloudlets which are waiting to run},
      * the so called <a href="https://en.wikipedia.org/wiki/Run_queue">run queue</a>.
+     * The list keeps the order Cloudlets were added to it.
+     * The order Cloudlets are selected to run, according to their virtual runtime,
+     * is kept by an internal Red-Black tree.
      *
      * <p>
      * <b>NOTE:</b> Different from real implementations, this scheduler uses just one run queue
@@ -245,16 +257,47 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
 
     /**
      * {@inheritDoc}
-     * The cloudlet waiting list (runqueue) is sorted according to the virtual runtime (vruntime or VRT),
+     * Waiting Cloudlets are selected from the run-queue, which is sorted according to the virtual runtime (vruntime or VRT),
      * which indicates the amount of time the Cloudlet has run.
      * This runtime increases as the Cloudlet executes.
+     * The {@link #getCloudletWaitingList() waiting list} itself isn't sorted.
      *
      * @return {@inheritDoc}
      */
     @Override
     protected Optional<CloudletExecution> findSuitableWaitingCloudlet() {
-        sortCloudletWaitingList(this::waitingCloudletsComparator);
-        return super.findSuitableWaitingCloudlet();
+        return runQueue
+                .stream()
+                .filter(cle -> cle.getCloudlet().getStatus() != Cloudlet.Status.FROZEN)
+                .filter(this::canExecuteCloudlet)
+                .findFirst();
+    }
+
+    /**
+     * {@return the Cloudlets into the run-queue}, in the order they are selected to run.
+     */
+    List<CloudletExecution> getRunQueue() {
+        return List.copyOf(runQueue);
+    }
+
+    @Override
+    protected void addCloudletToWaitingList(final CloudletExecution cle) {
+        super.addCloudletToWaitingList(cle);
+        if (cle != CloudletExecution.NULL) {
+            runQueue.add(cle);
+        }
+    }
+
+    @Override
+    protected boolean removeCloudletFromWaitingList(final CloudletExecution cle) {
+        runQueue.remove(cle);
+        return super.removeCloudletFromWaitingList(cle);
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        runQueue.clear();
     }
 
 	/**
@@ -362,6 +405,28 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
                 .min().orElse(Double.MAX_VALUE);
     }
 
+    /**
+     * {@inheritDoc}
+     * Cloudlets are preempted at every update, according to their time-slice,
+     * therefore updates can't be skipped for this scheduler.
+     * @return {@inheritDoc}
+     */
+    @Override
+    protected boolean isEventDrivenUpdateSupported() {
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The virtual runtime of Cloudlets is updated when their processing is updated,
+     * therefore they can't be updated in parallel for this scheduler.
+     * @return {@inheritDoc}
+     */
+    @Override
+    protected boolean isParallelUpdateSupported() {
+        return false;
+    }
+
     @Override
     public long updateCloudletProcessing(final CloudletExecution cle, final double currentTime) {
         /*
@@ -482,7 +547,12 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
         is reset so that they can compete with other waiting Cloudlets to use
         the processor again.*/
         for(final CloudletExecution c: preemptedCloudlets) {
+            //Re-inserts the Cloudlet into the run-queue, since its position changes with its vruntime
+            final boolean queued = runQueue.remove(c);
             c.setVirtualRuntime(computeCloudletInitialVirtualRuntime(c));
+            if(queued) {
+                runQueue.add(c);
+            }
         }
 
         return nextCloudletFinishTime;
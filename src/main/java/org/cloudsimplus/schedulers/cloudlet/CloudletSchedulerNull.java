@@ -47,6 +47,15 @@ final class CloudletSchedulerNull implements CloudletScheduler {
     @Override public <T extends Cloudlet> List<T> getCloudletSubmittedList() { return Collections.emptyList(); }
     @Override public boolean isCloudletSubmittedListEnabled() { return false; }
     @Override public CloudletScheduler enableCloudletSubmittedList() { return this; }
+    @Override public boolean isEventDrivenUpdateEnabled() { return false; }
+    @Override public CloudletScheduler enableEventDrivenUpdate() { return this; }
+    @Override public CloudletScheduler disableEventDrivenUpdate() { return this; }
+    @Override public boolean isBatchedVmResourceAllocationEnabled() { return false; }
+    @Override public CloudletScheduler enableBatchedVmResourceAllocation() { return this; }
+    @Override public CloudletScheduler disableBatchedVmResourceAllocation() { return this; }
+    @Override public boolean isParallelUpdateEnabled() { return false; }
+    @Override public CloudletScheduler enableParallelUpdate(int threshold) { return this; }
+    @Override public CloudletScheduler disableParallelUpdate() { return this; }
     @Override public double getCurrentRequestedBwPercentUtilization() { return 0.0; }
     @Override public double getCurrentRequestedRamPercentUtilization() { return 0.0; }
     @Override public double getPreviousTime() {
@@ -7,11 +7,14 @@
  */
 package org.cloudsimplus.schedulers.cloudlet;
 
+import lombok.NonNull;
 import org.cloudsimplus.cloudlets.Cloudlet;
 import org.cloudsimplus.cloudlets.CloudletExecution;
 import org.cloudsimplus.resources.Pe;
 
 import java.io.Serial;
+import java.util.Comparator;
+import java.util.Optional;
 
 /**
  * Implements a policy of scheduling performed by a
@@ -35,6 +38,54 @@ public class CloudletSchedulerSpaceShared extends CloudletSchedulerAbstract {
     @Serial
     private static final long serialVersionUID = 4699085761507163349L;
 
+    /**
+     * Policies to select which waiting Cloudlet starts executing next,
+     * when the first Cloudlet in the waiting list doesn't fit into the free PEs.
+     * @see #setBackfilling(Backfilling)
+     */
+    public enum Backfilling {
+        /**
+         * Starts the first waiting Cloudlet that fits into the free PEs,
+         * even if that delays the start of Cloudlets waiting longer (the default policy).
+         */
+        FIRST_FIT,
+
+        /**
+         * <a href="https://doi.org/10.1007/3-540-60153-8_35">EASY backfilling</a>:
+         * the first waiting Cloudlet gets a reservation for the time
+         * enough PEs are expected to be freed for it.
+         * Other waiting Cloudlets that fit into the free PEs
+         * only start if they don't delay such a reservation:
+         * they finish before that time or just use PEs the first Cloudlet won't need.
+         */
+        EASY
+    }
+
+    /** The Cloudlets in the waiting list, grouped by the number of required PEs. */
+    private final CloudletWaitingQueue waitingQueue = new CloudletWaitingQueue();
+
+    /** @see #getBackfilling() */
+    private Backfilling backfilling = Backfilling.FIRST_FIT;
+
+    /**
+     * {@return the policy to select which waiting Cloudlet starts executing next}
+     * Defaults to {@link Backfilling#FIRST_FIT}.
+     */
+    public Backfilling getBackfilling() {
+        return backfilling;
+    }
+
+    /**
+     * Sets the policy to select which waiting Cloudlet starts executing next,
+     * when the first Cloudlet in the waiting list doesn't fit into the free PEs.
+     * @param backfilling the backfilling policy to set
+     * @return this scheduler
+     */
+    public CloudletSchedulerSpaceShared setBackfilling(@NonNull final Backfilling backfilling) {
+        this.backfilling = backfilling;
+        return this;
+    }
+
     @Override
     public double cloudletResume(Cloudlet cloudlet) {
         return findCloudletInList(cloudlet, getCloudletPausedList())
@@ -93,4 +144,107 @@ public class CloudletSchedulerSpaceShared extends CloudletSchedulerAbstract {
     protected boolean canExecuteCloudletInternal(final CloudletExecution cle) {
         return isThereEnoughFreePesForCloudlet(cle);
     }
+
+    /**
+     * {@inheritDoc}
+     * The Cloudlet is found from the {@link CloudletWaitingQueue},
+     * just checking Cloudlets that require at most the number of free PEs,
+     * according to the {@link #getBackfilling() backfilling policy}.
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    protected Optional<CloudletExecution> findSuitableWaitingCloudlet() {
+        final long freePes = getVm().getProcessor().getAvailableResource();
+        if (backfilling == Backfilling.FIRST_FIT) {
+            return waitingQueue.findFirst(freePes, this::canExecuteCloudlet);
+        }
+
+        final Optional<CloudletExecution> optionalFirst = waitingQueue.findFirst(Long.MAX_VALUE, this::isNotFrozen);
+        if (optionalFirst.isEmpty() || canExecuteCloudlet(optionalFirst.get())) {
+            return optionalFirst;
+        }
+
+        return findBackfillingCloudlet(optionalFirst.get(), freePes);
+    }
+
+    /**
+     * Finds the first waiting Cloudlet that can start executing
+     * without delaying the reservation for the first waiting Cloudlet,
+     * according to the {@link Backfilling#EASY} policy.
+     *
+     * @param first the first waiting Cloudlet, which doesn't fit into the free PEs
+     * @param freePes the number of free PEs
+     * @return an {@link Optional} containing the found Cloudlet or an empty Optional otherwise
+     */
+    private Optional<CloudletExecution> findBackfillingCloudlet(final CloudletExecution first, final long freePes) {
+        final double currentTime = getVm().getSimulation().clock();
+
+        /* Finds the time enough PEs are expected to be freed for the first Cloudlet (the shadow time)
+         * and the number of PEs that will be left for other Cloudlets at that time. */
+        double shadowTime = Double.MAX_VALUE;
+        long extraPes = Long.MAX_VALUE;
+        long pesAtShadowTime = freePes;
+        final var runningCloudlets =
+            getCloudletExecList()
+                .stream()
+                .sorted(Comparator.comparingDouble(cle -> estimatedExecutionTime(cle, currentTime)))
+                .toList();
+        for (final CloudletExecution cle : runningCloudlets) {
+            pesAtShadowTime += cle.getPesNumber();
+            if (pesAtShadowTime >= first.getPesNumber()) {
+                shadowTime = estimatedExecutionTime(cle, currentTime);
+                extraPes = pesAtShadowTime - first.getPesNumber();
+                break;
+            }
+        }
+
+        final double reservationTime = shadowTime;
+        final long reservationExtraPes = extraPes;
+        return waitingQueue.findFirst(
+            freePes,
+            cle -> canExecuteCloudlet(cle) &&
+                   (cle.getPesNumber() <= reservationExtraPes ||
+                    estimatedExecutionTime(cle, currentTime) <= reservationTime));
+    }
+
+    /**
+     * Estimates the time a given Cloudlet will take to finish
+     * (if it's running) or to execute (if it's waiting),
+     * using the MIPS that would currently be allocated for it.
+     *
+     * @param cle the Cloudlet to estimate the execution time
+     * @param currentTime the current simulation time
+     * @return the estimated execution time (which is a relative delay from the current simulation time)
+     */
+    private double estimatedExecutionTime(final CloudletExecution cle, final double currentTime) {
+        final double allocatedMips = getAllocatedMipsForCloudlet(cle, currentTime);
+        final double timeForRemainingLen =
+            allocatedMips > 0 ? cle.getRemainingCloudletLength() / allocatedMips : Double.MAX_VALUE;
+        return Math.min(cle.getRemainingLifeTime(), timeForRemainingLen);
+    }
+
+    private boolean isNotFrozen(final CloudletExecution cle) {
+        return cle.getCloudlet().getStatus() != Cloudlet.Status.FROZEN;
+    }
+
+    @Override
+    protected void addCloudletToWaitingList(final CloudletExecution cle) {
+        super.addCloudletToWaitingList(cle);
+        if (cle != CloudletExecution.NULL) {
+            waitingQueue.add(cle);
+        }
+    }
+
+    @Override
+    protected boolean removeCloudletFromWaitingList(final CloudletExecution cle) {
+        waitingQueue.remove(cle);
+        return super.removeCloudletFromWaitingList(cle);
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        waitingQueue.clear();
+    }
 }
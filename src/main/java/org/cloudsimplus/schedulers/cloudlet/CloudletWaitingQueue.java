@@ -0,0 +1,160 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.schedulers.cloudlet;
+
+import org.cloudsimplus.cloudlets.CloudletExecution;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * A queue of waiting {@link CloudletExecution}s used internally by {@link CloudletSchedulerSpaceShared},
+ * which groups Cloudlets into buckets by their number of required PEs.
+ * Inside each bucket, Cloudlets are kept in the order they were added.
+ *
+ * <p>That way, finding the first added Cloudlet that requires at most a given number of PEs
+ * just checks the head of the buckets for such numbers of PEs,
+ * instead of scanning the whole waiting list.</p>
+ *
+ * @since CloudSim Plus 8.5.0
+ */
+final class CloudletWaitingQueue implements Serializable {
+    @Serial
+    private static final long serialVersionUID = -1519722462371935866L;
+
+    /**
+     * A Cloudlet into the queue.
+     * @param order the order the Cloudlet was added to the queue
+     * @param cle the waiting Cloudlet
+     */
+    private record Entry(long order, CloudletExecution cle) implements Serializable {}
+
+    /** Maps a number of PEs to the Cloudlets requiring such PEs, in the order they were added. */
+    private final NavigableMap<Long, Deque<Entry>> buckets;
+
+    /** The order for the next Cloudlet added. */
+    private long nextOrder;
+
+    private int size;
+
+    CloudletWaitingQueue() {
+        this.buckets = new TreeMap<>();
+    }
+
+    /**
+     * Adds a Cloudlet to the end of the queue.
+     * @param cle the Cloudlet to add
+     */
+    void add(final CloudletExecution cle) {
+        buckets.computeIfAbsent(cle.getPesNumber(), pes -> new ArrayDeque<>()).addLast(new Entry(nextOrder++, cle));
+        size++;
+    }
+
+    /**
+     * Removes a Cloudlet from the queue.
+     * @param cle the Cloudlet to remove
+     * @return true if the Cloudlet was in the queue, false otherwise
+     */
+    boolean remove(final CloudletExecution cle) {
+        if (remove(cle.getPesNumber(), cle)) {
+            return true;
+        }
+
+        //The number of PEs of the Cloudlet may have changed after it was added
+        for (final long pes : buckets.keySet()) {
+            if (pes != cle.getPesNumber() && remove(pes, cle)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Removes a Cloudlet from the bucket for a given number of PEs.
+     * @param pes the number of PEs of the bucket
+     * @param cle the Cloudlet to remove
+     * @return true if the Cloudlet was in the bucket, false otherwise
+     */
+    private boolean remove(final long pes, final CloudletExecution cle) {
+        final Deque<Entry> bucket = buckets.get(pes);
+        if (bucket == null) {
+            return false;
+        }
+
+        final Iterator<Entry> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().cle() == cle) {
+                iterator.remove();
+                size--;
+                if (bucket.isEmpty()) {
+                    buckets.remove(pes);
+                }
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Finds the first added Cloudlet that requires at most a given number of PEs
+     * and matches a given condition.
+     * Inside each bucket, Cloudlets not matching the condition are skipped,
+     * but the scan stops as soon as a Cloudlet added after the best one found so far is reached.
+     *
+     * @param maxPes the maximum number of PEs the Cloudlet can require
+     * @param condition the condition the Cloudlet must match
+     * @return an {@link Optional} containing the found Cloudlet or an empty Optional otherwise
+     */
+    Optional<CloudletExecution> findFirst(final long maxPes, final Predicate<CloudletExecution> condition) {
+        Entry first = null;
+        for (final Deque<Entry> bucket : buckets.headMap(maxPes, true).values()) {
+            for (final Entry entry : bucket) {
+                if (first != null && entry.order() > first.order()) {
+                    break;
+                }
+
+                if (condition.test(entry.cle())) {
+                    first = entry;
+                    break;
+                }
+            }
+        }
+
+        return first == null ? Optional.empty() : Optional.of(first.cle());
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        buckets.clear();
+        size = 0;
+    }
+}
@@ -6,6 +6,7 @@
  */
 package org.cloudsimplus.schedulers.vm;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
 import org.cloudsimplus.hosts.Host;
@@ -15,8 +16,10 @@ import org.cloudsimplus.schedulers.MipsShare;
 import org.cloudsimplus.vms.Vm;
 import org.cloudsimplus.vms.VmSimple;
 
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Stream;
+import java.util.Map;
+import java.util.function.Predicate;
 
 import static java.util.stream.Collectors.toList;
 
@@ -34,6 +37,38 @@ public abstract class VmSchedulerAbstract implements VmScheduler {
     private Host host;
     private final double vmMigrationCpuOverhead;
 
+    /**
+     * Maps each VM migrating out of the Host to the builder of the MIPS share it is actually allocated,
+     * which is reduced due to migration overhead.
+     * @see #getMipsShareRequestedReduced(Vm, MipsShare)
+     */
+    @Getter(AccessLevel.NONE)
+    private final Map<Vm, ReducedMipsShareBuilder> reducedMipsShareMap;
+
+    /**
+     * Builds the reduced MIPS share for a VM migrating out of the Host,
+     * reusing the last built share while its values don't change.
+     * Since a built {@link MipsShare} is given to the VM and its CloudletScheduler,
+     * it's never changed by the builder: a new one is built when the values change.
+     * That way, no MipsShare is created at every processing update during the migration.
+     */
+    private static final class ReducedMipsShareBuilder {
+        private MipsShare share = MipsShare.NULL;
+
+        /**
+         * {@return a MIPS share with the given values}
+         * @param pes the number of PEs shared
+         * @param mips the MIPS capacity for every PE
+         */
+        MipsShare build(final long pes, final double mips) {
+            if (share == MipsShare.NULL || share.pes() != pes || share.mips() != mips) {
+                share = new MipsShare(pes, mips);
+            }
+
+            return share;
+        }
+    }
+
     /**
      * Creates a VmScheduler, defining a CPU overhead for VM migration.
      * @param vmMigrationCpuOverhead the percentage of Host's CPU usage increase when a
@@ -45,6 +80,7 @@ public abstract class VmSchedulerAbstract implements VmScheduler {
         }
 
         setHost(Host.NULL);
+        this.reducedMipsShareMap = new HashMap<>();
         this.vmMigrationCpuOverhead = vmMigrationCpuOverhead;
     }
 
@@ -83,6 +119,8 @@ public abstract class VmSchedulerAbstract implements VmScheduler {
             host.removeVmMigratingOut(vm);
         }
 
+        reducedMipsShareMap.remove(vm);
+
         ((VmSimple)vm).setRequestedMips(new MipsShare(requestedMips));
         if(allocatePesForVmInternal(vm, requestedMips)) {
             updateHostPesStatusToBusy(vm);
@@ -98,22 +136,25 @@ public abstract class VmSchedulerAbstract implements VmScheduler {
      * @param vm the VM to set the status of its used physical PEs
      * */
     private void updateHostPesStatusToBusy(final Vm vm) {
-        updateHostPesStatus(host.getFreePeList(), vm.getPesNumber(), Pe.Status.BUSY);
+        updateHostPesStatus(Pe::isFree, vm.getPesNumber(), Pe.Status.BUSY);
     }
 
     /**
      * Based on a specific number of virtual PEs, sets the status of the same
      * number of physical PEs in its Host to a given status.
-     * @param peList the list of physical PEs from which the corresponding virtual PEs will have the status changed
+     * @param currentStatus a {@link Predicate} to select the physical PEs from which
+     *                      the corresponding virtual PEs will have the status changed
      * @param vPesNumber the number of Virtual PEs that correspond to the number of physical PEs to have their status changed
      * @param newStatus the status to set
      */
-    private void updateHostPesStatus(final List<Pe> peList, final long vPesNumber, final Pe.Status newStatus) {
+    private void updateHostPesStatus(final Predicate<Pe> currentStatus, final long vPesNumber, final Pe.Status newStatus) {
         if(vPesNumber <= 0) {
             return;
         }
 
-        final var selectedPesList = peList.stream().limit(vPesNumber).collect(toList());
+        /* Just filters the PEs required, instead of getting the list
+         * of all PEs with the current status from the Host. */
+        final var selectedPesList = host.getPeList().stream().filter(currentStatus).limit(vPesNumber).collect(toList());
         ((HostSimple)host).setPeStatus(selectedPesList, newStatus);
     }
 
@@ -130,6 +171,7 @@ public abstract class VmSchedulerAbstract implements VmScheduler {
             return;
         }
 
+        reducedMipsShareMap.remove(vm);
         final long removedPes = deallocatePesFromVmInternal(vm, pesToRemove);
         updateHostUsedPesToFree(removedPes);
     }
@@ -140,7 +182,7 @@ public abstract class VmSchedulerAbstract implements VmScheduler {
      * @param removedPes number of PEs actually removed from the VM
      */
     private void updateHostUsedPesToFree(final long removedPes) {
-        updateHostPesStatus(host.getBusyPeList(), removedPes, Pe.Status.FREE);
+        updateHostPesStatus(Pe::isBusy, removedPes, Pe.Status.FREE);
     }
 
     /**
@@ -176,13 +218,16 @@ public abstract class VmSchedulerAbstract implements VmScheduler {
      *
      * @param vm the VM to get the MIPS requested
      * @param mipsShareRequested the VM requested MIPS List
-     * @return a new VM requested MIPS share with adjusted MIPS capacity
+     * @return the VM requested MIPS share with adjusted MIPS capacity,
+     *         which is the same object in every call for a given VM while its values don't change
      */
     protected MipsShare getMipsShareRequestedReduced(final Vm vm, final MipsShare mipsShareRequested){
         final double peMips = getPeCapacity();
         final long requestedPes = mipsShareRequested.pes();
         final double requestedMips = mipsShareRequested.mips();
-        return new MipsShare(requestedPes, Math.min(requestedMips, peMips)* mipsPercentToRequest(vm));
+        return reducedMipsShareMap
+                .computeIfAbsent(vm, key -> new ReducedMipsShareBuilder())
+                .build(requestedPes, Math.min(requestedMips, peMips)* mipsPercentToRequest(vm));
     }
 
     @Override
@@ -200,7 +245,14 @@ public abstract class VmSchedulerAbstract implements VmScheduler {
      *       heterogeneous PEs.
      */
     public long getPeCapacity() {
-        return getWorkingPeList().isEmpty() ? 0 : getWorkingPeList().get(0).getCapacity();
+        //Finds the first working PE, instead of getting the list of all working ones
+        for (final Pe pe : host.getPeList()) {
+            if (pe.isWorking()) {
+                return pe.getCapacity();
+            }
+        }
+
+        return 0;
     }
 
     /**
@@ -220,12 +272,20 @@ public abstract class VmSchedulerAbstract implements VmScheduler {
 
     @Override
     public double getTotalAvailableMips() {
-        final var vmStream = Stream.concat(host.getVmList().stream(), host.getVmsMigratingIn().stream());
-        final double allocatedMips =
-                vmStream
-                    .map(vm -> (VmSimple)vm)
-                    .mapToDouble(this::actualVmTotalRequestedMips)
-                    .sum();
+        /* When there is no migrating VM, the MIPS allocated to each VM is the actual MIPS requested to the Host.
+         * This way, the list of migrating VMs doesn't need to be checked for every VM.
+         * The total isn't kept incrementally because the share allocated to a VM is also changed
+         * by its CloudletScheduler (when Host PEs fail) and the migration overhead changes
+         * when VMs start or finish migrating, both outside this scheduler. */
+        final boolean migratingVms = host.hasMigratingVms();
+        double allocatedMips = 0;
+        for (final Vm vm : host.getVmList()) {
+            allocatedMips += migratingVms ? actualVmTotalRequestedMips((VmSimple) vm) : ((VmSimple) vm).getAllocatedMips().totalMips();
+        }
+
+        for (final Vm vm : host.getVmsMigratingIn()) {
+            allocatedMips += actualVmTotalRequestedMips((VmSimple) vm);
+        }
 
         return host.getTotalMipsCapacity() - allocatedMips;
     }
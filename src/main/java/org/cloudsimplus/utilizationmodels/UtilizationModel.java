@@ -94,6 +94,43 @@ public interface UtilizationModel {
      */
     double getUtilization();
 
+    /**
+     * Gets the next time (after the given one) the utilization returned by this model may change.
+     * That enables the simulation to skip the time in between, where nothing changes.
+     * Models that can't predict such a time just return the given time,
+     * meaning the utilization may change at any time.
+     *
+     * <p>While the utilization doesn't change, the progress of Cloudlets is linear in time.
+     * That way, the processing of Cloudlets whose models never change can be computed at once
+     * for a whole time interval, instead of at every
+     * {@link org.cloudsimplus.datacenters.Datacenter#getSchedulingInterval() scheduling interval}.
+     * That is used by the {@link org.cloudsimplus.schedulers.cloudlet.CloudletScheduler#enableEventDrivenUpdate() event-driven update}
+     * of Cloudlets and by the {@link org.cloudsimplus.datacenters.Datacenter#enableAdaptiveScheduling() adaptive scheduling}
+     * of Datacenters.</p>
+     *
+     * @param time the current simulation time (in seconds)
+     * @return the next time the utilization may change (in seconds);
+     *         the given time if it may change at any time;
+     *         or {@link Double#MAX_VALUE} if it never changes
+     * @since CloudSim Plus 8.5.0
+     */
+    default double getNextUtilizationChangeTime(final double time) {
+        return time;
+    }
+
+    /**
+     * Checks if the model doesn't change its state when the utilization is requested.
+     * In such a case, {@link #getUtilization(double)} can be called concurrently,
+     * such as when a single instance is shared among Cloudlets updated in parallel.
+     * Models that can't ensure that just return false.
+     *
+     * @return true if the model is stateless, false otherwise
+     * @since CloudSim Plus 8.5.0
+     */
+    default boolean isStateless() {
+        return false;
+    }
+
     /**
      * Checks if the resource utilization requested by a Cloudlet is allowed to exceed 100% or not.
      * <p><b>WARNING:</b> This attribute is just considered when the {@link #getUnit()}
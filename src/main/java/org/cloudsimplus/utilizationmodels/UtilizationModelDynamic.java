@@ -25,7 +25,6 @@ package org.cloudsimplus.utilizationmodels;
 
 import lombok.Getter;
 import lombok.NonNull;
-import lombok.Setter;
 import org.cloudsimplus.util.Conversion;
 
 import java.util.function.Function;
@@ -46,6 +45,11 @@ import java.util.function.Function;
  * @since CloudSim Plus 1.0
  */
 public class UtilizationModelDynamic extends UtilizationModelAbstract {
+    /**
+     * The default {@link #utilizationUpdateFunction}, which keeps the current utilization unchanged.
+     */
+    private static final Function<UtilizationModelDynamic, Double> CONSTANT_UTILIZATION = um -> um.currentUtilization;
+
     /**
      * Indicates whether the utilization model is readonly.
      * It's set to true when using the
@@ -99,7 +103,6 @@ public class UtilizationModelDynamic extends UtilizationModelAbstract {
      * <p>Defining a geometric progression for the resource utilization is as simple as
      * changing the plus signal to a multiplication signal.</p>
      */
-    @Setter @NonNull
     private Function<UtilizationModelDynamic, Double> utilizationUpdateFunction;
 
     /**
@@ -200,7 +203,7 @@ public class UtilizationModelDynamic extends UtilizationModelAbstract {
         this.currentUtilizationTime = 0;
         this.setCurrentUtilization(initialUtilization);
 
-        utilizationUpdateFunction = modelInstance -> modelInstance.currentUtilization;
+        utilizationUpdateFunction = CONSTANT_UTILIZATION;
     }
 
     /**
@@ -221,7 +224,7 @@ public class UtilizationModelDynamic extends UtilizationModelAbstract {
          * that will cause an infinite loop, since the {@link #getUtilization(double)} will call
          * the given function to increase the current utilization and return the current value.
          */
-        this.utilizationUpdateFunction = modelInstance -> modelInstance.currentUtilization;
+        this.utilizationUpdateFunction = CONSTANT_UTILIZATION;
         this.readOnly = true;
     }
 
@@ -237,7 +240,8 @@ public class UtilizationModelDynamic extends UtilizationModelAbstract {
         this.previousUtilizationTime = source.previousUtilizationTime;
         this.maxResourceUtilization = source.maxResourceUtilization;
         this.setSimulation(source.getSimulation());
-        this.setUtilizationUpdateFunction(source.utilizationUpdateFunction);
+        //Assigns the field directly to keep the time span of the source object
+        this.utilizationUpdateFunction = source.utilizationUpdateFunction;
     }
 
     /**
@@ -250,6 +254,12 @@ public class UtilizationModelDynamic extends UtilizationModelAbstract {
             return currentUtilization;
         }
 
+        if(utilizationUpdateFunction == CONSTANT_UTILIZATION) {
+            //The utilization never changes, so no state is updated (enabling concurrent calls)
+            return previousUtilizationTime == time || maxResourceUtilization <= 0 ?
+                        currentUtilization : Math.min(currentUtilization, maxResourceUtilization);
+        }
+
         currentUtilizationTime = time;
         if (previousUtilizationTime == time) {
             return currentUtilization;
@@ -277,6 +287,45 @@ public class UtilizationModelDynamic extends UtilizationModelAbstract {
         return currentUtilization;
     }
 
+    /**
+     * {@inheritDoc}
+     * @param time {@inheritDoc}
+     * @return {@link Double#MAX_VALUE} if no {@link #setUtilizationUpdateFunction(Function) update function}
+     *         was set (since the utilization never changes), or the given time otherwise
+     */
+    @Override
+    public double getNextUtilizationChangeTime(final double time) {
+        return utilizationUpdateFunction == CONSTANT_UTILIZATION ? Double.MAX_VALUE : time;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return true if no {@link #setUtilizationUpdateFunction(Function) update function}
+     *         was set (since the utilization never changes), false otherwise
+     */
+    @Override
+    public boolean isStateless() {
+        return readOnly || utilizationUpdateFunction == CONSTANT_UTILIZATION;
+    }
+
+    /**
+     * Sets the function that computes the resource utilization along the time.
+     * @param utilizationUpdateFunction the function to set
+     * @return this UtilizationModel
+     * @see #utilizationUpdateFunction
+     */
+    public UtilizationModelDynamic setUtilizationUpdateFunction(@NonNull final Function<UtilizationModelDynamic, Double> utilizationUpdateFunction) {
+        if(this.utilizationUpdateFunction == CONSTANT_UTILIZATION && utilizationUpdateFunction != CONSTANT_UTILIZATION) {
+            /* While the utilization is constant, the time it is requested isn't stored (see getUtilizationInternal).
+             * This way, the time span for the new function is computed from the current time. */
+            previousUtilizationTime = getSimulation().clock();
+            currentUtilizationTime = previousUtilizationTime;
+        }
+
+        this.utilizationUpdateFunction = utilizationUpdateFunction;
+        return this;
+    }
+
     /**
      * {@return the time difference} from the current simulation time to the
      * last time the resource utilization was updated.
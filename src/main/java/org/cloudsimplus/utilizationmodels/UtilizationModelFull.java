@@ -30,4 +30,23 @@ public class UtilizationModelFull extends UtilizationModelAbstract {
     protected final double getUtilizationInternal(final double time) {
         return HUNDRED_PERCENT;
     }
+
+    /**
+     * {@inheritDoc}
+     * @param time {@inheritDoc}
+     * @return Always return {@link Double#MAX_VALUE}, since the utilization never changes.
+     */
+    @Override
+    public double getNextUtilizationChangeTime(final double time) {
+        return Double.MAX_VALUE;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return Always return true, since the utilization never changes.
+     */
+    @Override
+    public boolean isStateless() {
+        return true;
+    }
 }
@@ -43,6 +43,8 @@ final class UtilizationModelNull implements UtilizationModel {
     }
     @Override public UtilizationModel setSimulation(final Simulation simulation) {return this;}
     @Override public double getUtilization(final double time) { return 0; }
+    @Override public double getNextUtilizationChangeTime(final double time) { return Double.MAX_VALUE; }
+    @Override public boolean isStateless() { return true; }
     @Override public double getUtilization() {
         return 0;
     }
@@ -406,6 +406,27 @@ public class UtilizationModelPlanetLab extends UtilizationModelAbstract {
         return (utilization[prevIndex] + utilization[nextIndex]) / 2.0;
     }
 
+    /**
+     * {@inheritDoc}
+     * The utilization just changes at the boundaries of trace samples,
+     * which are collected at every {@link #getSchedulingInterval()}.
+     * @param time {@inheritDoc}
+     * @return the next time multiple of the {@link #getSchedulingInterval()}
+     */
+    @Override
+    public double getNextUtilizationChangeTime(final double time) {
+        return (Math.floor(time / schedulingInterval) + 1) * schedulingInterval;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return Always return true, since the utilization is just read from the trace.
+     */
+    @Override
+    public boolean isStateless() {
+        return true;
+    }
+
     /**
      * {@return the index of the utilization inside the trace file}
      * that corresponds to a given time.
@@ -90,6 +90,30 @@ public class ResourceStats<T extends Machine> {
         }
     }
 
+    /**
+     * Collects the current resource utilization a given number of times,
+     * representing the samples for times the machine processing was not updated
+     * because its resource utilization was known not to change in the meantime.
+     * Therefore, it must be called before the machine processing is updated.
+     * That keeps the statistics the same as if the machine was updated at every one of such times.
+     * It must be called just when the machine was busy in the meantime,
+     * since no data is collected for idle machines.
+     *
+     * @param samples the number of samples to collect
+     * @param lastSampleTime the time of the last skipped sample
+     * @see org.cloudsimplus.datacenters.Datacenter#enableAdaptiveScheduling()
+     * @since CloudSim Plus 8.5.0
+     */
+    public void addSkippedSamples(final int samples, final double lastSampleTime) {
+        final double utilization = resourceUtilizationFunction.apply(machine);
+        for (int i = 0; i < samples; i++) {
+            this.stats.addValue(utilization);
+        }
+
+        this.previousUtilization = utilization;
+        this.previousTime = (int)lastSampleTime;
+    }
+
     /**
      * Gets the minimum resource utilization percentage (from 0 to 1).
      * @return
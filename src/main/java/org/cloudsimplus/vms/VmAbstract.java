@@ -286,7 +286,7 @@ public abstract class VmAbstract extends CustomerEntityAbstract implements Vm {
         final double nextSimulationDelay = cloudletScheduler.updateProcessing(currentTime, mipsShare);
 
         cpuUtilizationStats.add(currentTime);
-        getBroker().requestIdleVmDestruction(this);
+        getSimulation().runOrDefer(() -> getBroker().requestIdleVmDestruction(this));
         if (nextSimulationDelay == Double.MAX_VALUE) {
             return nextSimulationDelay;
         }
@@ -705,6 +705,15 @@ public abstract class VmAbstract extends CustomerEntityAbstract implements Vm {
         return onCreationFailureListeners.remove(listener);
     }
 
+    /**
+     * Checks if there is any listener notified by the broker when the VM is placed into a Host
+     * or its creation fails.
+     * @return true if there is some of such listeners, false otherwise
+     */
+    public boolean hasCreationListeners() {
+        return !onHostAllocationListeners.isEmpty() || !onCreationFailureListeners.isEmpty();
+    }
+
     @Override
     public boolean removeOnUpdateProcessingListener(@NonNull final EventListener<VmHostEventInfo> listener) {
         return onUpdateProcessingListeners.remove(listener);
@@ -833,7 +842,10 @@ public abstract class VmAbstract extends CustomerEntityAbstract implements Vm {
         }
 
         vmScaling.setVm(this);
-        this.addOnUpdateProcessingListener(vmScaling::requestUpScalingIfPredicateMatches);
+        //Null scaling objects do nothing when the VM processing is updated, so they aren't registered as listeners
+        if (vmScaling != VerticalVmScaling.NULL && vmScaling != HorizontalVmScaling.NULL) {
+            this.addOnUpdateProcessingListener(vmScaling::requestUpScalingIfPredicateMatches);
+        }
         return vmScaling;
     }
 
@@ -32,7 +32,10 @@ import java.util.function.Function;
  * @since CloudSim Plus 6.1.0
  */
 public class VmResourceStats extends ResourceStats<Vm> {
-    public static final VmResourceStats NULL = new VmResourceStats(Vm.NULL, vm -> 0.0) { @Override public boolean add(double time) { return false; }};
+    public static final VmResourceStats NULL = new VmResourceStats(Vm.NULL, vm -> 0.0) {
+        @Override public boolean add(double time) { return false; }
+        @Override public void addSkippedSamples(int samples, double lastSampleTime) {/**/}
+    };
 
     /**
      * Creates a VmResourceStats to collect resource utilization statistics for a VM.
@@ -0,0 +1,54 @@
+package org.cloudsimplus.brokers;
+
+import org.cloudsimplus.cloudlets.Cloudlet;
+import org.cloudsimplus.cloudlets.CloudletSimple;
+import org.cloudsimplus.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CloudletWaitingIndexTest {
+    @Test
+    void pollCloudletsInOrderSkippingThoseWaitingForVmNotCreated() {
+        final var cloudlets = new CloudletList();
+        final var index = new CloudletWaitingIndex(cloudlets);
+        final var vm = new VmSimple(0, 1000, 1);
+        final var cloudlet0 = new CloudletSimple(0, 1000, 1);
+        final var cloudlet1 = new CloudletSimple(1, 1000, 1);
+        final var cloudlet2 = new CloudletSimple(2, 1000, 1);
+        final var cloudlet3 = new CloudletSimple(3, 1000, 1);
+        index.addAll(List.of(cloudlet0, cloudlet1, cloudlet2, cloudlet3));
+        assertEquals(List.of(cloudlet0, cloudlet1, cloudlet2, cloudlet3), index.pollCloudletsToMap());
+
+        index.waitForAnyVm(cloudlet0);
+        index.waitForVm(cloudlet1, vm);
+        index.waitForAnyVm(cloudlet3);
+        index.removeAll(List.of(cloudlet2));
+        assertEquals(List.of(cloudlet0, cloudlet1, cloudlet3), cloudlets);
+        assertEquals(List.of(cloudlet0, cloudlet3), index.pollCloudletsToMap());
+
+        index.waitForAnyVm(cloudlet0);
+        index.waitForAnyVm(cloudlet3);
+        vm.setCreated(true);
+        assertEquals(List.of(cloudlet0, cloudlet1, cloudlet3), index.pollCloudletsToMap());
+    }
+
+    @Test
+    void pollAllCloudletsAfterListChangedOutsideIndex() {
+        final var cloudlets = new CloudletList();
+        final var index = new CloudletWaitingIndex(cloudlets);
+        final var vm = new VmSimple(0, 1000, 1);
+        final Cloudlet cloudlet0 = new CloudletSimple(0, 1000, 1);
+        final Cloudlet cloudlet1 = new CloudletSimple(1, 1000, 1);
+        final Cloudlet cloudlet2 = new CloudletSimple(2, 1000, 1);
+        index.addAll(List.of(cloudlet0, cloudlet1));
+        index.pollCloudletsToMap().forEach(cloudlet -> index.waitForVm(cloudlet, vm));
+        assertTrue(index.pollCloudletsToMap().isEmpty());
+
+        cloudlets.remove(cloudlet0);
+        cloudlets.add(cloudlet2);
+        assertEquals(List.of(cloudlet1, cloudlet2), index.pollCloudletsToMap());
+    }
+}
@@ -0,0 +1,62 @@
+package org.cloudsimplus.brokers;
+
+import org.cloudsimplus.vms.Vm;
+import org.cloudsimplus.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VmFreePesIndexTest {
+    private static VmSimple newVm(final long id, final long pes) {
+        return new VmSimple(id, 1000, pes);
+    }
+
+    @Test
+    void findBestFitVmWithLowestFreePesAndFirstInList() {
+        final var vms = new VmList();
+        final var vm0 = newVm(0, 4);
+        final var vm1 = newVm(1, 2);
+        final var vm2 = newVm(2, 2);
+        vms.add(vm0);
+        vms.add(vm1);
+        vms.add(vm2);
+        final var index = new VmFreePesIndex(vms);
+
+        assertSame(vm1, index.findBestFit(1));
+        assertSame(vm0, index.findBestFit(3));
+        assertSame(Vm.NULL, index.findBestFit(5));
+
+        vm1.removeExpectedFreePesNumber(2);
+        index.update(vm1);
+        assertSame(vm2, index.findBestFit(1));
+
+        vms.remove(vm2);
+        assertSame(vm0, index.findBestFit(1));
+    }
+
+    @Test
+    void findFirstFitVmCyclicallyFromStartPosition() {
+        final var vms = new VmList();
+        final var vm0 = newVm(0, 4);
+        final var vm1 = newVm(1, 1);
+        final var vm2 = newVm(2, 2);
+        vms.add(vm0);
+        vms.add(vm1);
+        vms.add(vm2);
+        final var index = new VmFreePesIndex(vms);
+
+        assertEquals(0, index.findFirstFit(0, 1));
+        assertEquals(1, index.findFirstFit(1, 1));
+        assertEquals(2, index.findFirstFit(1, 2));
+        assertEquals(0, index.findFirstFit(2, 3));
+        assertEquals(-1, index.findFirstFit(0, 5));
+
+        vm0.removeExpectedFreePesNumber(2);
+        index.update(vm0);
+        assertEquals(-1, index.findFirstFit(1, 3));
+
+        vms.add(newVm(3, 8));
+        assertEquals(3, index.findFirstFit(1, 3));
+        assertEquals(-1, new VmFreePesIndex(new VmList()).findFirstFit(0, 1));
+    }
+}
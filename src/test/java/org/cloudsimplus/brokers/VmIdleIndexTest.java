@@ -0,0 +1,57 @@
+package org.cloudsimplus.brokers;
+
+import org.cloudsimplus.cloudlets.CloudletSimple;
+import org.cloudsimplus.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VmIdleIndexTest {
+    private static VmSimple newCreatedVm(final long id, final double lastBusyTime) {
+        final var vm = new VmSimple(id, 1000, 1);
+        vm.setCreated(true);
+        vm.setStartTime(1);
+        vm.setLastBusyTime(lastBusyTime);
+        return vm;
+    }
+
+    @Test
+    void pollVmsIdleForDestructionDelayInReverseListOrder() {
+        final var vms = new VmList();
+        final var vm0 = newCreatedVm(0, 10);
+        final var vm1 = newCreatedVm(1, 5);
+        final var vm2 = newCreatedVm(2, 8);
+        vms.addAll(List.of(vm0, vm1, vm2));
+        final var index = new VmIdleIndex(vms);
+        vms.forEach(vm -> index.update(vm, 4));
+
+        assertTrue(index.pollUntil(8).isEmpty());
+        assertEquals(List.of(vm2, vm1), index.pollUntil(12));
+        assertTrue(index.pollUntil(12).isEmpty());
+
+        index.update(vm1, 4);
+        vm1.setCreated(false);
+        assertEquals(List.of(vm0), index.pollUntil(20));
+    }
+
+    @Test
+    void indexBusyVmsJustByLifetime() {
+        final var vms = new VmList();
+        final var vm0 = newCreatedVm(0, 2);
+        final var vm1 = newCreatedVm(1, 2);
+        vm1.setLifeTime(10);
+        vm0.getCloudletScheduler().cloudletSubmit(new CloudletSimple(0, 1000, 1));
+        vm1.getCloudletScheduler().cloudletSubmit(new CloudletSimple(1, 1000, 1));
+        vms.addAll(List.of(vm0, vm1));
+        final var index = new VmIdleIndex(vms);
+        vms.forEach(vm -> index.update(vm, 4));
+
+        assertTrue(index.pollUntil(10).isEmpty());
+        assertEquals(List.of(vm1), index.pollUntil(11));
+
+        index.update(vm0, DatacenterBroker.DEF_VM_DESTRUCTION_DELAY);
+        assertTrue(index.pollUntil(Double.MAX_VALUE).isEmpty());
+    }
+}
@@ -0,0 +1,188 @@
+package org.cloudsimplus.core.events;
+
+import org.cloudsimplus.core.CloudSimPlus;
+import org.cloudsimplus.core.SimEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks if a {@link CalendarQueue} keeps the same ordering of a {@link FutureQueue}.
+ */
+class CalendarQueueTest {
+    private static final int EVENTS = 5000;
+    private static final int BURST_EVENTS = 200_000;
+
+    private SimEntity entity;
+    private FutureQueue expected;
+    private CalendarQueue actual;
+
+    @BeforeEach
+    void setUp() {
+        entity = new CloudSimPlus().getCis();
+        expected = new FutureQueue();
+        actual = new CalendarQueue();
+    }
+
+    @Test
+    void firstWhenEmpty() {
+        assertTrue(actual.isEmpty());
+        assertThrows(NoSuchElementException.class, actual::first);
+    }
+
+    @Test
+    void sameOrderAsFutureQueue() {
+        final var random = new Random(1);
+        for (int i = 0; i < EVENTS; i++) {
+            // Uses a small set of times and tags to generate lots of ties
+            final double delay = random.nextInt(20) * random.nextDouble(10);
+            final var evt1 = new CloudSimEvent(delay, entity, random.nextInt(3));
+            final var evt2 = new CloudSimEvent(evt1);
+            if (random.nextInt(10) == 0) {
+                expected.addEventFirst(evt1);
+                actual.addEventFirst(evt2);
+            } else {
+                expected.addEvent(evt1);
+                actual.addEvent(evt2);
+            }
+        }
+
+        assertEquals(expected.size(), actual.size());
+        assertEquals(expected.stream().toList(), actual.stream().toList());
+        assertSameDequeueOrder();
+    }
+
+    @Test
+    void removeEvents() {
+        final var events = new ArrayList<SimEvent>();
+        for (int i = 0; i < EVENTS; i++) {
+            final var evt = new CloudSimEvent(i % 100, entity, i % 2);
+            expected.addEvent(evt);
+            actual.addEvent(evt);
+            events.add(evt);
+        }
+
+        for (int i = 0; i < EVENTS; i += 3) {
+            assertTrue(actual.remove(events.get(i)));
+            expected.remove(events.get(i));
+        }
+
+        assertFalse(actual.remove(events.get(0)));
+        assertTrue(actual.removeIf(evt -> evt.getTag() == 1));
+        expected.removeIf(evt -> evt.getTag() == 1);
+        assertFalse(actual.removeIf(evt -> evt.getTag() == 1));
+        assertSameDequeueOrder();
+    }
+
+    @Test
+    void pollAllEventsAtSameTime() {
+        for (int i = 0; i < EVENTS; i++) {
+            expected.addEvent(new CloudSimEvent(i % 10, entity, i % 3));
+            actual.addEvent(new CloudSimEvent(i % 10, entity, i % 3));
+        }
+
+        final List<SimEvent> expectedOrder = new ArrayList<>();
+        final List<SimEvent> actualOrder = new ArrayList<>();
+        while (!expected.isEmpty()) {
+            final double time = expected.first().getTime();
+            assertEquals(time, actual.first().getTime());
+            final int expectedCount = expected.pollAll(time, expectedOrder::add);
+            assertEquals(EVENTS / 10, expectedCount);
+            assertEquals(expectedCount, actual.pollAll(time, actualOrder::add));
+        }
+
+        assertTrue(actual.isEmpty());
+        assertEquals(expectedOrder, actualOrder);
+    }
+
+    /**
+     * Adds a large burst of events happening at the same time with mixed tags
+     * (such as the ones sent at the simulation start), which all belong to the same bucket
+     * and must be sorted by tag and serial.
+     */
+    @Test
+    void sameTimeBurstWithMixedTags() {
+        final var random = new Random(1);
+        final var expectedCancelled = new ArrayList<SimEvent>();
+        final var actualCancelled = new ArrayList<SimEvent>();
+        for (int i = 0; i < BURST_EVENTS; i++) {
+            final var evt1 = new CloudSimEvent(0, entity, random.nextInt(-3, 20));
+            final var evt2 = new CloudSimEvent(evt1);
+            expected.addEvent(evt1);
+            actual.addEvent(evt2);
+            if (i % 2 == 0) {
+                expectedCancelled.add(evt1);
+                actualCancelled.add(evt2);
+            }
+        }
+
+        // Cancelling events inside the burst must not require a linear scan
+        for (int i = 0; i < actualCancelled.size(); i++) {
+            assertTrue(expected.remove(expectedCancelled.get(i)));
+            assertTrue(actual.remove(actualCancelled.get(i)));
+        }
+
+        final int remaining = BURST_EVENTS - actualCancelled.size();
+        final List<SimEvent> expectedOrder = new ArrayList<>();
+        final List<SimEvent> actualOrder = new ArrayList<>();
+        assertEquals(remaining, expected.pollAll(0, expectedOrder::add));
+        assertEquals(remaining, actual.pollAll(0, actualOrder::add));
+        assertTrue(actual.isEmpty());
+        assertEquals(expectedOrder, actualOrder);
+    }
+
+    @Test
+    void indexBySourceAndTag() {
+        final SimEntity otherEntity = new CloudSimPlus().getCis();
+        for (final FutureQueueAbstract queue : List.of(expected, actual)) {
+            for (int i = 0; i < 100; i++) {
+                queue.addEvent(new CloudSimEvent(i, i % 2 == 0 ? entity : otherEntity, i % 4));
+            }
+
+            assertEquals(25, queue.size(entity, 0));
+            assertEquals(0, queue.size(entity, 1));
+            assertEquals(25, queue.size(2));
+            assertEquals(50, queue.stream(otherEntity).count());
+            assertEquals(2.0, queue.first(entity, 2).getTime());
+            assertSame(SimEvent.NULL, queue.first(entity, 1));
+
+            assertTrue(queue.removeAll(entity, 2));
+            assertFalse(queue.removeAll(entity, 2));
+            assertEquals(0, queue.size(entity, 2));
+            assertEquals(75, queue.size());
+            // The empty index entry for the removed tag must be pruned
+            assertEquals(3, queue.getIndexedSourceTagPairs());
+
+            queue.pollAll(0, evt -> {});
+            queue.removeIf(evt -> evt.getTag() == 3);
+            assertEquals(24, queue.size(entity, 0));
+            assertEquals(0, queue.size(3));
+            assertEquals(queue.size(), queue.size(0) + queue.size(1));
+            assertEquals(2, queue.getIndexedSourceTagPairs());
+        }
+    }
+
+    private void assertSameDequeueOrder() {
+        final List<SimEvent> expectedOrder = new ArrayList<>();
+        final List<SimEvent> actualOrder = new ArrayList<>();
+        while (!expected.isEmpty()) {
+            final SimEvent evt = expected.first();
+            expectedOrder.add(evt);
+            expected.remove(evt);
+        }
+
+        while (!actual.isEmpty()) {
+            final SimEvent evt = actual.first();
+            actualOrder.add(evt);
+            assertTrue(actual.remove(evt));
+        }
+
+        assertEquals(expectedOrder, actualOrder);
+    }
+}
@@ -0,0 +1,135 @@
+package org.cloudsimplus.core.events;
+
+import org.cloudsimplus.brokers.DatacenterBrokerSimple;
+import org.cloudsimplus.core.CloudSimPlus;
+import org.cloudsimplus.core.SimEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the ordering of events in a {@link DeferredQueue},
+ * which indexes events by destination entity.
+ */
+class DeferredQueueTest {
+    private static final int EVENTS = 5000;
+
+    private DeferredQueue queue;
+    private List<SimEntity> entities;
+    private long serial;
+
+    @BeforeEach
+    void setUp() {
+        final var simulation = new CloudSimPlus();
+        queue = new DeferredQueue();
+        entities = List.of(simulation.getCis(), new DatacenterBrokerSimple(simulation), new DatacenterBrokerSimple(simulation));
+        serial = 0;
+    }
+
+    @Test
+    void firstWhenEmpty() {
+        assertTrue(queue.isEmpty());
+        assertThrows(NoSuchElementException.class, queue::first);
+    }
+
+    /**
+     * Events happening at the same time must be grouped by destination entity,
+     * following the order such entities got pending events,
+     * and not depending on entities' hash codes.
+     */
+    @Test
+    void sameTimeEventsOrderedByEntityArrival() {
+        final var evt1 = newEvent(0, entities.get(2));
+        final var evt2 = newEvent(0, entities.get(0));
+        final var evt3 = newEvent(0, entities.get(2));
+        final var evt4 = newEvent(0, entities.get(1));
+        final var evt5 = newEvent(0, entities.get(0));
+        List.of(evt1, evt2, evt3, evt4, evt5).forEach(queue::addEvent);
+
+        assertEquals(List.of(evt1, evt3, evt2, evt5, evt4), queue.stream().toList());
+        assertSame(evt1, queue.first());
+    }
+
+    /**
+     * When all events of an entity are removed, the entity is removed from the queue.
+     * This way, if it gets new events later, it's placed after the entities that currently have events.
+     */
+    @Test
+    void entityRemovedWhenItHasNoMoreEvents() {
+        final var entity0 = entities.get(0);
+        final var entity1 = entities.get(1);
+        final var evt1 = newEvent(1, entity0);
+        queue.addEvent(evt1);
+        assertSame(evt1, queue.removeFirst(entity0, evt -> true));
+        assertTrue(queue.isEmpty(entity0));
+        assertTrue(queue.isEmpty());
+
+        final var evt2 = newEvent(2, entity1);
+        final var evt3 = newEvent(2, entity0);
+        queue.addEvent(evt2);
+        queue.addEvent(evt3);
+        assertEquals(List.of(evt2, evt3), queue.stream().toList());
+        assertSame(evt2, queue.first());
+
+        assertTrue(queue.remove(evt2));
+        assertTrue(queue.isEmpty(entity1));
+        assertSame(evt3, queue.first());
+    }
+
+    /**
+     * Only events inserted between other events of the same entity
+     * must be counted as added to the middle of the queue.
+     */
+    @Test
+    void addedToTailAndMiddleStatistics() {
+        final var entity0 = entities.get(0);
+        final var entity1 = entities.get(1);
+        queue.addEvent(newEvent(5, entity0));
+        // Earlier than the last event in the queue, but at the tail of entity1's list
+        queue.addEvent(newEvent(1, entity1));
+        queue.addEvent(newEvent(3, entity1));
+        // Before all events of entity1
+        queue.addEvent(newEvent(0, entity1));
+        // Between events of entity1
+        queue.addEvent(newEvent(2, entity1));
+
+        assertEquals(3, queue.getAddedToTail());
+        assertEquals(1, queue.getAddedToMiddle());
+        assertEquals(5, queue.size());
+    }
+
+    @Test
+    void firstIsTheSameAsTheStreamHead() {
+        final var random = new Random(1);
+        for (int i = 0; i < EVENTS; i++) {
+            final var entity = entities.get(random.nextInt(entities.size()));
+            if (random.nextInt(3) == 0) {
+                queue.removeFirst(entity, evt -> true);
+            } else {
+                // Uses a small set of times to generate lots of ties
+                queue.addEvent(newEvent(random.nextInt(20), entity));
+            }
+
+            if (queue.isEmpty()) {
+                assertThrows(NoSuchElementException.class, queue::first);
+            } else {
+                assertSame(queue.stream().findFirst().orElseThrow(), queue.first());
+            }
+        }
+
+        queue.removeIf(evt -> evt.getTime() < 10);
+        assertSame(queue.stream().findFirst().orElseThrow(), queue.first());
+        assertEquals(queue.size(), queue.stream().count());
+    }
+
+    private SimEvent newEvent(final double delay, final SimEntity destination) {
+        final var evt = new CloudSimEvent(delay, destination, 0);
+        evt.setSerial(serial++);
+        return evt;
+    }
+}
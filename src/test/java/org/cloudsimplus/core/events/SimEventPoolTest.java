@@ -0,0 +1,96 @@
+package org.cloudsimplus.core.events;
+
+import org.cloudsimplus.brokers.DatacenterBrokerSimple;
+import org.cloudsimplus.cloudlets.Cloudlet;
+import org.cloudsimplus.cloudlets.CloudletSimple;
+import org.cloudsimplus.core.CloudSimPlus;
+import org.cloudsimplus.core.CloudSimTag;
+import org.cloudsimplus.datacenters.DatacenterSimple;
+import org.cloudsimplus.hosts.HostSimple;
+import org.cloudsimplus.power.PowerMeter;
+import org.cloudsimplus.power.models.PowerModelHostSimple;
+import org.cloudsimplus.resources.PeSimple;
+import org.cloudsimplus.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimEventPoolTest {
+    private static final int CLOUDLETS = 10;
+
+    @Test
+    void pooledSimulationHasSameResults() {
+        final var pool = new SimEventPool();
+        final List<Double> expected = runSimulation(null, new ArrayList<>());
+        final List<Double> actual = runSimulation(pool, new ArrayList<>());
+
+        assertEquals(expected, actual);
+        assertTrue(pool.getReusedEvents() > 0);
+        assertTrue(pool.getReusedEvents() > pool.getCreatedEvents());
+    }
+
+    @Test
+    void debugModeDetectsRetainedEvents() {
+        final var pool = new SimEventPool();
+        pool.setDebug(true);
+        final var retainedEvents = new ArrayList<SimEvent>();
+        runSimulation(pool, retainedEvents);
+
+        assertEquals(0, pool.getReusedEvents());
+        assertFalse(retainedEvents.isEmpty());
+        assertThrows(IllegalStateException.class, () -> retainedEvents.get(0).getTag());
+    }
+
+    @Test
+    void releaseEventNotFromPool() {
+        final var entity = new CloudSimPlus().getCis();
+        final var pool = new SimEventPool();
+        assertFalse(pool.release(new CloudSimEvent(0, entity, CloudSimTag.POWER_MEASUREMENT)));
+        assertFalse(pool.release(SimEvent.NULL));
+    }
+
+    @Test
+    void acquireEventWithNonPooledTag() {
+        final var entity = new CloudSimPlus().getCis();
+        final var pool = new SimEventPool();
+        final var evt = pool.acquire(0, entity, entity, CloudSimTag.CLOUDLET_SUBMIT, null);
+        assertFalse(pool.release(evt));
+        assertEquals(0, pool.getCreatedEvents());
+    }
+
+    /**
+     * Runs a simulation and gets the finish time of cloudlets.
+     * @param pool the event pool to use or null to disable pooling
+     * @param retainedEvents a list to store pooled events, which must not be done in regular simulations
+     * @return the list of finish time for all cloudlets
+     */
+    private static List<Double> runSimulation(final SimEventPool pool, final List<SimEvent> retainedEvents) {
+        final var simulation = new CloudSimPlus();
+        simulation.setEventPool(pool);
+        simulation.addOnEventProcessingListener(evt -> {
+            if (evt.getTag() == CloudSimTag.POWER_MEASUREMENT) {
+                retainedEvents.add(evt);
+            }
+        });
+
+        final var host = new HostSimple(List.of(new PeSimple(1000), new PeSimple(1000)));
+        host.setPowerModel(new PowerModelHostSimple(100, 10));
+        final var dc = new DatacenterSimple(simulation, List.of(host));
+        dc.setSchedulingInterval(1);
+        new PowerMeter(simulation, dc);
+
+        final var broker = new DatacenterBrokerSimple(simulation);
+        broker.submitVm(new VmSimple(1000, 2));
+        final var cloudletList = new ArrayList<Cloudlet>();
+        for (int i = 0; i < CLOUDLETS; i++) {
+            cloudletList.add(new CloudletSimple(10_000 * (i + 1), 1));
+        }
+
+        broker.submitCloudletList(cloudletList);
+        simulation.start();
+        return cloudletList.stream().map(Cloudlet::getFinishTime).toList();
+    }
+}
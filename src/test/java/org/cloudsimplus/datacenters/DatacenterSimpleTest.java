@@ -0,0 +1,237 @@
+package org.cloudsimplus.datacenters;
+
+import org.cloudsimplus.allocationpolicies.VmAllocationPolicy;
+import org.cloudsimplus.allocationpolicies.VmAllocationPolicySimple;
+import org.cloudsimplus.allocationpolicies.migration.VmAllocationPolicyMigrationFirstFitStaticThreshold;
+import org.cloudsimplus.brokers.DatacenterBrokerSimple;
+import org.cloudsimplus.cloudlets.Cloudlet;
+import org.cloudsimplus.cloudlets.CloudletSimple;
+import org.cloudsimplus.core.CloudSimPlus;
+import org.cloudsimplus.core.CloudSimTag;
+import org.cloudsimplus.hosts.Host;
+import org.cloudsimplus.hosts.HostSimple;
+import org.cloudsimplus.resources.PeSimple;
+import org.cloudsimplus.selectionpolicies.VmSelectionPolicyMinimumUtilization;
+import org.cloudsimplus.utilizationmodels.UtilizationModelDynamic;
+import org.cloudsimplus.vms.Vm;
+import org.cloudsimplus.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DatacenterSimpleTest {
+    private static final int HOSTS = 20;
+    private static final int CLOUDLETS = 100;
+
+    @Test
+    void parallelHostsUpdateHasSameResults() {
+        final List<String> expected = runSimulation(false);
+        final List<String> actual = runSimulation(true);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void updateHostsInParallelWhenCloudletsAreStateless() {
+        final var parallelUpdates = new ArrayList<Boolean>();
+        runSimulation(true, parallelUpdates);
+        assertTrue(parallelUpdates.contains(true));
+    }
+
+    @Test
+    void setParallelHostsUpdateThreshold() {
+        final var dc = new DatacenterSimple(new CloudSimPlus(), List.of());
+        assertFalse(dc.isParallelHostsUpdateEnabled());
+        assertEquals(Datacenter.DEF_PARALLEL_HOSTS_UPDATE_THRESHOLD, dc.getParallelHostsUpdateThreshold());
+
+        dc.enableParallelHostsUpdate().setParallelHostsUpdateThreshold(0);
+        assertTrue(dc.isParallelHostsUpdateEnabled());
+        assertEquals(1, dc.getParallelHostsUpdateThreshold());
+    }
+
+    @Test
+    void getHostById() {
+        final var host0 = new HostSimple(List.of(new PeSimple(1000)));
+        final var host1 = new HostSimple(List.of(new PeSimple(1000)));
+        final var dc = new DatacenterSimple(new CloudSimPlus(), new ArrayList<>(List.of(host0)));
+        assertSame(host0, dc.getHostById(0));
+        assertSame(Host.NULL, dc.getHostById(1));
+
+        dc.addHost(host1);
+        assertSame(host1, dc.getHostById(1));
+
+        dc.removeHost(host0);
+        assertSame(Host.NULL, dc.getHostById(0));
+    }
+
+    @Test
+    void getVmById() {
+        final var simulation = new CloudSimPlus();
+        final var dc = new DatacenterSimple(simulation, List.of(new HostSimple(List.of(new PeSimple(1000)))));
+        final var broker = new DatacenterBrokerSimple(simulation);
+        final var vm = new VmSimple(1000, 1);
+        broker.submitVm(vm);
+        broker.submitCloudlet(new CloudletSimple(10_000, 1));
+        simulation.addOnClockTickListener(info -> {
+            if (vm.isCreated()) {
+                assertSame(vm, dc.getVmById(broker, vm.getId()));
+                assertSame(Vm.NULL, dc.getVmById(broker, vm.getId() + 1));
+            }
+        });
+
+        simulation.start();
+        assertSame(Vm.NULL, dc.getVmById(broker, vm.getId()));
+    }
+
+    @Test
+    void adaptiveSchedulingSkipsEmptyIntervals() {
+        final var fixed = runLongCloudletSimulation(false, new VmAllocationPolicySimple());
+        final var adaptive = runLongCloudletSimulation(true, new VmAllocationPolicySimple());
+        assertEquals(fixed.finishTime(), adaptive.finishTime(), 0.1);
+        assertEquals(fixed.vmCpuSamples(), adaptive.vmCpuSamples(), 1);
+        assertEquals(fixed.vmCpuMean(), adaptive.vmCpuMean(), 0.01);
+        // Migrations are enabled by default, but the VmAllocationPolicy doesn't migrate VMs
+        assertTrue(adaptive.updates() <= 10, "Updates: " + adaptive.updates());
+        assertTrue(fixed.updates() > 1000);
+    }
+
+    @Test
+    void adaptiveSchedulingIgnoredWhenVmAllocationPolicyMigratesVms() {
+        final var fixed = runLongCloudletSimulation(false, newMigrationPolicy());
+        final var adaptive = runLongCloudletSimulation(true, newMigrationPolicy());
+        assertEquals(fixed.finishTime(), adaptive.finishTime(), 0.1);
+        assertEquals(fixed.updates(), adaptive.updates());
+    }
+
+    private static VmAllocationPolicy newMigrationPolicy() {
+        return new VmAllocationPolicyMigrationFirstFitStaticThreshold(new VmSelectionPolicyMinimumUtilization());
+    }
+
+    @Test
+    void submitCloudletsWithSameDelayUsingSingleEvent() {
+        final var simulation = new CloudSimPlus();
+        final var host = new HostSimple(List.of(new PeSimple(1000), new PeSimple(1000)));
+        new DatacenterSimple(simulation, List.of(host));
+
+        final var submissionEvents = new int[2];
+        simulation.addOnEventProcessingListener(evt -> {
+            switch (evt.getTag()) {
+                case CloudSimTag.CLOUDLET_SUBMIT -> submissionEvents[0]++;
+                case CloudSimTag.CLOUDLET_SUBMIT_LIST -> submissionEvents[1]++;
+                default -> {}
+            }
+        });
+
+        final var broker = new DatacenterBrokerSimple(simulation);
+        broker.submitVm(new VmSimple(1000, 2));
+
+        final var startedCloudlets = new ArrayList<Cloudlet>();
+        final var cloudletList = new ArrayList<Cloudlet>();
+        for (int i = 0; i < CLOUDLETS; i++) {
+            final var cloudlet = new CloudletSimple(1_000, 1);
+            cloudlet.addOnStartListener(info -> startedCloudlets.add(info.getCloudlet()));
+            cloudletList.add(cloudlet);
+        }
+
+        final var delayedCloudlet = new CloudletSimple(1_000, 1);
+        delayedCloudlet.setSubmissionDelay(10);
+        cloudletList.add(delayedCloudlet);
+
+        broker.submitCloudletList(cloudletList);
+        simulation.start();
+
+        assertEquals(1, submissionEvents[0]);
+        assertEquals(1, submissionEvents[1]);
+        assertEquals(CLOUDLETS, startedCloudlets.size());
+        assertTrue(cloudletList.stream().allMatch(Cloudlet::isFinished));
+    }
+
+    private record LongCloudletResults(double finishTime, double vmCpuSamples, double vmCpuMean, int updates) { }
+
+    /**
+     * Runs a simulation with two Cloudlets sharing a PE, taking 1000 and 1500 seconds to finish.
+     * @param adaptive true to enable adaptive scheduling, false otherwise
+     * @param vmAllocationPolicy the policy for the Datacenter
+     * @return the simulation results
+     */
+    private static LongCloudletResults runLongCloudletSimulation(final boolean adaptive, final VmAllocationPolicy vmAllocationPolicy) {
+        final var simulation = new CloudSimPlus();
+        final var host = new HostSimple(List.of(new PeSimple(1000)));
+        final var dc = new DatacenterSimple(simulation, List.of(host), vmAllocationPolicy);
+        dc.setSchedulingInterval(1);
+        if (adaptive) {
+            dc.enableAdaptiveScheduling();
+        }
+
+        final var updates = new int[1];
+        simulation.addOnEventProcessingListener(evt -> {
+            if (evt.getTag() == CloudSimTag.VM_UPDATE_CLOUDLET_PROCESSING) {
+                updates[0]++;
+            }
+        });
+
+        final var broker = new DatacenterBrokerSimple(simulation);
+        final var vm = new VmSimple(1000, 1);
+        vm.enableUtilizationStats();
+        final var cloudlet = new CloudletSimple(1_000_000, 1);
+        broker.submitVm(vm);
+        broker.submitCloudletList(List.of(cloudlet, new CloudletSimple(500_000, 1)));
+        simulation.start();
+
+        return new LongCloudletResults(
+            cloudlet.getFinishTime(), vm.getCpuUtilizationStats().count(),
+            vm.getCpuUtilizationStats().getMean(), updates[0]);
+    }
+
+    private static List<String> runSimulation(final boolean parallel) {
+        return runSimulation(parallel, new ArrayList<>());
+    }
+
+    /**
+     * Runs a simulation and gets the start and finish time of cloudlets.
+     * @param parallel true to update Hosts in parallel, false otherwise
+     * @param parallelUpdates a list where to add, at every clock tick while Cloudlets are running,
+     *                        if Hosts can be updated in parallel
+     * @return the list of start and finish times for all cloudlets
+     */
+    private static List<String> runSimulation(final boolean parallel, final List<Boolean> parallelUpdates) {
+        final var simulation = new CloudSimPlus();
+        final var hostList = new ArrayList<Host>();
+        for (int i = 0; i < HOSTS; i++) {
+            hostList.add(new HostSimple(List.of(new PeSimple(1000), new PeSimple(1000))));
+        }
+
+        final var dc = new DatacenterSimple(simulation, hostList);
+        dc.setSchedulingInterval(2);
+        if (parallel) {
+            dc.enableParallelHostsUpdate().setParallelHostsUpdateThreshold(1);
+        }
+
+        final var broker = new DatacenterBrokerSimple(simulation);
+        final var vmList = new ArrayList<Vm>();
+        for (int i = 0; i < HOSTS; i++) {
+            vmList.add(new VmSimple(1000, 2));
+        }
+
+        final var cloudletList = new ArrayList<Cloudlet>();
+        for (int i = 0; i < CLOUDLETS; i++) {
+            final var cloudlet = new CloudletSimple(1_000 * (i % 7 + 1), 1 + i % 2);
+            cloudlet.setUtilizationModelRam(new UtilizationModelDynamic(0.1))
+                    .setUtilizationModelBw(new UtilizationModelDynamic(0.1));
+            cloudletList.add(cloudlet);
+        }
+
+        simulation.addOnClockTickListener(info -> {
+            if (cloudletList.stream().anyMatch(cl -> cl.getStatus() == Cloudlet.Status.INEXEC)) {
+                parallelUpdates.add(dc.isTimeToUpdateHostsInParallel());
+            }
+        });
+
+        broker.submitVmList(vmList);
+        broker.submitCloudletList(cloudletList);
+        simulation.start();
+        return cloudletList.stream().map(cl -> cl.getStartTime() + "-" + cl.getFinishTime()).toList();
+    }
+}
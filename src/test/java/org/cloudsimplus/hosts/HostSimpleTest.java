@@ -112,6 +112,23 @@ public class HostSimpleTest {
         host = createHostSimple(ID, PES);
     }
 
+    @Test
+    public void isProcessingUpdateRequired(){
+        final HostSimple inactiveHost = createHostSimple(1, PES, false);
+        assertFalse(inactiveHost.isProcessingUpdateRequired());
+
+        inactiveHost.setStateHistoryEnabled(true);
+        assertTrue(inactiveHost.isProcessingUpdateRequired());
+        inactiveHost.setStateHistoryEnabled(false);
+
+        inactiveHost.setIdleShutdownDeadline(10);
+        assertFalse(inactiveHost.isProcessingUpdateRequired());
+        final HostSimple activeHost = createHostSimple(2, PES);
+        new DatacenterSimple(new CloudSimPlus(), List.of(activeHost));
+        activeHost.setIdleShutdownDeadline(10);
+        assertTrue(activeHost.isProcessingUpdateRequired());
+    }
+
     @Test
     public void isSuitableForVmWhenThereIsAvailableStorage(){
         final Vm vm = createVm(PES, MIPS, STORAGE);
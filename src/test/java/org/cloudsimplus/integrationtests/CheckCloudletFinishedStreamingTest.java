@@ -0,0 +1,95 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.integrationtests;
+
+import org.cloudsimplus.brokers.DatacenterBroker;
+import org.cloudsimplus.builders.HostBuilder;
+import org.cloudsimplus.builders.SimulationScenarioBuilder;
+import org.cloudsimplus.cloudlets.Cloudlet;
+import org.cloudsimplus.core.CloudSimPlus;
+import org.cloudsimplus.schedulers.cloudlet.CloudletSchedulerTimeShared;
+import org.cloudsimplus.vms.Vm;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that finished Cloudlets are given to the sink set by
+ * {@link DatacenterBroker#enableCloudletFinishedStreaming(java.util.function.Consumer)}
+ * and released from broker and CloudletScheduler lists.
+ *
+ * @since CloudSim Plus 8.5.0
+ */
+public final class CheckCloudletFinishedStreamingTest {
+    private static final int HOST_MIPS = 1000;
+    private static final int HOST_PES = 4;
+    private static final int CLOUDLETS = 10;
+    private static final int CLOUDLET_LENGTH = 10_000;
+
+    private DatacenterBroker broker;
+    private CloudSimPlus simulation;
+    private Vm vm;
+    private final List<Cloudlet> streamedCloudlets = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        this.simulation = new CloudSimPlus();
+        final var scenario = new SimulationScenarioBuilder(simulation);
+        scenario.getDatacenterBuilder()
+                .create(new HostBuilder().setPes(HOST_PES).setMips(HOST_MIPS).create().getHosts());
+
+        final var brokerBuilder = scenario.getBrokerBuilder().create();
+        this.broker = brokerBuilder.getBroker();
+        broker.enableCloudletFinishedStreaming(streamedCloudlets::add);
+        brokerBuilder.getVmBuilder()
+                     .setPes(HOST_PES).setMips(HOST_MIPS)
+                     .setCloudletSchedulerSupplier(CloudletSchedulerTimeShared::new)
+                     .createAndSubmit();
+        this.vm = broker.getVmWaitingList().get(0);
+
+        brokerBuilder.getCloudletBuilder()
+                     .setLength(CLOUDLET_LENGTH)
+                     .setPEs(1)
+                     .createAndSubmit(CLOUDLETS);
+    }
+
+    @Test
+    public void integrationTest() {
+        simulation.start();
+
+        assertTrue(broker.isCloudletFinishedStreamingEnabled());
+        assertEquals(CLOUDLETS, streamedCloudlets.size());
+        assertTrue(streamedCloudlets.stream().allMatch(Cloudlet::isFinished));
+        assertEquals(CLOUDLETS, broker.getCloudletFinishedCount());
+        assertTrue(broker.getCloudletFinishedList().isEmpty());
+        assertTrue(broker.getCloudletCreatedList().size() < CLOUDLETS);
+        assertTrue(broker.getCloudletSubmittedList().size() < CLOUDLETS);
+        assertTrue(vm.getCloudletScheduler().getCloudletFinishedList().isEmpty());
+        assertTrue(vm.getCloudletScheduler().hasFinishedCloudlets());
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.integrationtests;
+
+import org.cloudsimplus.core.CloudSimEntity;
+import org.cloudsimplus.core.CloudSimPlus;
+import org.cloudsimplus.core.Simulation;
+import org.cloudsimplus.core.events.SimEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks that entities having deferred events are executed
+ * in the order they were added to the simulation,
+ * including entities created while the simulation is running.
+ * Since just entities with pending events are executed at each clock tick,
+ * that ensures the order events are processed stays the same
+ * as when every entity was visited.
+ *
+ * @since CloudSim Plus 8.5.0
+ */
+public final class CheckEntitiesExecutionOrderTest {
+    private static final int PING = 9001;
+    private static final int CREATE = 9002;
+
+    private final List<String> log = new ArrayList<>();
+
+    @Test
+    public void integrationTest() {
+        final var simulation = new CloudSimPlus();
+        final var entity0 = new RecorderEntity(simulation, "E0");
+        final var entity1 = new RecorderEntity(simulation, "E1");
+        final var entity2 = new RecorderEntity(simulation, "E2");
+
+        // Events sent at the same time are sent in the reverse order entities were added
+        entity0.onStart(() -> {
+            entity0.schedule(entity2, 1, PING);
+            entity0.schedule(entity1, 1, PING);
+            entity0.schedule(entity0, 1, PING);
+            entity0.schedule(entity1, 1, CREATE);
+        });
+
+        // Entity created by E1 at time 1, sending events to older entities
+        entity1.onCreate(created -> created.onStart(() -> {
+            created.schedule(entity2, 1, PING);
+            created.schedule(created, 1, PING);
+            created.schedule(entity0, 1, PING);
+        }));
+
+        simulation.start();
+
+        final var expected = List.of(
+            "1: E0 got PING from E0",
+            "1: E1 got PING from E0",
+            "1: E1 got CREATE from E0",
+            "1: E2 got PING from E0",
+            "2: E0 got PING from E3",
+            "2: E2 got PING from E3",
+            "2: E3 got PING from E3");
+        assertEquals(expected, log);
+    }
+
+    /**
+     * An entity that logs the events it receives
+     * and creates a new entity when receiving a {@link #CREATE} event.
+     */
+    private final class RecorderEntity extends CloudSimEntity {
+        private Runnable startAction = () -> {};
+        private Consumer<RecorderEntity> createAction = created -> {};
+        private int createdEntities;
+
+        RecorderEntity(final Simulation simulation, final String name) {
+            super(simulation);
+            setName(name);
+        }
+
+        void onStart(final Runnable action) {
+            this.startAction = action;
+        }
+
+        void onCreate(final Consumer<RecorderEntity> action) {
+            this.createAction = action;
+        }
+
+        @Override
+        protected void startInternal() {
+            startAction.run();
+        }
+
+        @Override
+        public void processEvent(final SimEvent evt) {
+            if (evt.getTag() != PING && evt.getTag() != CREATE) {
+                // Ignores events sent by the simulation itself
+                return;
+            }
+
+            final String tag = evt.getTag() == CREATE ? "CREATE" : "PING";
+            log.add("%.0f: %s got %s from %s".formatted(getSimulation().clock(), getName(), tag, evt.getSource().getName()));
+            if (evt.getTag() == CREATE) {
+                final var created = new RecorderEntity(getSimulation(), "E" + (3 + createdEntities++));
+                createAction.accept(created);
+            }
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.integrationtests;
+
+import org.cloudsimplus.brokers.DatacenterBrokerSimple;
+import org.cloudsimplus.cloudlets.Cloudlet;
+import org.cloudsimplus.cloudlets.CloudletSimple;
+import org.cloudsimplus.core.CloudSimPlus;
+import org.cloudsimplus.datacenters.DatacenterSimple;
+import org.cloudsimplus.hosts.Host;
+import org.cloudsimplus.hosts.HostSimple;
+import org.cloudsimplus.resources.Pe;
+import org.cloudsimplus.resources.PeSimple;
+import org.cloudsimplus.schedulers.cloudlet.CloudletSchedulerTimeShared;
+import org.cloudsimplus.utilizationmodels.UtilizationModelDynamic;
+import org.cloudsimplus.utilizationmodels.UtilizationModelFull;
+import org.cloudsimplus.vms.Vm;
+import org.cloudsimplus.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that enabling the
+ * {@link org.cloudsimplus.schedulers.cloudlet.CloudletScheduler#enableEventDrivenUpdate() event-driven update}
+ * of a {@link CloudletSchedulerTimeShared} gives the same results as updating
+ * the processing of Cloudlets at every scheduling interval.
+ *
+ * <p>The MI executed by a Cloudlet at each processing update are truncated,
+ * so that results just match when no fraction of MI is lost in the updates
+ * done when the event-driven update is disabled.
+ * Therefore, the minimum time between events, the PEs MIPS and the Cloudlets lengths
+ * are chosen so that every processing update executes a whole number of MI.
+ * That is also why Cloudlets are submitted in pairs, so that each VM runs
+ * 2 or 4 Cloudlets at a time (but never 3).</p>
+ *
+ * @since CloudSim Plus 8.5.0
+ */
+public final class CheckEventDrivenUpdateTest {
+    private static final int HOSTS = 4;
+    private static final int HOST_PES = 4;
+    private static final int PE_MIPS = 1024;
+
+    /** Must be a multiple of 3, so that both Cloudlets of a pair are submitted at the same time. */
+    private static final int VMS = 6;
+    private static final int CLOUDLETS = VMS * 4;
+
+    @Test
+    public void integrationTest() {
+        final List<String> regularResults = runSimulation(false);
+        final List<String> eventDrivenResults = runSimulation(true);
+
+        assertEquals(CLOUDLETS, regularResults.size());
+        assertEquals(regularResults, eventDrivenResults);
+    }
+
+    /**
+     * Runs a simulation where Cloudlets of different lengths share the VMs' PEs
+     * and are submitted at different times, so that the processing of running Cloudlets
+     * changes when other ones start or finish.
+     * Each VM runs 2 pairs of equal Cloudlets: the first one submitted at the beginning
+     * and the last one submitted later.
+     * @param eventDriven true to enable the event-driven update of Cloudlets processing, false otherwise
+     * @return a description of the execution of each Cloudlet
+     */
+    private List<String> runSimulation(final boolean eventDriven) {
+        final var simulation = new CloudSimPlus(1);
+        final var hostList = new ArrayList<Host>(HOSTS);
+        for (int i = 0; i < HOSTS; i++) {
+            final var peList = new ArrayList<Pe>(HOST_PES);
+            for (int j = 0; j < HOST_PES; j++) {
+                peList.add(new PeSimple(PE_MIPS));
+            }
+            hostList.add(new HostSimple(100_000, 100_000, 1_000_000, peList));
+        }
+        new DatacenterSimple(simulation, hostList).setSchedulingInterval(1);
+
+        final var broker = new DatacenterBrokerSimple(simulation);
+        final var vmList = new ArrayList<Vm>(VMS);
+        for (int i = 0; i < VMS; i++) {
+            final var scheduler = new CloudletSchedulerTimeShared();
+            if (eventDriven) {
+                scheduler.enableEventDrivenUpdate();
+            }
+            vmList.add(new VmSimple(PE_MIPS, 2).setRam(1024).setBw(1000).setSize(10_000).setCloudletScheduler(scheduler));
+        }
+        broker.submitVmList(vmList);
+
+        final var cloudletList = new ArrayList<Cloudlet>(CLOUDLETS);
+        for (int i = 0; i < CLOUDLETS; i++) {
+            // Cloudlets i and i + VMS are equal and run on the same VM
+            final int pair = i / (2 * VMS);
+            final var cloudlet = new CloudletSimple(PE_MIPS * 10L * (1 + i % VMS + pair), 1, new UtilizationModelFull());
+            cloudlet.setUtilizationModelRam(new UtilizationModelDynamic(0.1))
+                    .setUtilizationModelBw(new UtilizationModelDynamic(0.05));
+            cloudlet.setSubmissionDelay(pair * 3.5 * (1 + i % 3));
+            cloudletList.add(cloudlet);
+        }
+        broker.submitCloudletList(cloudletList);
+
+        simulation.start();
+        return cloudletList.stream()
+                           .map(cl -> "%d %d %s %.2f %.2f %d".formatted(
+                               cl.getId(), cl.getVm().getId(), cl.getStatus(),
+                               cl.getStartTime(), cl.getFinishTime(), cl.getFinishedLengthSoFar()))
+                           .toList();
+    }
+}
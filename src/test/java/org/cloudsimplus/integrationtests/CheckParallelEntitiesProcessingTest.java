@@ -0,0 +1,148 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2021 Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.integrationtests;
+
+import org.cloudsimplus.brokers.DatacenterBroker;
+import org.cloudsimplus.brokers.DatacenterBrokerBestFit;
+import org.cloudsimplus.brokers.DatacenterBrokerSimple;
+import org.cloudsimplus.cloudlets.Cloudlet;
+import org.cloudsimplus.cloudlets.CloudletSimple;
+import org.cloudsimplus.core.CloudSimPlus;
+import org.cloudsimplus.datacenters.DatacenterSimple;
+import org.cloudsimplus.hosts.Host;
+import org.cloudsimplus.hosts.HostSimple;
+import org.cloudsimplus.resources.Pe;
+import org.cloudsimplus.resources.PeSimple;
+import org.cloudsimplus.schedulers.cloudlet.CloudletSchedulerSpaceShared;
+import org.cloudsimplus.utilizationmodels.UtilizationModel;
+import org.cloudsimplus.utilizationmodels.UtilizationModelFull;
+import org.cloudsimplus.vms.Vm;
+import org.cloudsimplus.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that processing independent brokers in parallel,
+ * after calling {@link CloudSimPlus#enableParallelEntitiesProcessing()},
+ * gives the same results as processing them sequentially.
+ *
+ * @since CloudSim Plus 8.5.0
+ */
+public final class CheckParallelEntitiesProcessingTest {
+    private static final int HOSTS = 40;
+    private static final int HOST_PES = 8;
+    private static final int BROKERS = 50;
+    private static final int VMS_BY_BROKER = 2;
+    private static final int CLOUDLETS_BY_BROKER = 6;
+
+    @Test
+    public void integrationTest() {
+        final List<String> sequentialResults = runSimulation(false, null);
+        final List<String> parallelResults = runSimulation(true, null);
+
+        assertEquals(BROKERS * CLOUDLETS_BY_BROKER, sequentialResults.size());
+        assertEquals(sequentialResults, parallelResults);
+    }
+
+    /**
+     * Checks that brokers with a custom VM mapper, which changes state shared among brokers,
+     * give the same results when parallel entities processing is enabled.
+     */
+    @Test
+    public void integrationTestWithCustomVmMapper() {
+        final var sequentialMappings = new ArrayList<String>();
+        final List<String> sequentialResults = runSimulation(false, sequentialMappings);
+        final var parallelMappings = new ArrayList<String>();
+        final List<String> parallelResults = runSimulation(true, parallelMappings);
+
+        assertFalse(sequentialMappings.isEmpty());
+        assertEquals(sequentialMappings, parallelMappings);
+        assertEquals(sequentialResults, parallelResults);
+    }
+
+    /**
+     * Runs a simulation with many brokers and gets a description of
+     * where and when each Cloudlet was executed.
+     * @param parallel true to enable parallel entities processing, false otherwise
+     * @param mappings a list shared among every third broker, whose custom VM mapper records
+     *                 each Cloudlet mapping in it and uses the list size to select a VM;
+     *                 or null to use just the default VM mappers
+     * @return the description of each Cloudlet execution
+     */
+    private List<String> runSimulation(final boolean parallel, final List<String> mappings) {
+        final var simulation = new CloudSimPlus();
+        if (parallel) {
+            simulation.enableParallelEntitiesProcessing().setParallelEntitiesProcessingThreshold(2);
+        }
+
+        final var hostList = new ArrayList<Host>(HOSTS);
+        for (int i = 0; i < HOSTS; i++) {
+            final var peList = new ArrayList<Pe>(HOST_PES);
+            for (int j = 0; j < HOST_PES; j++) {
+                peList.add(new PeSimple(1000));
+            }
+            hostList.add(new HostSimple(100_000, 100_000, 1_000_000, peList));
+        }
+        new DatacenterSimple(simulation, hostList);
+
+        final var cloudletList = new ArrayList<Cloudlet>();
+        for (int b = 0; b < BROKERS; b++) {
+            final DatacenterBroker broker = b % 2 == 0 ? new DatacenterBrokerSimple(simulation) : new DatacenterBrokerBestFit(simulation);
+            final var vmList = new ArrayList<Vm>(VMS_BY_BROKER);
+            for (int i = 0; i < VMS_BY_BROKER; i++) {
+                final var vm = new VmSimple(1000, 1 + (b + i) % 3).setRam(512).setBw(1000).setSize(10_000);
+                vmList.add(vm.setCloudletScheduler(new CloudletSchedulerSpaceShared()));
+            }
+            broker.submitVmList(vmList);
+            if (mappings != null && b % 3 == 0) {
+                broker.setVmMapper(cloudlet -> {
+                    final Vm vm = broker.getVmExecList().get(mappings.size() % broker.getVmExecList().size());
+                    mappings.add("%s %d %d".formatted(broker.getName(), cloudlet.getId(), vm.getId()));
+                    return vm;
+                });
+            }
+
+            final var brokerCloudlets = new ArrayList<Cloudlet>(CLOUDLETS_BY_BROKER);
+            for (int i = 0; i < CLOUDLETS_BY_BROKER; i++) {
+                final var cloudlet = new CloudletSimple(1000L * (1 + (b + i) % 7), 1, new UtilizationModelFull());
+                cloudlet.setUtilizationModelRam(UtilizationModel.NULL).setUtilizationModelBw(UtilizationModel.NULL);
+                cloudlet.setSubmissionDelay(i % 3);
+                brokerCloudlets.add(cloudlet);
+            }
+            broker.submitCloudletList(brokerCloudlets);
+            cloudletList.addAll(brokerCloudlets);
+        }
+
+        simulation.start();
+        return cloudletList.stream()
+                           .map(cl -> "%s %d %d %s %.2f %.2f".formatted(
+                               cl.getBroker().getName(), cl.getId(), cl.getVm().getId(), cl.getStatus(),
+                               cl.getStartTime(), cl.getFinishTime()))
+                           .toList();
+    }
+}
@@ -0,0 +1,117 @@
+package org.cloudsimplus.schedulers.cloudlet;
+
+import org.cloudsimplus.cloudlets.CloudletExecution;
+import org.cloudsimplus.cloudlets.CloudletSimple;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CloudletExecutionListTest {
+    private static CloudletExecution newCloudletExecution(final long id) {
+        return new CloudletExecution(new CloudletSimple(id, 1000, 1));
+    }
+
+    @Test
+    void removeKeepsOrderAndFindsById() {
+        final var list = new CloudletExecutionList();
+        final var expected = new ArrayList<CloudletExecution>();
+        IntStream.range(0, 100).mapToObj(CloudletExecutionListTest::newCloudletExecution).forEach(cle -> {
+            list.add(cle);
+            expected.add(cle);
+        });
+
+        for (int id = 0; id < 100; id += 3) {
+            final var cle = newCloudletExecution(id);
+            assertEquals(expected.remove(cle), list.remove(cle));
+        }
+
+        assertEquals(expected, list);
+        assertEquals(expected.size(), list.size());
+        assertSame(expected.get(10), list.findById(expected.get(10).getCloudletId()));
+        assertSame(CloudletExecution.NULL, list.findById(3));
+        assertFalse(list.contains(newCloudletExecution(3)));
+        assertTrue(list.contains(newCloudletExecution(4)));
+        assertEquals(expected.indexOf(newCloudletExecution(50)), list.indexOf(newCloudletExecution(50)));
+    }
+
+    @Test
+    void sortAndIteratorRemove() {
+        final var list = new CloudletExecutionList();
+        List.of(5L, 1L, 4L, 2L, 3L).forEach(id -> list.add(newCloudletExecution(id)));
+        list.sort(Comparator.comparingLong(CloudletExecution::getCloudletId));
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), list.stream().map(CloudletExecution::getCloudletId).toList());
+
+        list.removeIf(cle -> cle.getCloudletId() % 2 == 0);
+        assertEquals(List.of(1L, 3L, 5L), list.stream().map(CloudletExecution::getCloudletId).toList());
+        assertSame(list.get(1), list.findById(3));
+    }
+
+    /**
+     * Removing elements through the iterator leaves gaps,
+     * which may be removed by index access in the middle of the iteration.
+     */
+    @Test
+    void iteratorRemoveWithIndexAccess() {
+        final var list = new CloudletExecutionList();
+        final var expected = new ArrayList<CloudletExecution>();
+        IntStream.range(0, 20).mapToObj(CloudletExecutionListTest::newCloudletExecution).forEach(cle -> {
+            list.add(cle);
+            expected.add(cle);
+        });
+
+        for (final var collection : List.of(expected, list)) {
+            final var iterator = collection.iterator();
+            final var visited = new ArrayList<Long>();
+            while (iterator.hasNext()) {
+                final var cle = iterator.next();
+                visited.add(cle.getCloudletId());
+                if (cle.getCloudletId() % 5 == 0) {
+                    // Index access removes the gaps, moving elements
+                    assertSame(collection.get(0), collection.iterator().next());
+                }
+
+                if (cle.getCloudletId() % 2 == 0 || cle.getCloudletId() % 5 == 0) {
+                    iterator.remove();
+                    assertThrows(IllegalStateException.class, iterator::remove);
+                }
+            }
+
+            assertEquals(LongStream.range(0, 20).boxed().toList(), visited);
+        }
+
+        assertEquals(expected, list);
+        assertSame(expected.get(3), list.findById(expected.get(3).getCloudletId()));
+    }
+
+    @Test
+    void removeIfLeavesGapsRemovedAtOnce() {
+        final var list = new CloudletExecutionList();
+        IntStream.range(0, 100_000).mapToObj(CloudletExecutionListTest::newCloudletExecution).forEach(list::add);
+        assertTrue(list.removeIf(cle -> cle.getCloudletId() % 2 == 1));
+        assertFalse(list.removeIf(cle -> cle.getCloudletId() % 2 == 1));
+        assertEquals(50_000, list.size());
+        assertEquals(10, list.get(5).getCloudletId());
+        assertSame(CloudletExecution.NULL, list.findById(11));
+        assertEquals(99_998, list.findById(99_998).getCloudletId());
+    }
+
+    @Test
+    void duplicatedIds() {
+        final var list = new CloudletExecutionList();
+        final var first = newCloudletExecution(1);
+        final var second = newCloudletExecution(1);
+        list.add(first);
+        list.add(second);
+        assertSame(first, list.findById(1));
+
+        assertTrue(list.remove(newCloudletExecution(1)));
+        assertSame(second, list.findById(1));
+        assertEquals(1, list.size());
+    }
+}
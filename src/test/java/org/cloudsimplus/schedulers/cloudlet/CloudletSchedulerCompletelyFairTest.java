@@ -0,0 +1,132 @@
+package org.cloudsimplus.schedulers.cloudlet;
+
+import org.cloudsimplus.cloudlets.CloudletExecution;
+import org.cloudsimplus.cloudlets.CloudletSimple;
+import org.cloudsimplus.cloudlets.CloudletTestUtil;
+import org.cloudsimplus.schedulers.MipsShare;
+import org.cloudsimplus.vms.VmSimple;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CloudletSchedulerCompletelyFairTest {
+    private static final long MIPS = 1000;
+
+    /**
+     * The order the waiting list was sorted before each selection,
+     * before the scheduler started keeping waiting Cloudlets in a run-queue.
+     */
+    private static final Comparator<CloudletExecution> WAITING_LIST_ORDER =
+        Comparator.comparingDouble(CloudletExecution::getVirtualRuntime)
+                  .thenComparingLong(cle -> cle.getCloudlet().getPriority())
+                  .thenComparingLong(CloudletExecution::getCloudletId);
+
+    private static CloudletSchedulerCompletelyFair createScheduler(final int pes) {
+        final var scheduler = new CloudletSchedulerCompletelyFair();
+        scheduler.setVm(new VmSimple(0, MIPS, pes));
+        scheduler.setCurrentMipsShare(new MipsShare(pes, MIPS));
+        return scheduler;
+    }
+
+    private static CloudletSimple createCloudlet(final int id, final int priority) {
+        final var cloudlet = CloudletTestUtil.createCloudlet(id, MIPS * 100, 1);
+        cloudlet.setPriority(priority);
+        return cloudlet;
+    }
+
+    /**
+     * Checks the run-queue has the same Cloudlets as the waiting list,
+     * in the order the waiting list was previously sorted.
+     */
+    private static void assertRunQueueInWaitingListOrder(final CloudletSchedulerCompletelyFair scheduler) {
+        final var expected = scheduler.getCloudletWaitingList().stream().sorted(WAITING_LIST_ORDER).toList();
+        final var runQueue = scheduler.getRunQueue();
+        assertEquals(expected.size(), runQueue.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), runQueue.get(i));
+        }
+    }
+
+    private static List<Long> cloudletIds(final List<CloudletExecution> list) {
+        return list.stream().map(CloudletExecution::getCloudletId).toList();
+    }
+
+    private static long runningCloudletId(final CloudletSchedulerCompletelyFair scheduler) {
+        assertEquals(1, scheduler.getCloudletExecList().size());
+        return scheduler.getCloudletExecList().get(0).getCloudletId();
+    }
+
+    @Test
+    void selectWaitingCloudletsInRunQueueOrder() {
+        final var scheduler = createScheduler(1);
+        final int[] priorities = {0, 5, 0, 10, 0};
+        for (int id = priorities.length - 1; id >= 0; id--) {
+            scheduler.cloudletSubmit(createCloudlet(id, priorities[id]));
+            assertRunQueueInWaitingListOrder(scheduler);
+        }
+
+        //The first submitted Cloudlet starts running, since the PE is free
+        assertEquals(4, runningCloudletId(scheduler));
+        assertEquals(List.of(3L, 2L, 1L, 0L), cloudletIds(scheduler.getCloudletWaitingList()));
+        assertEquals(List.of(0L, 1L, 2L, 3L), cloudletIds(scheduler.getRunQueue()));
+
+        //The running Cloudlet is preempted after its time-slice and the first one in the run-queue is selected
+        scheduler.updateProcessing(0, scheduler.getCurrentMipsShare());
+        scheduler.updateProcessing(2, scheduler.getCurrentMipsShare());
+        assertEquals(0, runningCloudletId(scheduler));
+        assertRunQueueInWaitingListOrder(scheduler);
+    }
+
+    @Test
+    void preemptCloudletsAndReinsertThemIntoRunQueue() {
+        final var scheduler = createScheduler(1);
+        for (int id = 0; id < 3; id++) {
+            scheduler.cloudletSubmit(createCloudlet(id, 0));
+        }
+
+        /* Preempted Cloudlets have their initial vruntime restored,
+         * therefore the ones with the lowest ids keep preempting each other. */
+        final long[] expectedRunningIds = {0, 1, 0, 1, 0, 1};
+        for (int i = 0; i < expectedRunningIds.length; i++) {
+            scheduler.updateProcessing(i * 2, scheduler.getCurrentMipsShare());
+            assertEquals(expectedRunningIds[i], runningCloudletId(scheduler), "Running Cloudlet at update " + i);
+            assertEquals(2, scheduler.getCloudletWaitingList().size());
+            assertRunQueueInWaitingListOrder(scheduler);
+        }
+    }
+
+    @Test
+    void keepRunQueueAfterPausingCancelingAndResubmittingCloudlets() {
+        final var scheduler = createScheduler(1);
+        final var cloudlets = List.of(createCloudlet(0, 0), createCloudlet(1, 0), createCloudlet(2, 0), createCloudlet(3, 0));
+        cloudlets.forEach(scheduler::cloudletSubmit);
+        scheduler.updateProcessing(0, scheduler.getCurrentMipsShare());
+        assertEquals(0, runningCloudletId(scheduler));
+
+        assertTrue(scheduler.cloudletPause(cloudlets.get(2)));
+        assertRunQueueInWaitingListOrder(scheduler);
+        assertEquals(2, scheduler.getRunQueue().size());
+
+        scheduler.cloudletCancel(cloudlets.get(1));
+        assertRunQueueInWaitingListOrder(scheduler);
+        assertEquals(List.of(3L), cloudletIds(scheduler.getRunQueue()));
+
+        final var resubmitted = createCloudlet(1, 0);
+        scheduler.cloudletSubmit(resubmitted);
+        assertRunQueueInWaitingListOrder(scheduler);
+        assertEquals(List.of(1L, 3L), cloudletIds(scheduler.getRunQueue()));
+        assertSame(resubmitted, scheduler.getRunQueue().get(0).getCloudlet());
+
+        //The running Cloudlet is preempted and the resubmitted one is selected, since it has the lowest id
+        scheduler.updateProcessing(2, scheduler.getCurrentMipsShare());
+        assertSame(resubmitted, scheduler.getCloudletExecList().get(0).getCloudlet());
+        assertEquals(List.of(0L, 3L), cloudletIds(scheduler.getRunQueue()));
+        assertRunQueueInWaitingListOrder(scheduler);
+
+        scheduler.cloudletResume(cloudlets.get(2));
+        assertRunQueueInWaitingListOrder(scheduler);
+    }
+}
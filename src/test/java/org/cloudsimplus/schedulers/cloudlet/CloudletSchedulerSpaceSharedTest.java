@@ -12,6 +12,8 @@ import org.cloudsimplus.vms.Vm;
 import org.cloudsimplus.vms.VmSimple;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -64,6 +66,56 @@ public class CloudletSchedulerSpaceSharedTest {
         assertTrue(instance.getCloudletFinishedList().contains(cle));
     }
 
+    /**
+     * Creates a scheduler with 4 PEs, having a running Cloudlet using 3 PEs for 10 seconds,
+     * and a waiting list with a Cloudlet requiring 4 PEs, followed by
+     * a long and a short Cloudlet requiring 1 PE each.
+     * @param backfilling the backfilling policy for the scheduler
+     * @return the scheduler
+     */
+    private static CloudletSchedulerSpaceShared createSchedulerWithCloudletsToBackfill(
+        final CloudletSchedulerSpaceShared.Backfilling backfilling)
+    {
+        final var instance = CloudletSchedulerSpaceSharedTestUtil.createScheduler(4).setBackfilling(backfilling);
+        final long mips = CloudletSchedulerSpaceSharedTestUtil.SCHEDULER_MIPS;
+        instance.addCloudletToExecList(new CloudletExecution(CloudletTestUtil.createCloudlet(0, mips * 10, 3)));
+        instance.addCloudletToWaitingList(new CloudletExecution(CloudletTestUtil.createCloudlet(1, mips, 4)));
+        instance.addCloudletToWaitingList(new CloudletExecution(CloudletTestUtil.createCloudlet(2, mips * 20, 1)));
+        instance.addCloudletToWaitingList(new CloudletExecution(CloudletTestUtil.createCloudlet(3, mips, 1)));
+        return instance;
+    }
+
+    @Test
+    public void testFirstFitBackfillingStartsFirstCloudletThatFits() {
+        final var instance = createSchedulerWithCloudletsToBackfill(CloudletSchedulerSpaceShared.Backfilling.FIRST_FIT);
+        instance.moveNextCloudletsFromWaitingToExecList(0);
+        assertEquals(List.of(0L, 2L), instance.getCloudletExecList().stream().map(CloudletExecution::getCloudletId).toList());
+        assertEquals(List.of(1L, 3L), instance.getCloudletWaitingList().stream().map(CloudletExecution::getCloudletId).toList());
+    }
+
+    /**
+     * The long Cloudlet would delay the Cloudlet requiring 4 PEs,
+     * which can start when the running one finishes, therefore just the short one is backfilled.
+     */
+    @Test
+    public void testEasyBackfillingDoesNotDelayFirstWaitingCloudlet() {
+        final var instance = createSchedulerWithCloudletsToBackfill(CloudletSchedulerSpaceShared.Backfilling.EASY);
+        instance.moveNextCloudletsFromWaitingToExecList(0);
+        assertEquals(List.of(0L, 3L), instance.getCloudletExecList().stream().map(CloudletExecution::getCloudletId).toList());
+        assertEquals(List.of(1L, 2L), instance.getCloudletWaitingList().stream().map(CloudletExecution::getCloudletId).toList());
+    }
+
+    @Test
+    public void testCloudletRemovedFromWaitingListIsNotStarted() {
+        final var instance = createSchedulerWithCloudletsToBackfill(CloudletSchedulerSpaceShared.Backfilling.FIRST_FIT);
+        final var longCloudlet = instance.getCloudletWaitingList().get(1);
+        assertTrue(instance.removeCloudletFromWaitingList(longCloudlet));
+
+        instance.moveNextCloudletsFromWaitingToExecList(0);
+        assertEquals(List.of(0L, 3L), instance.getCloudletExecList().stream().map(CloudletExecution::getCloudletId).toList());
+        assertEquals(List.of(1L), instance.getCloudletWaitingList().stream().map(CloudletExecution::getCloudletId).toList());
+    }
+
     @Test
     public void testRemoveCloudletFromExecListWhenNotInExecList() {
         final var cloudlet = new CloudletExecution(CloudletTestUtil.createCloudletWithOnePe(0));
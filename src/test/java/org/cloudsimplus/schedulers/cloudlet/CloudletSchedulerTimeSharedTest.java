@@ -5,8 +5,12 @@ import org.cloudsimplus.cloudlets.Cloudlet;
 import org.cloudsimplus.cloudlets.CloudletExecution;
 import org.cloudsimplus.cloudlets.CloudletSimple;
 import org.cloudsimplus.cloudlets.CloudletTestUtil;
+import org.cloudsimplus.listeners.CloudletVmEventInfo;
 import org.cloudsimplus.mocks.CloudSimMocker;
+import org.cloudsimplus.utilizationmodels.UtilizationModel;
+import org.cloudsimplus.utilizationmodels.UtilizationModelDynamic;
 import org.cloudsimplus.utilizationmodels.UtilizationModelFull;
+import org.cloudsimplus.utilizationmodels.UtilizationModelStochastic;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -283,6 +287,192 @@ public class CloudletSchedulerTimeSharedTest {
         assertEquals(0, instance.getCloudletExecList().size());
     }
 
+    /**
+     * Runs 2 cloudlets sharing 1 PE, where the first one finishes in 2 seconds.
+     * Since no Cloudlet is expected to finish before that,
+     * the update at time 1 is skipped when the event-driven update is enabled
+     * and the update at time 2 processes the whole elapsed time.
+     */
+    @Test
+    public void testEventDrivenUpdateSkipsUpdatesUntilNextCloudletFinishes() {
+        final long mips = 1000;
+        final var instance = createCloudletSchedulerWithMipsList(1, mips);
+        instance.enableEventDrivenUpdate();
+        final var broker = createBroker();
+        final var cloudlet0 = CloudletTestUtil.createCloudlet(0, mips, 1);
+        final var cloudlet1 = CloudletTestUtil.createCloudlet(1, mips * 2, 1);
+        for (final var cloudlet : List.of(cloudlet0, cloudlet1)) {
+            cloudlet.setUtilizationModelRam(UtilizationModel.NULL).setUtilizationModelBw(UtilizationModel.NULL);
+            cloudlet.setBroker(broker);
+            cloudlet.registerArrivalInDatacenter();
+            instance.cloudletSubmit(cloudlet);
+        }
+
+        assertEquals(2, instance.updateProcessing(0, instance.getCurrentMipsShare()));
+        assertEquals(1, instance.updateProcessing(1, instance.getCurrentMipsShare()));
+        assertEquals(0, cloudlet0.getFinishedLengthSoFar());
+
+        instance.updateProcessing(2, instance.getCurrentMipsShare());
+        assertTrue(cloudlet0.isFinished());
+        assertEquals(mips, cloudlet1.getFinishedLengthSoFar());
+        assertEquals(1, instance.getCloudletExecList().size());
+    }
+
+    /**
+     * Runs a cloudlet whose RAM and BW utilization is given by {@link UtilizationModelDynamic}.
+     * Updates are just skipped while such models have no update function,
+     * since the utilization doesn't change in that case.
+     */
+    @Test
+    public void testEventDrivenUpdateSkipsUpdatesJustForConstantUtilizationModelDynamic() {
+        assertEquals(0, finishedLengthAfterSkippableUpdate(new UtilizationModelDynamic(0.1)));
+
+        final var increasing = new UtilizationModelDynamic(0.1).setUtilizationUpdateFunction(um -> um.getUtilization() + 0.01);
+        assertEquals(1000, finishedLengthAfterSkippableUpdate(increasing));
+    }
+
+    /**
+     * Runs a cloudlet that finishes in 2 seconds, with the event-driven update enabled,
+     * using a given utilization model for RAM and BW.
+     * @return the cloudlet length processed at time 1
+     */
+    private long finishedLengthAfterSkippableUpdate(final UtilizationModelDynamic ramBwModel) {
+        final long mips = 1000;
+        final var instance = createCloudletSchedulerWithMipsList(1, mips);
+        instance.enableEventDrivenUpdate();
+        final var cloudlet = CloudletTestUtil.createCloudlet(0, mips * 2, 1);
+        cloudlet.setUtilizationModelRam(ramBwModel).setUtilizationModelBw(ramBwModel);
+        cloudlet.setBroker(createBroker());
+        cloudlet.registerArrivalInDatacenter();
+        instance.cloudletSubmit(cloudlet);
+
+        instance.updateProcessing(0, instance.getCurrentMipsShare());
+        instance.updateProcessing(1, instance.getCurrentMipsShare());
+        return cloudlet.getFinishedLengthSoFar();
+    }
+
+    /**
+     * Runs 2 cloudlets requesting the whole VM BW each.
+     * Since the BW is over-subscribed, when the batched VM resource allocation is enabled,
+     * half of the BW is allocated to each Cloudlet and both have their processing equally delayed.
+     */
+    @Test
+    public void testBatchedVmResourceAllocationDistributesOverSubscribedBwProportionally() {
+        final long mips = 1000;
+        final var instance = createCloudletSchedulerWithMipsList(2, mips);
+        instance.enableBatchedVmResourceAllocation();
+        final var cloudlet0 = CloudletTestUtil.createCloudlet(0, mips * 10, 1);
+        final var cloudlet1 = CloudletTestUtil.createCloudlet(1, mips * 10, 1);
+        for (final var cloudlet : List.of(cloudlet0, cloudlet1)) {
+            cloudlet.setUtilizationModelRam(UtilizationModel.NULL);
+            cloudlet.registerArrivalInDatacenter();
+            instance.cloudletSubmit(cloudlet);
+        }
+
+        instance.updateProcessing(0, instance.getCurrentMipsShare());
+        instance.updateProcessing(2, instance.getCurrentMipsShare());
+        final var bw = instance.getVm().getBw();
+        assertEquals(bw.getCapacity(), bw.getAllocatedResource());
+        assertEquals(cloudlet0.getFinishedLengthSoFar(), cloudlet1.getFinishedLengthSoFar());
+        assertTrue(cloudlet0.getFinishedLengthSoFar() < mips * 2);
+    }
+
+    /**
+     * Checks the parallel update of Cloudlets processing gives
+     * the same results as the sequential update.
+     */
+    @Test
+    public void testParallelUpdateProcessesCloudletsAsSequentialUpdate() {
+        final long mips = 1000;
+        final int cloudletsNumber = 8;
+        final var sequential = createCloudletSchedulerWithMipsList(4, mips);
+        final var parallel = createCloudletSchedulerWithMipsList(4, mips);
+        sequential.enableBatchedVmResourceAllocation();
+        parallel.enableBatchedVmResourceAllocation().enableParallelUpdate(cloudletsNumber);
+        assertTrue(parallel.isParallelUpdateEnabled());
+
+        final var sequentialCloudlets = submitCloudlets(sequential, cloudletsNumber, mips);
+        final var parallelCloudlets = submitCloudlets(parallel, cloudletsNumber, mips);
+
+        assertEquals(
+            sequential.updateProcessing(0, sequential.getCurrentMipsShare()),
+            parallel.updateProcessing(0, parallel.getCurrentMipsShare()));
+        assertEquals(
+            sequential.updateProcessing(2, sequential.getCurrentMipsShare()),
+            parallel.updateProcessing(2, parallel.getCurrentMipsShare()));
+        for (int i = 0; i < cloudletsNumber; i++) {
+            assertEquals(sequentialCloudlets.get(i).getFinishedLengthSoFar(), parallelCloudlets.get(i).getFinishedLengthSoFar());
+        }
+    }
+
+    private static List<Cloudlet> submitCloudlets(final CloudletScheduler scheduler, final int cloudletsNumber, final long mips) {
+        final var cloudletList = new ArrayList<Cloudlet>(cloudletsNumber);
+        for (int i = 0; i < cloudletsNumber; i++) {
+            final var cloudlet = CloudletTestUtil.createCloudlet(i, mips * (i + 1), 1);
+            cloudlet.setUtilizationModelRam(UtilizationModel.NULL);
+            cloudlet.setUtilizationModelBw(UtilizationModel.NULL);
+            cloudlet.registerArrivalInDatacenter();
+            scheduler.cloudletSubmit(cloudlet);
+            cloudletList.add(cloudlet);
+        }
+
+        return cloudletList;
+    }
+
+    /**
+     * Runs a cloudlet having an update processing listener.
+     * Since such a listener must be notified at every update,
+     * the event-driven update doesn't skip any update.
+     */
+    @Test
+    public void testEventDrivenUpdateDoesNotSkipUpdatesForCloudletsWithListeners() {
+        final long mips = 1000;
+        final var instance = createCloudletSchedulerWithMipsList(1, mips);
+        instance.enableEventDrivenUpdate();
+        final var cloudlet = CloudletTestUtil.createCloudlet(0, mips * 2, 1);
+        cloudlet.setUtilizationModelRam(UtilizationModel.NULL).setUtilizationModelBw(UtilizationModel.NULL);
+        cloudlet.setBroker(createBroker());
+        cloudlet.registerArrivalInDatacenter();
+        final var updates = new ArrayList<CloudletVmEventInfo>();
+        cloudlet.addOnUpdateProcessingListener(updates::add);
+        instance.cloudletSubmit(cloudlet);
+
+        instance.updateProcessing(0, instance.getCurrentMipsShare());
+        instance.updateProcessing(1, instance.getCurrentMipsShare());
+        assertEquals(mips, cloudlet.getFinishedLengthSoFar());
+        assertEquals(2, updates.size());
+    }
+
+    /**
+     * Checks stateful Cloudlets are tracked as they are submitted,
+     * have listeners or utilization models set and are canceled.
+     */
+    @Test
+    public void testHasStatefulCloudlets() {
+        final long mips = 1000;
+        final var instance = createCloudletSchedulerWithMipsList(2, mips);
+        instance.getVm().setCloudletScheduler(instance);
+        final var cloudlet0 = CloudletTestUtil.createCloudlet(0, mips, 1);
+        final var cloudlet1 = CloudletTestUtil.createCloudlet(1, mips, 1);
+        for (final var cloudlet : List.of(cloudlet0, cloudlet1)) {
+            cloudlet.setUtilizationModelRam(new UtilizationModelDynamic(0.1)).setUtilizationModelBw(UtilizationModel.NULL);
+            cloudlet.setVm(instance.getVm());
+            cloudlet.registerArrivalInDatacenter();
+            instance.cloudletSubmit(cloudlet);
+        }
+        assertFalse(instance.hasStatefulCloudlets());
+
+        cloudlet0.addOnFinishListener(info -> {});
+        assertTrue(instance.hasStatefulCloudlets());
+        instance.cloudletCancel(cloudlet0);
+        assertFalse(instance.hasStatefulCloudlets());
+
+        cloudlet1.setUtilizationModelCpu(new UtilizationModelStochastic());
+        assertTrue(instance.hasStatefulCloudlets());
+        cloudlet1.setUtilizationModelCpu(new UtilizationModelFull());
+        assertFalse(instance.hasStatefulCloudlets());
+    }
+
     private static DatacenterBrokerSimple createBroker() {
         final var simulation = CloudSimMocker.createMock(cloudsim -> cloudsim.clock(List.of(2)));
         final var broker = new DatacenterBrokerSimple(simulation);
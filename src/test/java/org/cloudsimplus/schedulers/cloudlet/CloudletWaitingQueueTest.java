@@ -0,0 +1,43 @@
+package org.cloudsimplus.schedulers.cloudlet;
+
+import org.cloudsimplus.cloudlets.CloudletExecution;
+import org.cloudsimplus.cloudlets.CloudletSimple;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CloudletWaitingQueueTest {
+    private static CloudletExecution newCloudletExecution(final long id, final long pes) {
+        return new CloudletExecution(new CloudletSimple(id, 1000, pes));
+    }
+
+    @Test
+    void findFirstAddedCloudletThatFitsPes() {
+        final var queue = new CloudletWaitingQueue();
+        final var cle0 = newCloudletExecution(0, 4);
+        final var cle1 = newCloudletExecution(1, 2);
+        final var cle2 = newCloudletExecution(2, 1);
+        final var cle3 = newCloudletExecution(3, 2);
+        queue.add(cle0);
+        queue.add(cle1);
+        queue.add(cle2);
+        queue.add(cle3);
+
+        assertEquals(Optional.of(cle0), queue.findFirst(Long.MAX_VALUE, cle -> true));
+        assertEquals(Optional.of(cle1), queue.findFirst(3, cle -> true));
+        assertEquals(Optional.of(cle2), queue.findFirst(1, cle -> true));
+        assertEquals(Optional.of(cle3), queue.findFirst(3, cle -> cle.getCloudletId() > 2));
+        assertTrue(queue.findFirst(0, cle -> true).isEmpty());
+
+        assertTrue(queue.remove(cle1));
+        assertFalse(queue.remove(cle1));
+        assertEquals(3, queue.size());
+        assertEquals(Optional.of(cle2), queue.findFirst(3, cle -> true));
+
+        queue.clear();
+        assertEquals(0, queue.size());
+        assertTrue(queue.findFirst(Long.MAX_VALUE, cle -> true).isEmpty());
+    }
+}
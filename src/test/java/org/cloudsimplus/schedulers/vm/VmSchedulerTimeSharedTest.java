@@ -143,6 +143,65 @@ public class VmSchedulerTimeSharedTest {
         assertTrue(vmScheduler.getHost().getVmsMigratingOut().isEmpty());
     }
 
+    @Test
+    public void testGetAllocatedMipsReusesReducedShareWhenVmMigrationOut() {
+        vmScheduler.getHost().getVmList().add(vm0);
+        vmScheduler.allocatePesForVm(vm0, new MipsShare(VM_PES_NUMBER, MIPS / 4));
+        vmScheduler.getHost().addVmMigratingOut(vm0);
+
+        final MipsShare reducedShare = vmScheduler.getAllocatedMips(vm0);
+        assertNotSame(vm0.getAllocatedMips(), reducedShare);
+        assertSame(reducedShare, vmScheduler.getAllocatedMips(vm0));
+        assertEquals(VM_PES_NUMBER, reducedShare.pes());
+        assertEquals(MIPS / 4 * 0.9, reducedShare.mips());
+
+        //A share given before is never changed, so a new one is built when it doesn't have the current values
+        reducedShare.remove(1);
+        final MipsShare newReducedShare = vmScheduler.getAllocatedMips(vm0);
+        assertNotSame(reducedShare, newReducedShare);
+        assertEquals(VM_PES_NUMBER - 1, reducedShare.pes());
+        assertEquals(VM_PES_NUMBER, newReducedShare.pes());
+    }
+
+    /**
+     * When there is no migrating VM, the MIPS allocated to VMs are just summed.
+     * Otherwise, the MIPS actually used by a VM migrating out includes the migration overhead.
+     */
+    @Test
+    public void testGetTotalAvailableMipsWithAndWithoutMigratingVms() {
+        vmScheduler.getHost().getVmList().add(vm0);
+        vmScheduler.allocatePesForVm(vm0, new MipsShare(VM_PES_NUMBER, MIPS / 4));
+        assertFalse(vmScheduler.getHost().hasMigratingVms());
+        assertEquals(1500, vmScheduler.getTotalAvailableMips());
+
+        vmScheduler.getHost().addVmMigratingOut(vm0);
+        assertTrue(vmScheduler.getHost().hasMigratingVms());
+        assertEquals(2000 - 500 / 0.9, vmScheduler.getTotalAvailableMips(), 0.000001);
+    }
+
+    /**
+     * Allocating PEs for a VM just sets the status of free Host PEs to busy,
+     * while deallocating them just sets the status of busy ones to free.
+     */
+    @Test
+    public void testAllocateAndDeallocatePesUpdateHostPesStatus() {
+        vmScheduler = createVmScheduler(MIPS, 4);
+        final Host host = vmScheduler.getHost();
+        final List<Pe> peList = host.getPeList();
+        peList.get(0).setStatus(Pe.Status.FAILED);
+        host.getVmList().add(vm0);
+        host.getVmList().add(vm1);
+
+        vmScheduler.allocatePesForVm(vm0, new MipsShare(VM_PES_NUMBER, MIPS / 4));
+        assertEquals(List.of(Pe.Status.FAILED, Pe.Status.BUSY, Pe.Status.BUSY, Pe.Status.FREE), peList.stream().map(Pe::getStatus).toList());
+
+        vmScheduler.deallocatePesFromVm(vm0, 1);
+        assertEquals(List.of(Pe.Status.FAILED, Pe.Status.FREE, Pe.Status.BUSY, Pe.Status.FREE), peList.stream().map(Pe::getStatus).toList());
+
+        vmScheduler.allocatePesForVm(vm1, new MipsShare(VM_PES_NUMBER, MIPS / 2));
+        assertEquals(List.of(Pe.Status.FAILED, Pe.Status.BUSY, Pe.Status.BUSY, Pe.Status.BUSY), peList.stream().map(Pe::getStatus).toList());
+    }
+
     @Test
     public void testDeallocatePartialPesFromVm() {
         final int HOST_PES = 8;
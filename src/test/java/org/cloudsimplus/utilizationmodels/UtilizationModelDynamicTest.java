@@ -1,5 +1,6 @@
 package org.cloudsimplus.utilizationmodels;
 
+import org.cloudsimplus.mocks.CloudSimMocker;
 import org.cloudsimplus.util.Conversion;
 import org.junit.jupiter.api.Test;
 
@@ -11,6 +12,34 @@ import static org.junit.jupiter.api.Assertions.*;
  */
 public class UtilizationModelDynamicTest {
 
+    @Test
+    public void testGetNextUtilizationChangeTimeWhenConstantUtilization() {
+        final var instance = new UtilizationModelDynamic(0.5);
+        assertEquals(Double.MAX_VALUE, instance.getNextUtilizationChangeTime(10));
+        assertEquals(Double.MAX_VALUE, new UtilizationModelDynamic(instance, 0.2).getNextUtilizationChangeTime(10));
+    }
+
+    @Test
+    public void testGetNextUtilizationChangeTimeWhenUpdateFunctionIsSet() {
+        final var instance = new UtilizationModelDynamic(0.5);
+        instance.setUtilizationUpdateFunction(um -> um.getUtilization() + um.getTimeSpan() * 0.1);
+        assertEquals(10, instance.getNextUtilizationChangeTime(10));
+        assertEquals(10, new UtilizationModelDynamic(instance, 0.2).getNextUtilizationChangeTime(10));
+    }
+
+    @Test
+    public void testGetTimeSpanWhenUpdateFunctionIsSetAfterConstantUtilization() {
+        final double initialUtilization = 0.5;
+        final var instance = new UtilizationModelDynamic(initialUtilization);
+        instance.setSimulation(CloudSimMocker.createMock(mocker -> mocker.clock(5)));
+        assertEquals(initialUtilization, instance.getUtilization(2));
+        assertEquals(initialUtilization, instance.getUtilization(5));
+
+        // The time span must be computed from the time the function was set, not from time 0
+        instance.setUtilizationUpdateFunction(um -> um.getUtilization() + um.getTimeSpan() * 0.1);
+        assertEquals(initialUtilization + 0.1, instance.getUtilization(6), 0.000001);
+    }
+
     @Test
     public void testGetUtilizationWhenDefaultConstructor() {
         final double usagePercentInc = 0.1;